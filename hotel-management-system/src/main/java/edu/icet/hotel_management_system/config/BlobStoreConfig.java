@@ -0,0 +1,68 @@
+package edu.icet.hotel_management_system.config;
+
+import edu.icet.hotel_management_system.service.BlobStore;
+import edu.icet.hotel_management_system.service.impl.LocalBlobStore;
+import edu.icet.hotel_management_system.service.impl.S3BlobStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+/**
+ * Selects where uploaded files live (blob-store.type): the local upload directory, or an
+ * S3-compatible bucket shared by every node.
+ */
+@Configuration
+public class BlobStoreConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlobStoreConfig.class);
+
+    @Bean
+    @ConditionalOnProperty(name = "blob-store.type", havingValue = "local", matchIfMissing = true)
+    public BlobStore localBlobStore(@Value("${file.upload-dir}") String uploadDir) {
+        logger.info("Blob store: local directory {}", Paths.get(uploadDir).toAbsolutePath());
+        return new LocalBlobStore(Paths.get(uploadDir));
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "blob-store.type", havingValue = "s3")
+    public S3Client blobStoreS3Client(@Value("${blob-store.s3.region:us-east-1}") String region,
+                                      @Value("${blob-store.s3.endpoint:}") String endpoint,
+                                      @Value("${blob-store.s3.path-style-access:false}") boolean pathStyleAccess,
+                                      @Value("${blob-store.s3.access-key:}") String accessKey,
+                                      @Value("${blob-store.s3.secret-key:}") String secretKey) {
+        S3ClientBuilder builder = S3Client.builder()
+                .httpClientBuilder(UrlConnectionHttpClient.builder())
+                .region(Region.of(region))
+                .forcePathStyle(pathStyleAccess)
+                // Without explicit keys: environment, profile or instance role
+                .credentialsProvider(accessKey.isBlank()
+                        ? DefaultCredentialsProvider.create()
+                        : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "blob-store.type", havingValue = "s3")
+    public BlobStore s3BlobStore(S3Client blobStoreS3Client,
+                                 @Value("${blob-store.s3.bucket}") String bucket,
+                                 @Value("${blob-store.s3.key-prefix:}") String keyPrefix) {
+        logger.info("Blob store: S3 bucket {}", bucket);
+        return new S3BlobStore(blobStoreS3Client, bucket, keyPrefix);
+    }
+}
@@ -0,0 +1,98 @@
+package edu.icet.hotel_management_system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import edu.icet.hotel_management_system.util.Bulkhead;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Selects platform or virtual threads for request handling and @Async work
+ * (concurrency.mode), and bounds what those threads can pile onto: database
+ * connections, Stripe and SMTP.
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyConfig.class);
+
+    // Platform mode: the spring.task.execution pool, exactly as before
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnProperty(name = "concurrency.mode", havingValue = "platform", matchIfMissing = true)
+    public AsyncTaskExecutor platformTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "concurrency.mode", havingValue = "virtual")
+    public ExecutorService virtualThreadExecutor() {
+        try {
+            // Looked up reflectively so the project still compiles for Java 17
+            ExecutorService executor = (ExecutorService) java.util.concurrent.Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            logger.info("Concurrency mode: virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("concurrency.mode=virtual requires a Java 21+ runtime", e);
+        }
+    }
+
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @ConditionalOnProperty(name = "concurrency.mode", havingValue = "virtual")
+    public AsyncTaskExecutor virtualTaskExecutor(ExecutorService virtualThreadExecutor) {
+        return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "concurrency.mode", havingValue = "virtual")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    @Bean
+    public Bulkhead stripeBulkhead(@Value("${concurrency.stripe.max-concurrent-calls:20}") int maxCalls,
+                                   @Value("${concurrency.stripe.max-wait:PT5S}") Duration maxWait) {
+        return new Bulkhead("Payment provider", maxCalls, maxWait);
+    }
+
+    @Bean
+    public Bulkhead mailBulkhead(@Value("${concurrency.mail.max-concurrent-calls:4}") int maxCalls,
+                                 @Value("${concurrency.mail.max-wait:PT60S}") Duration maxWait) {
+        return new Bulkhead("Mail server", maxCalls, maxWait);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "concurrency.jdbc.limit-enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor connectionLimitingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                // Only the pools themselves; routing proxies in front of them are left alone
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int maxConnections = hikari.getMaximumPoolSize();
+                int maxWaiting = environment.getProperty("concurrency.jdbc.max-waiting", Integer.class, 500);
+                Duration maxWait = environment.getProperty("concurrency.jdbc.max-wait", Duration.class,
+                        Duration.ofSeconds(10));
+                logger.info("Limiting data source {} to {} concurrent connections, {} waiting",
+                        beanName, maxConnections, maxWaiting);
+                return new ConnectionLimitingDataSource(hikari, maxConnections, maxWaiting, maxWait);
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package edu.icet.hotel_management_system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Two independently sized Hikari pools: the primary (spring.datasource) for writes and
+ * a read pool (app.datasource.read) that may point at a replica. Read-only transactions
+ * are routed to the read pool.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public PoolMetricsTrackerFactory poolMetricsTrackerFactory() {
+        return new PoolMetricsTrackerFactory();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public DataSource writeDataSource(DataSourceProperties properties,
+                                      PoolMetricsTrackerFactory metricsTrackerFactory) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.read.hikari")
+    public DataSource readDataSource(DataSourceProperties properties,
+                                     PoolMetricsTrackerFactory metricsTrackerFactory,
+                                     @Value("${app.datasource.read.url:}") String url,
+                                     @Value("${app.datasource.read.username:}") String username,
+                                     @Value("${app.datasource.read.password:}") String password) {
+        // Without a replica configured the read pool connects to the primary
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (StringUtils.hasText(url)) {
+            dataSource.setJdbcUrl(url);
+        }
+        if (StringUtils.hasText(username)) {
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+        }
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.WRITE, writeDataSource,
+                ReadWriteRoutingDataSource.READ, readDataSource));
+        routing.setDefaultTargetDataSource(writeDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,77 @@
+package edu.icet.hotel_management_system.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.Data;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache regions, held in Caffeine through JCache. Each region is
+ * created up front with the size and time-to-live from second-level-cache.regions so
+ * Hibernate never falls back to an unbounded default cache.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(HibernateCacheConfig.class);
+
+    // Must match the regions named in the entities' @Cache annotations
+    public static final List<String> REGIONS = List.of("rooms", "room-images", "rooms.amenities", "rooms.images");
+
+    @Bean
+    @ConfigurationProperties("second-level-cache")
+    public RegionSettings secondLevelCacheSettings() {
+        return new RegionSettings();
+    }
+
+    @Bean
+    public CacheManager hibernateCacheManager(RegionSettings secondLevelCacheSettings) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+                CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        for (String region : REGIONS) {
+            Region settings = secondLevelCacheSettings.getRegions().getOrDefault(region, new Region());
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(settings.getMaximumSize()));
+            configuration.setExpireAfterWrite(OptionalLong.of(settings.getTimeToLive().toNanos()));
+            configuration.setStatisticsEnabled(true);
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, configuration);
+            }
+            logger.info("Second-level cache region {}: max {} entries, ttl {}", region,
+                    settings.getMaximumSize(), settings.getTimeToLive());
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    @Data
+    public static class RegionSettings {
+        private Map<String, Region> regions = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class Region {
+        private long maximumSize = 1000;
+        private Duration timeToLive = Duration.ofHours(1);
+    }
+}
@@ -1,5 +1,6 @@
 package edu.icet.hotel_management_system.config;
 
+import org.modelmapper.Converter;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.context.annotation.Bean;
@@ -7,8 +8,12 @@ import org.springframework.context.annotation.Configuration;
 import edu.icet.hotel_management_system.model.entity.Room;
 import edu.icet.hotel_management_system.model.entity.RoomImage;
 import edu.icet.hotel_management_system.model.dto.RoomDto;
+import edu.icet.hotel_management_system.model.dto.RoomImageDto;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,8 +37,35 @@ public class ModelMapperConfig {
                     return images.stream()
                             .map(RoomImage::getImageUrl)
                             .collect(Collectors.toSet());
-                }, RoomDto::setImageUrls);
+                }, RoomDto::setImageUrls)
+                .addMappings(mapper -> mapper.using(ModelMapperConfig.toImageVariants())
+                        .map(Room::getImages, RoomDto::setImageVariants));
 
         return modelMapper;
     }
+
+    private static Converter<Set<RoomImage>, List<RoomImageDto>> toImageVariants() {
+        return context -> {
+            Set<RoomImage> images = context.getSource();
+            if (images == null) {
+                return new ArrayList<>();
+            }
+            return images.stream()
+                    .sorted(Comparator.comparing(RoomImage::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .map(ModelMapperConfig::toImageDto)
+                    .collect(Collectors.toList());
+        };
+    }
+
+    // Variants that are missing (pending, failed or legacy upload) fall back to the original
+    private static RoomImageDto toImageDto(RoomImage image) {
+        RoomImageDto dto = new RoomImageDto();
+        dto.setId(image.getId());
+        dto.setStatus(image.getStatus() != null ? image.getStatus().name() : null);
+        dto.setOriginalUrl(image.getImageUrl());
+        dto.setThumbnailUrl(image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getImageUrl());
+        dto.setCardUrl(image.getCardUrl() != null ? image.getCardUrl() : image.getImageUrl());
+        dto.setFullUrl(image.getFullUrl() != null ? image.getFullUrl() : image.getImageUrl());
+        return dto;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package edu.icet.hotel_management_system.config;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records connection wait (acquire) and usage times per Hikari pool without pulling in a metrics library.
+ * Wait times go into power-of-two microsecond buckets so percentiles can be estimated cheaply.
+ */
+public class PoolMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return trackers.computeIfAbsent(poolName, name -> new Tracker());
+    }
+
+    public Tracker getTracker(String poolName) {
+        return trackers.get(poolName);
+    }
+
+    public static class Tracker implements IMetricsTracker {
+        private static final int BUCKETS = 40;
+
+        private final AtomicLong acquisitions = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong usages = new AtomicLong();
+        private final AtomicLong totalUsageMillis = new AtomicLong();
+        private final AtomicLong timeouts = new AtomicLong();
+        private final AtomicLongArray waitBuckets = new AtomicLongArray(BUCKETS);
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            acquisitions.incrementAndGet();
+            totalWaitNanos.addAndGet(elapsedAcquiredNanos);
+            maxWaitNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+            long micros = Math.max(1, elapsedAcquiredNanos / 1_000);
+            waitBuckets.incrementAndGet(Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros)));
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            usages.incrementAndGet();
+            totalUsageMillis.addAndGet(elapsedBorrowedMillis);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.incrementAndGet();
+        }
+
+        public long getAcquisitions() {
+            return acquisitions.get();
+        }
+
+        public long getTimeouts() {
+            return timeouts.get();
+        }
+
+        public double getAverageWaitMillis() {
+            long count = acquisitions.get();
+            return count == 0 ? 0 : totalWaitNanos.get() / (count * 1_000_000.0);
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos.get() / 1_000_000.0;
+        }
+
+        public double getAverageUsageMillis() {
+            long count = usages.get();
+            return count == 0 ? 0 : (double) totalUsageMillis.get() / count;
+        }
+
+        /** Upper bound of the bucket holding the given percentile (0-100), in milliseconds. */
+        public double getWaitPercentileMillis(double percentile) {
+            long count = 0;
+            long[] snapshot = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                snapshot[i] = waitBuckets.get(i);
+                count += snapshot[i];
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long threshold = (long) Math.ceil(count * percentile / 100.0);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= threshold) {
+                    return (1L << (i + 1)) / 1_000.0;
+                }
+            }
+            return getMaxWaitMillis();
+        }
+    }
+}
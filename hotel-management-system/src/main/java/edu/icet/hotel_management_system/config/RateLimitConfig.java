@@ -0,0 +1,64 @@
+package edu.icet.hotel_management_system.config;
+
+import edu.icet.hotel_management_system.security.RateLimitFilter;
+import lombok.Data;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request rate limits from rate-limit.policies. A request is held to the first policy, in
+ * configuration order, whose paths and methods match it; requests no policy matches are not
+ * limited.
+ */
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConfigurationProperties("rate-limit")
+    public RateLimitSettings rateLimitSettings() {
+        return new RateLimitSettings();
+    }
+
+    // Runs in the security filter chain only, after CORS so browsers can read the 429
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Data
+    public static class RateLimitSettings {
+        private boolean enabled = true;
+        // Client buckets kept in memory; the least recently used go first past this
+        private long maxKeys = 100_000;
+        // Idle buckets are dropped after this, so it should be longer than any policy takes to refill
+        private Duration keyTtl = Duration.ofMinutes(10);
+        private boolean clusterEnabled = false;
+        private Map<String, Policy> policies = new LinkedHashMap<>();
+    }
+
+    @Data
+    public static class Policy {
+        // Path patterns as in request mappings, e.g. /api/rooms/**
+        private List<String> paths = new ArrayList<>();
+        // Empty for every method
+        private List<String> methods = new ArrayList<>();
+        // Per client; 0 leaves matching requests unlimited
+        private int requests;
+        private Duration per = Duration.ofMinutes(1);
+        // Requests a client may make back to back; defaults to requests
+        private int burst;
+        // Across all clients and nodes per cluster window, when cluster limits are enabled; 0 for none
+        private long clusterRequests;
+        private Duration clusterWindow = Duration.ofMinutes(1);
+    }
+}
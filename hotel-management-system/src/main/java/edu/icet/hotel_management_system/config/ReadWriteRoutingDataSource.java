@@ -0,0 +1,20 @@
+package edu.icet.hotel_management_system.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the read pool and everything else to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known
+ * by the time a connection is actually fetched.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String WRITE = "write";
+    public static final String READ = "read";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READ : WRITE;
+    }
+}
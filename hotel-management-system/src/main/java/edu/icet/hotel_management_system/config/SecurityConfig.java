@@ -1,8 +1,11 @@
 package edu.icet.hotel_management_system.config;
 
 import com.stripe.Stripe;
+import edu.icet.hotel_management_system.security.JwtAccessDeniedHandler;
 import edu.icet.hotel_management_system.security.JwtAuthEntryPoint;
 import edu.icet.hotel_management_system.security.JwtAuthFilter;
+import edu.icet.hotel_management_system.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -34,6 +37,12 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthEntryPoint jwtAuthEntryPoint;
 
+    @Autowired
+    private JwtAccessDeniedHandler jwtAccessDeniedHandler;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Autowired
     private JwtAuthFilter jwtAuthFilter;
 
@@ -44,11 +53,15 @@ public class SecurityConfig {
     private static final String[] PUBLIC_ENDPOINTS = {
             "/api/auth/**",
             "/api/rooms/search",
+            "/api/rooms/facets",
             "/api/rooms",
             "/api/rooms/{id}",
             "/api/rooms/*/images",
+            "/api/rooms/*/quote",
             "/api/rooms/available",
             "/api/bookings/availability",
+            "/api/bookings/itineraries",
+            "/api/bookings/quotes",
             "/swagger-ui/**",
             "/swagger-ui.html",
             "/api-docs/**",
@@ -79,7 +92,8 @@ public class SecurityConfig {
 
                 // Exception handling
                 .exceptionHandling(exception ->
-                        exception.authenticationEntryPoint(jwtAuthEntryPoint))
+                        exception.authenticationEntryPoint(jwtAuthEntryPoint)
+                                .accessDeniedHandler(jwtAccessDeniedHandler))
 
                 // Session management
                 .sessionManagement(session ->
@@ -97,9 +111,15 @@ public class SecurityConfig {
 
                 // Authorization rules
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches of already-authorized streams (SSE)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
 
+                        // Guest lookup for front desk staff
+                        .requestMatchers("GET", "/api/users/search").hasAnyRole("ADMIN", "MANAGER", "CASHIER")
+
                         // Admin-only endpoints
                         .requestMatchers(ADMIN_ENDPOINTS).hasRole("ADMIN")
 
@@ -114,6 +134,7 @@ public class SecurityConfig {
                         .requestMatchers("GET", "/api/bookings").hasRole("ADMIN")
                         .requestMatchers("PUT", "/api/bookings/*/confirm").hasRole("ADMIN")
                         .requestMatchers("PUT", "/api/bookings/*/complete").hasRole("ADMIN")
+                        .requestMatchers("POST", "/api/bookings/status/bulk").hasAnyRole("ADMIN", "MANAGER")
                         .requestMatchers("DELETE", "/api/bookings/**").hasRole("ADMIN")
 
                         // Payment management
@@ -124,6 +145,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/payments/*/status").hasRole("ADMIN")
                         .requestMatchers("/api/payments").hasRole("ADMIN")
 
+                        // Analytics
+                        .requestMatchers("/api/analytics/**").hasAnyRole("ADMIN", "MANAGER")
+
                         // User management
                         .requestMatchers("POST", "/api/users").hasRole("ADMIN")
                         .requestMatchers("DELETE", "/api/users/**").hasRole("ADMIN")
@@ -149,6 +173,7 @@ public class SecurityConfig {
 
         // Add JWT filter
         http.addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(rateLimitFilter, JwtAuthFilter.class);
 
         return http.build();
     }
@@ -176,7 +201,7 @@ public class SecurityConfig {
 
         // Exposed headers
         configuration.setExposedHeaders(Arrays.asList(
-                "Authorization", "Content-Type", "X-Total-Count", "X-Page-Number"
+                "Authorization", "Content-Type", "X-Total-Count", "X-Page-Number", "ETag", "Retry-After"
         ));
 
         // Max age for preflight requests
@@ -0,0 +1,88 @@
+package edu.icet.hotel_management_system.controller;
+
+import edu.icet.hotel_management_system.model.dto.PerformanceMetricsDto;
+import edu.icet.hotel_management_system.model.dto.PerformanceReportDto;
+import edu.icet.hotel_management_system.model.dto.PickupDto;
+import edu.icet.hotel_management_system.model.dto.SnapshotQueryDto;
+import edu.icet.hotel_management_system.model.dto.SnapshotQueryResultDto;
+import edu.icet.hotel_management_system.service.AnalyticsService;
+import edu.icet.hotel_management_system.service.BookingSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private BookingSnapshotService bookingSnapshotService;
+
+    @Operation(summary = "Daily occupancy, ADR and RevPAR for a date range")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ANALYTICS)")
+    @GetMapping("/performance")
+    public ResponseEntity<PerformanceReportDto> getPerformance(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String roomType) {
+        return ResponseEntity.ok(analyticsService.getPerformance(from, to, roomType));
+    }
+
+    @Operation(summary = "Occupancy, ADR and RevPAR per room type for a date range")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ANALYTICS)")
+    @GetMapping("/performance/room-types")
+    public ResponseEntity<List<PerformanceMetricsDto>> getPerformanceByRoomType(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.getPerformanceByRoomType(from, to));
+    }
+
+    @Operation(summary = "Room nights picked up per booking date for a stay window")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ANALYTICS)")
+    @GetMapping("/pickup")
+    public ResponseEntity<List<PickupDto>> getPickup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate stayFrom,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate stayTo,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bookedFrom,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bookedTo,
+            @RequestParam(required = false) String roomType) {
+        return ResponseEntity.ok(analyticsService.getPickup(stayFrom, stayTo, bookedFrom, bookedTo, roomType));
+    }
+
+    @Operation(summary = "Rebuild room night facts from all bookings")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).GENERATE_REPORTS)")
+    @PostMapping("/facts/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildFacts() {
+        int written = analyticsService.rebuildFacts();
+        return ResponseEntity.ok(Map.of("factsWritten", written));
+    }
+
+    @Operation(summary = "Group, filter and sum bookings from the in-memory snapshot")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ANALYTICS)")
+    @PostMapping("/snapshot/query")
+    public ResponseEntity<SnapshotQueryResultDto> querySnapshot(@Valid @RequestBody SnapshotQueryDto request) {
+        return ResponseEntity.ok(bookingSnapshotService.query(request));
+    }
+
+    @Operation(summary = "Rebuild the in-memory booking snapshot")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).GENERATE_REPORTS)")
+    @PostMapping("/snapshot/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSnapshot() {
+        bookingSnapshotService.rebuild();
+        return ResponseEntity.ok(Map.of("message", "Snapshot rebuilt"));
+    }
+}
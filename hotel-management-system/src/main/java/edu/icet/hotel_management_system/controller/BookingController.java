@@ -1,18 +1,28 @@
 package edu.icet.hotel_management_system.controller;
 
+import edu.icet.hotel_management_system.model.dto.BatchQuoteRequestDto;
+import edu.icet.hotel_management_system.model.dto.BatchQuoteResultDto;
 import edu.icet.hotel_management_system.model.dto.BookingDto;
+import edu.icet.hotel_management_system.model.dto.BulkStatusTransitionRequestDto;
+import edu.icet.hotel_management_system.model.dto.BulkStatusTransitionResultDto;
+import edu.icet.hotel_management_system.model.dto.ItinerarySearchResultDto;
 import edu.icet.hotel_management_system.model.dto.RoomDto;
+import edu.icet.hotel_management_system.service.BatchQuoteService;
 import edu.icet.hotel_management_system.service.BookingService;
+import edu.icet.hotel_management_system.service.EntityTagService;
+import edu.icet.hotel_management_system.service.ItineraryService;
 import edu.icet.hotel_management_system.service.RolePermissionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -23,9 +33,21 @@ import java.util.List;
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 public class BookingController {
 
+    // Bookings are per guest: only the guest's own client may keep them, revalidating first
+    private static final CacheControl PRIVATE_REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private EntityTagService entityTagService;
+
+    @Autowired
+    private ItineraryService itineraryService;
+
+    @Autowired
+    private BatchQuoteService batchQuoteService;
+
     @Operation(summary = "Get all bookings (Admin/Manager only)")
     @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ALL_BOOKINGS)")
     @GetMapping
@@ -49,9 +71,13 @@ public class BookingController {
     @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ALL_BOOKINGS) or " +
             "@permissionEvaluator.canAccessBooking(#id)")
     @GetMapping("/{id}")
-    public ResponseEntity<BookingDto> getBookingById(@PathVariable Long id) {
+    public ResponseEntity<BookingDto> getBookingById(@PathVariable Long id, WebRequest request) {
+        String etag = entityTagService.bookingTag(id).orElse(null);
+        if (etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(PRIVATE_REVALIDATE).build();
+        }
         BookingDto booking = bookingService.getBookingById(id);
-        return ResponseEntity.ok(booking);
+        return ResponseEntity.ok().eTag(etag).cacheControl(PRIVATE_REVALIDATE).body(booking);
     }
 
 
@@ -95,6 +121,16 @@ public class BookingController {
         return ResponseEntity.ok(completedBooking);
     }
 
+    @Operation(summary = "Bulk transition booking status (Admin/Manager only)")
+    @PreAuthorize("@permissionEvaluator.canTransitionBookings(#request.targetStatus)")
+    @PostMapping("/status/bulk")
+    public ResponseEntity<BulkStatusTransitionResultDto> transitionBookings(
+            @Valid @RequestBody BulkStatusTransitionRequestDto request) {
+        BulkStatusTransitionResultDto result = bookingService.transitionBookings(
+                request.getBookingIds(), request.getTargetStatus());
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Delete booking (Admin only)")
     @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).DELETE_BOOKING)")
     @DeleteMapping("/{id}")
@@ -114,6 +150,23 @@ public class BookingController {
         return ResponseEntity.ok(availableRooms);
     }
 
+    @Operation(summary = "Find room combinations for a party, splitting the stay across rooms if needed")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ROOM_AVAILABILITY)")
+    @GetMapping("/itineraries")
+    public ResponseEntity<ItinerarySearchResultDto> searchItineraries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate,
+            @RequestParam int guests) {
+        return ResponseEntity.ok(itineraryService.search(checkInDate, checkOutDate, guests));
+    }
+
+    @Operation(summary = "Price many stays at once for price calendars and comparisons")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ROOM_AVAILABILITY)")
+    @PostMapping("/quotes")
+    public ResponseEntity<BatchQuoteResultDto> quoteStays(@Valid @RequestBody BatchQuoteRequestDto request) {
+        return ResponseEntity.ok(batchQuoteService.quote(request.getQuotes()));
+    }
+
     @Operation(summary = "Search bookings (Admin/Manager only)")
     @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).SEARCH_BOOKINGS)")
     @GetMapping("/search")
@@ -0,0 +1,45 @@
+package edu.icet.hotel_management_system.controller;
+
+import edu.icet.hotel_management_system.model.dto.SecondLevelCacheStatsDto;
+import edu.icet.hotel_management_system.service.SecondLevelCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class CacheAdminController {
+
+    @Autowired
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @Operation(summary = "Second-level cache region statistics and statement counts")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SYSTEM)")
+    @GetMapping("/regions")
+    public ResponseEntity<SecondLevelCacheStatsDto> getRegionStats() {
+        return ResponseEntity.ok(secondLevelCacheService.getStats());
+    }
+
+    @Operation(summary = "Reset Hibernate statistics")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SYSTEM)")
+    @PostMapping("/statistics/reset")
+    public ResponseEntity<Map<String, Object>> resetStatistics() {
+        secondLevelCacheService.resetStatistics();
+        return ResponseEntity.ok(Map.of("message", "Statistics reset"));
+    }
+
+    @Operation(summary = "Evict every second-level cache region")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SYSTEM)")
+    @DeleteMapping("/regions")
+    public ResponseEntity<Map<String, Object>> evictAll() {
+        secondLevelCacheService.evictAll();
+        return ResponseEntity.ok(Map.of("message", "Second-level cache cleared"));
+    }
+}
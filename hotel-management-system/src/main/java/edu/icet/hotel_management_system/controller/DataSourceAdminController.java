@@ -0,0 +1,29 @@
+package edu.icet.hotel_management_system.controller;
+
+import edu.icet.hotel_management_system.model.dto.PoolStatsDto;
+import edu.icet.hotel_management_system.service.DataSourceMetricsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/datasource")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class DataSourceAdminController {
+
+    @Autowired
+    private DataSourceMetricsService dataSourceMetricsService;
+
+    @Operation(summary = "Connection pool sizes, usage and wait times")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SYSTEM)")
+    @GetMapping("/pools")
+    public ResponseEntity<List<PoolStatsDto>> getPoolStats() {
+        return ResponseEntity.ok(dataSourceMetricsService.getPoolStats());
+    }
+}
@@ -0,0 +1,47 @@
+package edu.icet.hotel_management_system.controller;
+
+import edu.icet.hotel_management_system.exception.ResourceNotFoundException;
+import edu.icet.hotel_management_system.model.entity.User;
+import edu.icet.hotel_management_system.repository.UserRepository;
+import edu.icet.hotel_management_system.service.LiveEventService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/events")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class LiveEventController {
+
+    @Autowired
+    private LiveEventService liveEventService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Operation(summary = "Stream booking and room changes as server-sent events")
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        User user = userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new ResourceNotFoundException("User", "email", authentication.getName()));
+        return liveEventService.subscribe(user, lastEventId);
+    }
+
+    @Operation(summary = "Live event subscriber statistics")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SYSTEM)")
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(liveEventService.getStats());
+    }
+}
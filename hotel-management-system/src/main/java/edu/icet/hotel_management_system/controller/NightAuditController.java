@@ -0,0 +1,51 @@
+package edu.icet.hotel_management_system.controller;
+
+import edu.icet.hotel_management_system.model.dto.NightAuditRunDto;
+import edu.icet.hotel_management_system.model.dto.OccupancySnapshotDto;
+import edu.icet.hotel_management_system.service.NightAuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/night-audit")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class NightAuditController {
+
+    @Autowired
+    private NightAuditService nightAuditService;
+
+    @Operation(summary = "Run or resume the night audit for a business date (defaults to yesterday)")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SYSTEM)")
+    @PostMapping("/run")
+    public ResponseEntity<NightAuditRunDto> runAudit(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        NightAuditRunDto run = nightAuditService.runAudit(businessDate);
+        return ResponseEntity.ok(run);
+    }
+
+    @Operation(summary = "Get the night audit run for a business date")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_REPORTS)")
+    @GetMapping("/runs/{businessDate}")
+    public ResponseEntity<NightAuditRunDto> getRun(
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        return ResponseEntity.ok(nightAuditService.getRun(businessDate));
+    }
+
+    @Operation(summary = "Get occupancy snapshots recorded by the night audit")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_REPORTS)")
+    @GetMapping("/snapshots")
+    public ResponseEntity<List<OccupancySnapshotDto>> getSnapshots(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(nightAuditService.getSnapshots(from, to));
+    }
+}
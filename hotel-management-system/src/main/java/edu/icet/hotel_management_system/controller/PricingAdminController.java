@@ -0,0 +1,54 @@
+package edu.icet.hotel_management_system.controller;
+
+import edu.icet.hotel_management_system.model.dto.PricingRuleDto;
+import edu.icet.hotel_management_system.service.PricingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/pricing/rules")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class PricingAdminController {
+
+    @Autowired
+    private PricingService pricingService;
+
+    @Operation(summary = "List pricing rules")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SETTINGS)")
+    @GetMapping
+    public ResponseEntity<List<PricingRuleDto>> getRules() {
+        return ResponseEntity.ok(pricingService.getRules());
+    }
+
+    @Operation(summary = "Create pricing rule")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SETTINGS)")
+    @PostMapping
+    public ResponseEntity<PricingRuleDto> createRule(@Valid @RequestBody PricingRuleDto ruleDto) {
+        return new ResponseEntity<>(pricingService.createRule(ruleDto), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Update pricing rule")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SETTINGS)")
+    @PutMapping("/{id}")
+    public ResponseEntity<PricingRuleDto> updateRule(@PathVariable Long id, @Valid @RequestBody PricingRuleDto ruleDto) {
+        return ResponseEntity.ok(pricingService.updateRule(id, ruleDto));
+    }
+
+    @Operation(summary = "Delete pricing rule")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SETTINGS)")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> deleteRule(@PathVariable Long id) {
+        pricingService.deleteRule(id);
+        return ResponseEntity.ok(Map.of("message", "Pricing rule deleted"));
+    }
+}
@@ -0,0 +1,27 @@
+package edu.icet.hotel_management_system.controller;
+
+import edu.icet.hotel_management_system.model.dto.RateLimitStatsDto;
+import edu.icet.hotel_management_system.service.RateLimitService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/rate-limits")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class RateLimitAdminController {
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Operation(summary = "Rate limit policies with allowed and rejected request counts on this node")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SYSTEM)")
+    @GetMapping
+    public ResponseEntity<RateLimitStatsDto> getStats() {
+        return ResponseEntity.ok(rateLimitService.getStats());
+    }
+}
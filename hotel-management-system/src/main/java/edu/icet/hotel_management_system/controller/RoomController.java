@@ -1,46 +1,103 @@
 package edu.icet.hotel_management_system.controller;
 
 import edu.icet.hotel_management_system.model.dto.RoomDto;
+import edu.icet.hotel_management_system.model.dto.RoomFacetResultDto;
+import edu.icet.hotel_management_system.model.dto.StayQuoteDto;
+import edu.icet.hotel_management_system.service.EntityTagService;
+import edu.icet.hotel_management_system.service.PricingService;
 import edu.icet.hotel_management_system.service.RolePermissionService;
+import edu.icet.hotel_management_system.service.RoomCatalogueSnapshotService;
+import edu.icet.hotel_management_system.service.RoomFacetService;
 import edu.icet.hotel_management_system.service.RoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/rooms")
 @CrossOrigin(origins = "*", allowedHeaders = "*")
 public class RoomController {
 
+    // Clients may keep room payloads but must check their ETag before reusing one
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
     @Autowired
     private RoomService roomService;
 
+    @Autowired
+    private EntityTagService entityTagService;
+
+    @Autowired
+    private RoomCatalogueSnapshotService roomCatalogueSnapshotService;
+
+    @Autowired
+    private RoomFacetService roomFacetService;
+
+    @Autowired
+    private PricingService pricingService;
+
     @Operation(summary = "Get all rooms")
     @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ALL_ROOMS)")
     @GetMapping
-    public ResponseEntity<List<RoomDto>> getAllRooms() {
-        List<RoomDto> rooms = roomService.getAllRooms();
-        return ResponseEntity.ok(rooms);
+    public ResponseEntity<byte[]> getAllRooms(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        // Written as stored: JSON serialized, and gzipped, once per catalogue change
+        RoomCatalogueSnapshotService.Snapshot catalogue = roomCatalogueSnapshotService.current();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? catalogue.gzipEtag() : catalogue.etag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? catalogue.gzip() : catalogue.json());
+    }
+
+    @Operation(summary = "Get room by ID")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ALL_ROOMS)")
+    @GetMapping("/{id}")
+    public ResponseEntity<RoomDto> getRoomById(@PathVariable Long id, WebRequest request) {
+        String etag = entityTagService.roomTag(id).orElse(null);
+        if (etag != null && request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        RoomDto room = roomService.getRoomById(id);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(room);
     }
 
     @Operation(summary = "Get available rooms")
     @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ROOM_AVAILABILITY)")
     @GetMapping("/available")
-    public ResponseEntity<List<RoomDto>> getAvailableRooms() {
-        List<RoomDto> rooms = roomService.getAvailableRooms();
-        return ResponseEntity.ok(rooms);
+    public ResponseEntity<List<RoomDto>> getAvailableRooms(WebRequest request) {
+        String etag = entityTagService.roomsTag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        List<RoomDto> rooms = roomService.getAvailableRooms(etag);
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(rooms);
     }
 
     @Operation(summary = "Search rooms")
@@ -57,6 +114,35 @@ public class RoomController {
         return ResponseEntity.ok(rooms);
     }
 
+    @Operation(summary = "Faceted room search with counts per amenity, type, price band and capacity")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).SEARCH_ROOMS)")
+    @GetMapping("/facets")
+    public ResponseEntity<RoomFacetResultDto> searchFacets(
+            @RequestParam(name = "amenity", required = false) Set<String> amenities,
+            @RequestParam(name = "type", required = false) Set<String> types,
+            @RequestParam(name = "priceBand", required = false) Set<String> priceBands,
+            @RequestParam(name = "capacity", required = false) Set<String> capacities,
+            @RequestParam(required = false) Integer minGuests,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate) {
+
+        RoomFacetResultDto result = roomFacetService.search(orEmpty(amenities), orEmpty(types), orEmpty(priceBands),
+                orEmpty(capacities), minGuests, minPrice, maxPrice, checkInDate, checkOutDate);
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Price a stay night by night")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ROOM_AVAILABILITY)")
+    @GetMapping("/{id}/quote")
+    public ResponseEntity<StayQuoteDto> quoteStay(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate) {
+        return ResponseEntity.ok(pricingService.quote(id, checkInDate, checkOutDate));
+    }
+
     @Operation(summary = "Create room (Admin only)")
     @SecurityRequirement(name = "bearerAuth")
     @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).CREATE_ROOM)")
@@ -101,4 +187,29 @@ public class RoomController {
         RoomDto updatedRoom = roomService.deleteRoomImage(roomId, imageId);
         return ResponseEntity.ok(updatedRoom);
     }
-}
\ No newline at end of file
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && parameter.substring(2).trim().matches("0(\\.0*)?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static Set<String> orEmpty(Set<String> values) {
+        return values != null ? values : Set.of();
+    }
+}
@@ -0,0 +1,28 @@
+package edu.icet.hotel_management_system.controller;
+
+import edu.icet.hotel_management_system.model.dto.RoomImageGcReportDto;
+import edu.icet.hotel_management_system.service.RoomImageCleanupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/room-images")
+@SecurityRequirement(name = "bearerAuth")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class RoomImageAdminController {
+
+    @Autowired
+    private RoomImageCleanupService roomImageCleanupService;
+
+    @Operation(summary = "Progress of the orphaned image collector on this node, or its last completed pass")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).MANAGE_SYSTEM)")
+    @GetMapping("/gc")
+    public ResponseEntity<RoomImageGcReportDto> getGcReport() {
+        RoomImageGcReportDto report = roomImageCleanupService.getReport();
+        return report != null ? ResponseEntity.ok(report) : ResponseEntity.noContent().build();
+    }
+}
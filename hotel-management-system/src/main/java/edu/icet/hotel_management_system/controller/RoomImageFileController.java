@@ -0,0 +1,172 @@
+package edu.icet.hotel_management_system.controller;
+
+import edu.icet.hotel_management_system.service.RoomImageFileService;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Serves content-addressed room images ahead of the generic /uploads/** resource handler,
+ * which still serves images uploaded before content addressing.
+ *
+ * Files are immutable, so responses carry a strong ETag and a one-year immutable
+ * Cache-Control. Large bodies on local disk go out through Tomcat's sendfile when the
+ * connector supports it, otherwise through FileChannel.transferTo; small ones come from
+ * memory, and files in a remote blob store are streamed through.
+ */
+@RestController
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class RoomImageFileController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    @Autowired
+    private RoomImageFileService roomImageFileService;
+
+    // Below this, writing through the response is cheaper than handing the file to the poller
+    @Value("${room-images.serving.sendfile-min-bytes:49152}")
+    private long sendfileMinBytes;
+
+    @Operation(summary = "Serve a stored room image or one of its variants")
+    @RequestMapping(value = "/uploads/rooms/{area:originals|variants}/{prefix}/{fileName:.+}",
+            method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(@PathVariable String area, @PathVariable String prefix, @PathVariable String fileName,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        RoomImageFileService.ImageFile file = roomImageFileService.find(area, prefix, fileName);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, file.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), file.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = file.length();
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(file.etag()))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds != null && bounds.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            // Multiple or malformed ranges get the whole file, which the spec allows
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(file.contentType());
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (file.content() != null) {
+            response.getOutputStream().write(file.content(), (int) start, (int) count);
+            return;
+        }
+        if (file.path() == null) {
+            // Remote blob store: stream the requested bytes through
+            try (InputStream in = roomImageFileService.open(file, start, count)) {
+                in.transferTo(response.getOutputStream());
+            }
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && count >= sendfileMinBytes) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {start, end} inclusive, an empty array when unsatisfiable, or null when the
+     *         header should be ignored
+     */
+    private static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return new long[0];
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            if (start >= length || end < start) {
+                return start >= length ? new long[0] : null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
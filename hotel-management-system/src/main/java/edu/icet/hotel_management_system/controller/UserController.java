@@ -2,6 +2,8 @@ package edu.icet.hotel_management_system.controller;
 
 import edu.icet.hotel_management_system.model.dto.ChangePasswordDto;
 import edu.icet.hotel_management_system.model.dto.UserDto;
+import edu.icet.hotel_management_system.model.dto.UserSearchResultDto;
+import edu.icet.hotel_management_system.model.dto.UserStatsDto;
 import edu.icet.hotel_management_system.service.RolePermissionService;
 import edu.icet.hotel_management_system.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,6 +31,22 @@ public class UserController {
         return ResponseEntity.ok(createdUser);
     }
 
+    @Operation(summary = "Search guests by name, email or phone (prefix and typo tolerant)")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).HANDLE_CUSTOMER_QUERIES)")
+    @GetMapping("/search")
+    public ResponseEntity<UserSearchResultDto> searchUsers(@RequestParam String q,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.searchUsers(q, page, size));
+    }
+
+    @Operation(summary = "User counts by role and enabled state (Admin only)")
+    @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ALL_USERS)")
+    @GetMapping("/stats")
+    public ResponseEntity<UserStatsDto> getUserStats() {
+        return ResponseEntity.ok(userService.getUserStats());
+    }
+
     @Operation(summary = "Get user by ID")
     @PreAuthorize("@permissionEvaluator.hasPermission(T(edu.icet.hotel_management_system.service.RolePermissionService.Permissions).VIEW_ALL_USERS) or " +
             "@permissionEvaluator.canAccessUserResource(#id)")
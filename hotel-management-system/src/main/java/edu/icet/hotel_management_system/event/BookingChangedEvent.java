@@ -0,0 +1,29 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.model.entity.Booking;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published inside the transaction whenever a single booking is created, edited, moved or deleted.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BookingChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, CONFIRMED, CANCELLED, COMPLETED, DELETED
+    }
+
+    private final Long bookingId;
+    private final Long roomId;
+    private final Long userId;
+    private final ChangeType changeType;
+
+    public static BookingChangedEvent of(Booking booking, ChangeType changeType) {
+        return new BookingChangedEvent(booking.getId(), booking.getRoom().getId(),
+                booking.getUser().getId(), changeType);
+    }
+}
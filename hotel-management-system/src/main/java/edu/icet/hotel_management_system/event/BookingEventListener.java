@@ -0,0 +1,36 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.model.entity.Booking;
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import edu.icet.hotel_management_system.repository.BookingRepository;
+import edu.icet.hotel_management_system.service.EmailService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Component
+public class BookingEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingEventListener.class);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBookingsTransitioned(BookingsTransitionedEvent event) {
+        logger.info("{} booking(s) moved to {}", event.getBookingIds().size(), event.getTargetStatus());
+
+        if (event.getTargetStatus() == BookingStatus.CANCELLED) {
+            List<Booking> bookings = bookingRepository.findWithUserAndRoomByIdIn(event.getBookingIds());
+            emailService.sendBookingCancellationEmails(bookings);
+        }
+    }
+}
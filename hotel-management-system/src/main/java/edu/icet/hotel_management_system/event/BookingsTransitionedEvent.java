@@ -0,0 +1,19 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Published once per bulk status transition with every booking that actually moved.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BookingsTransitionedEvent {
+    private final BookingStatus targetStatus;
+    private final List<Long> bookingIds;
+}
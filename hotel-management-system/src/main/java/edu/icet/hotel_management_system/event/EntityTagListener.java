@@ -0,0 +1,36 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.service.EntityTagService;
+import edu.icet.hotel_management_system.service.RoomCatalogueSnapshotService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Moves room ETags on as part of the transaction that changes a room, then rebuilds the room
+ * catalogue snapshot for the new tag once that transaction has committed.
+ */
+@Component
+public class EntityTagListener {
+
+    @Autowired
+    private EntityTagService entityTagService;
+
+    @Autowired
+    private RoomCatalogueSnapshotService roomCatalogueSnapshotService;
+
+    // Outside a transaction both run straight away, the tag first
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onRoomChanging(RoomChangedEvent event) {
+        entityTagService.roomChanged(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomChanged(RoomChangedEvent event) {
+        roomCatalogueSnapshotService.refresh();
+    }
+}
@@ -0,0 +1,48 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.model.dto.LiveEventDto;
+import edu.icet.hotel_management_system.repository.BookingRepository;
+import edu.icet.hotel_management_system.service.LiveEventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Forwards committed booking and room changes to live event subscribers.
+ */
+@Component
+public class LiveEventListener {
+
+    @Autowired
+    private LiveEventService liveEventService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        LiveEventDto payload = new LiveEventDto(event.getChangeType().name(), event.getBookingId(),
+                event.getRoomId(), LocalDateTime.now());
+        liveEventService.publish(LiveEventService.CATEGORY_BOOKING, payload, event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingsTransitioned(BookingsTransitionedEvent event) {
+        String type = event.getTargetStatus().name();
+        LocalDateTime now = LocalDateTime.now();
+        for (BookingRepository.OwnerView owner : bookingRepository.findOwnersByIdIn(event.getBookingIds())) {
+            liveEventService.publish(LiveEventService.CATEGORY_BOOKING,
+                    new LiveEventDto(type, owner.getId(), owner.getRoomId(), now), owner.getUserId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomChanged(RoomChangedEvent event) {
+        LiveEventDto payload = new LiveEventDto(event.getChangeType().name(), null,
+                event.getRoomId(), LocalDateTime.now());
+        liveEventService.publish(LiveEventService.CATEGORY_ROOM, payload, null);
+    }
+}
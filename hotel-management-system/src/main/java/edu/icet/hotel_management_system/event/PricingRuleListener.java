@@ -0,0 +1,22 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.service.PricingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Recompiles the nightly rate tables once a pricing rule change has committed.
+ */
+@Component
+public class PricingRuleListener {
+
+    @Autowired
+    private PricingService pricingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPricingRulesChanged(PricingRulesChangedEvent event) {
+        pricingService.refresh();
+    }
+}
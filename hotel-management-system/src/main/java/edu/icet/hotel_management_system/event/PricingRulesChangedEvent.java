@@ -0,0 +1,15 @@
+package edu.icet.hotel_management_system.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published inside the transaction whenever a pricing rule is created, edited or deleted.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PricingRulesChangedEvent {
+    private final Long ruleId;
+}
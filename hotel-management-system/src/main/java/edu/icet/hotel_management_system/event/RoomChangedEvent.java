@@ -0,0 +1,21 @@
+package edu.icet.hotel_management_system.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published whenever a room or its images change.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RoomChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED, IMAGES_CHANGED
+    }
+
+    private final Long roomId;
+    private final ChangeType changeType;
+}
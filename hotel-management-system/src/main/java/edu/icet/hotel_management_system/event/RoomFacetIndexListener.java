@@ -0,0 +1,34 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.service.RoomFacetService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Keeps the in-memory room facet index in step with committed room and booking changes.
+ */
+@Component
+public class RoomFacetIndexListener {
+
+    @Autowired
+    private RoomFacetService roomFacetService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomChanged(RoomChangedEvent event) {
+        roomFacetService.refreshRooms();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        roomFacetService.refreshStays(List.of(event.getBookingId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBookingsTransitioned(BookingsTransitionedEvent event) {
+        roomFacetService.refreshStays(event.getBookingIds());
+    }
+}
@@ -0,0 +1,22 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.service.RoomImageService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Queues variant generation once the image row is committed, so the worker can read it.
+ */
+@Component
+public class RoomImageListener {
+
+    @Autowired
+    private RoomImageService roomImageService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomImageStored(RoomImageStoredEvent event) {
+        roomImageService.generateVariants(event.getImageId());
+    }
+}
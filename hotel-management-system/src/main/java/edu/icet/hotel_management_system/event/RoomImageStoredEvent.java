@@ -0,0 +1,15 @@
+package edu.icet.hotel_management_system.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published when an uploaded room image has been stored and still needs its variants.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RoomImageStoredEvent {
+    private final Long imageId;
+}
@@ -0,0 +1,26 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.service.RoomNightFactService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps room night facts in the same transaction as the booking change that produced them.
+ */
+@Component
+public class RoomNightFactListener {
+
+    @Autowired
+    private RoomNightFactService roomNightFactService;
+
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        roomNightFactService.refreshBooking(event.getBookingId());
+    }
+
+    @EventListener
+    public void onBookingsTransitioned(BookingsTransitionedEvent event) {
+        roomNightFactService.updateStatus(event.getBookingIds(), event.getTargetStatus());
+    }
+}
@@ -0,0 +1,31 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.model.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published inside the transaction whenever a user is created, edited or deleted.
+ */
+@Getter
+@ToString(of = {"userId", "changeType"})
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Long userId;
+    private final ChangeType changeType;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String phone;
+
+    public static UserChangedEvent of(User user, ChangeType changeType) {
+        return new UserChangedEvent(user.getId(), changeType, user.getFirstName(), user.getLastName(),
+                user.getEmail(), user.getPhone());
+    }
+}
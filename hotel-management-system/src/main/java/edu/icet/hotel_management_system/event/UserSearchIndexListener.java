@@ -0,0 +1,22 @@
+package edu.icet.hotel_management_system.event;
+
+import edu.icet.hotel_management_system.service.UserSearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the in-memory user search index in step with committed user changes.
+ */
+@Component
+public class UserSearchIndexListener {
+
+    @Autowired
+    private UserSearchService userSearchService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        userSearchService.apply(event);
+    }
+}
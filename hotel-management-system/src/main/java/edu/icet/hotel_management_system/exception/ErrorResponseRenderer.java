@@ -0,0 +1,149 @@
+package edu.icet.hotel_management_system.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Writes the API's JSON error bodies. Handler errors are serialized with one {@link ObjectWriter}
+ * built at startup; the 401, 403 and 429 bodies written by the security filters, which can arrive
+ * in bursts, are assembled from pre-encoded fragments around the timestamp and path.
+ */
+@Component
+public class ErrorResponseRenderer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ErrorResponseRenderer.class);
+
+    // As ApiErrorResponse's @JsonFormat
+    private static final DateTimeFormatter API_TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final byte[] HEAD = ascii("{\"timestamp\":\"");
+    private static final byte[] UNAUTHORIZED_MIDDLE = ascii("\",\"status\":401,\"error\":\"Unauthorized\","
+            + "\"message\":\"Full authentication is required to access this resource\",\"path\":\"");
+    private static final byte[] FORBIDDEN_MIDDLE = ascii("\",\"status\":403,\"error\":\"Access Denied\","
+            + "\"message\":\"Insufficient privileges to access this resource\",\"path\":\"");
+    private static final byte[] TOO_MANY_REQUESTS_MIDDLE = ascii("\",\"status\":429,\"error\":\"Too Many Requests\","
+            + "\"message\":\"Request rate limit exceeded, please retry later\",\"path\":\"");
+    private static final byte[] TAIL = ascii("\"}");
+
+    private final ObjectWriter apiErrorWriter;
+
+    // The 403 and 429 timestamp, formatted once per second
+    private volatile ApiTimestamp apiTimestamp = new ApiTimestamp(null, new byte[0]);
+
+    @Autowired
+    public ErrorResponseRenderer(ObjectMapper objectMapper) {
+        this.apiErrorWriter = objectMapper.writerFor(ApiErrorResponse.class);
+    }
+
+    public ResponseEntity<byte[]> render(HttpStatus status, String error, String message, String path) {
+        return render(status, error, message, path, null, null);
+    }
+
+    public ResponseEntity<byte[]> render(HttpStatus status, String error, String message, String path,
+                                         Map<String, String> validationErrors) {
+        return render(status, error, message, path, validationErrors, null);
+    }
+
+    /**
+     * @param headers extra response headers such as Retry-After; may be null
+     */
+    public ResponseEntity<byte[]> render(HttpStatus status, String error, String message, String path,
+                                         Map<String, String> validationErrors, HttpHeaders headers) {
+        ApiErrorResponse body = ApiErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(error)
+                .message(message)
+                .path(path)
+                .validationErrors(validationErrors)
+                .build();
+
+        byte[] json;
+        try {
+            json = apiErrorWriter.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize error response", e);
+            json = ascii("{\"status\":" + status.value() + "}");
+        }
+        return ResponseEntity.status(status)
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    /**
+     * The authentication entry point's 401 body, in the shape it has always had.
+     */
+    public void writeUnauthorized(String path, HttpServletResponse response) throws IOException {
+        write(response, HttpStatus.UNAUTHORIZED, HEAD,
+                ascii(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())), UNAUTHORIZED_MIDDLE, path);
+    }
+
+    /**
+     * The same 403 body GlobalExceptionHandler sends for AccessDeniedException.
+     */
+    public void writeForbidden(String path, HttpServletResponse response) throws IOException {
+        write(response, HttpStatus.FORBIDDEN, HEAD, apiTimestamp(), FORBIDDEN_MIDDLE, path);
+    }
+
+    /**
+     * 429 for the rate limit filter, with the wait in Retry-After.
+     */
+    public void writeTooManyRequests(String path, long retryAfterSeconds, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        write(response, HttpStatus.TOO_MANY_REQUESTS, HEAD, apiTimestamp(), TOO_MANY_REQUESTS_MIDDLE, path);
+    }
+
+    private static void write(HttpServletResponse response, HttpStatus status, byte[] head, byte[] timestamp,
+                              byte[] middle, String path) throws IOException {
+        byte[] encodedPath = JsonStringEncoder.getInstance().quoteAsUTF8(path != null ? path : "");
+        ByteArrayOutputStream body = new ByteArrayOutputStream(head.length + timestamp.length + middle.length
+                + encodedPath.length + TAIL.length);
+        body.write(head);
+        body.write(timestamp);
+        body.write(middle);
+        body.write(encodedPath);
+        body.write(TAIL);
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.size());
+        body.writeTo(response.getOutputStream());
+    }
+
+    private byte[] apiTimestamp() {
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        ApiTimestamp cached = apiTimestamp;
+        if (!now.equals(cached.second())) {
+            cached = new ApiTimestamp(now, ascii(API_TIMESTAMP.format(now)));
+            apiTimestamp = cached;
+        }
+        return cached.bytes();
+    }
+
+    private record ApiTimestamp(LocalDateTime second, byte[] bytes) {
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -8,13 +8,17 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -39,27 +43,23 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    @Autowired
+    private ErrorResponseRenderer errorResponseRenderer;
+
     // Resource Not Found Exception
     @ExceptionHandler(ResourceNotFoundException.class)
-    public ResponseEntity<ApiErrorResponse> handleResourceNotFoundException(
+    public ResponseEntity<byte[]> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
 
         logger.warn("Resource not found: {}", ex.getMessage());
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.NOT_FOUND.value())
-                .error("Resource Not Found")
-                .message(ex.getMessage())
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return errorResponseRenderer.render(HttpStatus.NOT_FOUND, "Resource Not Found",
+                ex.getMessage(), getPath(request));
     }
 
     // Validation Exception - Method Argument Not Valid
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ApiErrorResponse> handleValidationExceptions(
+    public ResponseEntity<byte[]> handleValidationExceptions(
             MethodArgumentNotValidException ex, WebRequest request) {
 
         logger.warn("Validation failed: {}", ex.getMessage());
@@ -71,21 +71,13 @@ public class GlobalExceptionHandler {
             validationErrors.put(fieldName, errorMessage);
         });
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Validation Failed")
-                .message("Request validation failed")
-                .path(getPath(request))
-                .validationErrors(validationErrors)
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return errorResponseRenderer.render(HttpStatus.BAD_REQUEST, "Validation Failed",
+                "Request validation failed", getPath(request), validationErrors);
     }
 
     // Constraint Violation Exception
     @ExceptionHandler(ConstraintViolationException.class)
-    public ResponseEntity<ApiErrorResponse> handleConstraintViolationException(
+    public ResponseEntity<byte[]> handleConstraintViolationException(
             ConstraintViolationException ex, WebRequest request) {
 
         logger.warn("Constraint violation: {}", ex.getMessage());
@@ -97,93 +89,70 @@ public class GlobalExceptionHandler {
             validationErrors.put(fieldName, errorMessage);
         }
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Validation Failed")
-                .message("Constraint validation failed")
-                .path(getPath(request))
-                .validationErrors(validationErrors)
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return errorResponseRenderer.render(HttpStatus.BAD_REQUEST, "Validation Failed",
+                "Constraint validation failed", getPath(request), validationErrors);
     }
 
     // Authentication Exception
     @ExceptionHandler({AuthenticationException.class, BadCredentialsException.class})
-    public ResponseEntity<ApiErrorResponse> handleAuthenticationException(
+    public ResponseEntity<byte[]> handleAuthenticationException(
             AuthenticationException ex, WebRequest request) {
 
         logger.warn("Authentication failed: {}", ex.getMessage());
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .error("Authentication Failed")
-                .message("Invalid credentials or authentication required")
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+        return errorResponseRenderer.render(HttpStatus.UNAUTHORIZED, "Authentication Failed",
+                "Invalid credentials or authentication required", getPath(request));
     }
 
     // Access Denied Exception
     @ExceptionHandler(AccessDeniedException.class)
-    public ResponseEntity<ApiErrorResponse> handleAccessDeniedException(
+    public ResponseEntity<byte[]> handleAccessDeniedException(
             AccessDeniedException ex, WebRequest request) {
 
         logger.warn("Access denied: {}", ex.getMessage());
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.FORBIDDEN.value())
-                .error("Access Denied")
-                .message("Insufficient privileges to access this resource")
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+        return errorResponseRenderer.render(HttpStatus.FORBIDDEN, "Access Denied",
+                "Insufficient privileges to access this resource", getPath(request));
     }
 
     // Illegal State Exception
     @ExceptionHandler(IllegalStateException.class)
-    public ResponseEntity<ApiErrorResponse> handleIllegalStateException(
+    public ResponseEntity<byte[]> handleIllegalStateException(
             IllegalStateException ex, WebRequest request) {
 
         logger.warn("Illegal state: {}", ex.getMessage());
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.CONFLICT.value())
-                .error("Illegal State")
-                .message(ex.getMessage())
-                .path(getPath(request))
-                .build();
+        return errorResponseRenderer.render(HttpStatus.CONFLICT, "Illegal State", ex.getMessage(), getPath(request));
+    }
+
+    // Downstream capacity exhausted (database pool, Stripe, SMTP)
+    @ExceptionHandler({ServiceBusyException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<byte[]> handleServiceBusy(
+            RuntimeException ex, WebRequest request) {
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        logger.warn("Service busy: {}", ex.getMessage());
+
+        String message = ex instanceof ServiceBusyException ? ex.getMessage() : "Database is busy, please retry shortly";
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return errorResponseRenderer.render(HttpStatus.SERVICE_UNAVAILABLE, "Service Busy",
+                message, getPath(request), null, headers);
     }
 
     // Illegal Argument Exception
     @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<ApiErrorResponse> handleIllegalArgumentException(
+    public ResponseEntity<byte[]> handleIllegalArgumentException(
             IllegalArgumentException ex, WebRequest request) {
 
         logger.warn("Illegal argument: {}", ex.getMessage());
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Invalid Request")
-                .message(ex.getMessage())
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return errorResponseRenderer.render(HttpStatus.BAD_REQUEST, "Invalid Request",
+                ex.getMessage(), getPath(request));
     }
 
     // Data Integrity Violation Exception
     @ExceptionHandler(DataIntegrityViolationException.class)
-    public ResponseEntity<ApiErrorResponse> handleDataIntegrityViolation(
+    public ResponseEntity<byte[]> handleDataIntegrityViolation(
             DataIntegrityViolationException ex, WebRequest request) {
 
         logger.error("Data integrity violation: {}", ex.getMessage());
@@ -195,20 +164,24 @@ public class GlobalExceptionHandler {
             userMessage = "Cannot delete this record as it is being used by other data.";
         }
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.CONFLICT.value())
-                .error("Data Integrity Violation")
-                .message(userMessage)
-                .path(getPath(request))
-                .build();
+        return errorResponseRenderer.render(HttpStatus.CONFLICT, "Data Integrity Violation",
+                userMessage, getPath(request));
+    }
+
+    // Optimistic Locking Failure (a room, booking or user changed since it was read)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, WebRequest request) {
+
+        logger.warn("Optimistic locking failure: {}", ex.getMessage());
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        return errorResponseRenderer.render(HttpStatus.CONFLICT, "Concurrent Modification",
+                "This record was changed by another request. Please reload it and try again.", getPath(request));
     }
 
     // File Upload Exception
     @ExceptionHandler({MaxUploadSizeExceededException.class, MultipartException.class})
-    public ResponseEntity<ApiErrorResponse> handleFileUploadException(
+    public ResponseEntity<byte[]> handleFileUploadException(
             Exception ex, WebRequest request) {
 
         logger.warn("File upload error: {}", ex.getMessage());
@@ -220,56 +193,35 @@ public class GlobalExceptionHandler {
             message = "Invalid multipart request. Please ensure you're uploading a valid file.";
         }
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.PAYLOAD_TOO_LARGE.value())
-                .error("File Upload Error")
-                .message(message)
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
+        return errorResponseRenderer.render(HttpStatus.PAYLOAD_TOO_LARGE, "File Upload Error",
+                message, getPath(request));
     }
 
     // IOException (File operations)
     @ExceptionHandler(IOException.class)
-    public ResponseEntity<ApiErrorResponse> handleIOException(
+    public ResponseEntity<byte[]> handleIOException(
             IOException ex, WebRequest request) {
 
         logger.error("IO operation failed: {}", ex.getMessage());
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error("File Operation Failed")
-                .message("Failed to process file operation")
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return errorResponseRenderer.render(HttpStatus.INTERNAL_SERVER_ERROR, "File Operation Failed",
+                "Failed to process file operation", getPath(request));
     }
 
     // Missing Request Parameter Exception
     @ExceptionHandler(MissingServletRequestParameterException.class)
-    public ResponseEntity<ApiErrorResponse> handleMissingRequestParameter(
+    public ResponseEntity<byte[]> handleMissingRequestParameter(
             MissingServletRequestParameterException ex, WebRequest request) {
 
         logger.warn("Missing request parameter: {}", ex.getMessage());
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Missing Parameter")
-                .message(String.format("Required parameter '%s' is missing", ex.getParameterName()))
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return errorResponseRenderer.render(HttpStatus.BAD_REQUEST, "Missing Parameter",
+                String.format("Required parameter '%s' is missing", ex.getParameterName()), getPath(request));
     }
 
     // Method Argument Type Mismatch Exception
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
-    public ResponseEntity<ApiErrorResponse> handleMethodArgumentTypeMismatch(
+    public ResponseEntity<byte[]> handleMethodArgumentTypeMismatch(
             MethodArgumentTypeMismatchException ex, WebRequest request) {
 
         logger.warn("Method argument type mismatch: {}", ex.getMessage());
@@ -277,69 +229,41 @@ public class GlobalExceptionHandler {
         String message = String.format("Parameter '%s' should be of type %s",
                 ex.getName(), ex.getRequiredType().getSimpleName());
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Invalid Parameter Type")
-                .message(message)
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return errorResponseRenderer.render(HttpStatus.BAD_REQUEST, "Invalid Parameter Type",
+                message, getPath(request));
     }
 
     // HTTP Message Not Readable Exception
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<ApiErrorResponse> handleHttpMessageNotReadable(
+    public ResponseEntity<byte[]> handleHttpMessageNotReadable(
             HttpMessageNotReadableException ex, WebRequest request) {
 
         logger.warn("HTTP message not readable: {}", ex.getMessage());
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error("Malformed Request")
-                .message("Request body is malformed or contains invalid JSON")
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return errorResponseRenderer.render(HttpStatus.BAD_REQUEST, "Malformed Request",
+                "Request body is malformed or contains invalid JSON", getPath(request));
     }
 
     // Generic Exception Handler
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiErrorResponse> handleGlobalException(
+    public ResponseEntity<byte[]> handleGlobalException(
             Exception ex, WebRequest request) {
 
         logger.error("Unexpected error occurred: ", ex);
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error("Internal Server Error")
-                .message("An unexpected error occurred. Please try again later.")
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return errorResponseRenderer.render(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred. Please try again later.", getPath(request));
     }
 
     // Runtime Exception Handler (for debugging)
     @ExceptionHandler(RuntimeException.class)
-    public ResponseEntity<ApiErrorResponse> handleRuntimeException(
+    public ResponseEntity<byte[]> handleRuntimeException(
             RuntimeException ex, WebRequest request) {
 
         logger.error("Runtime exception: ", ex);
 
-        ApiErrorResponse errorResponse = ApiErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                .error("Runtime Error")
-                .message("A runtime error occurred: " + ex.getMessage())
-                .path(getPath(request))
-                .build();
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return errorResponseRenderer.render(HttpStatus.INTERNAL_SERVER_ERROR, "Runtime Error",
+                "A runtime error occurred: " + ex.getMessage(), getPath(request));
     }
 
     // Utility method to extract path from WebRequest
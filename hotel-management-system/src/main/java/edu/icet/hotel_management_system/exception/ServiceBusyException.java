@@ -0,0 +1,18 @@
+package edu.icet.hotel_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceBusyException extends RuntimeException {
+    private final String resourceName;
+
+    public ServiceBusyException(String resourceName) {
+        super(String.format("%s is busy, please retry shortly", resourceName));
+        this.resourceName = resourceName;
+    }
+
+    public String getResourceName() {
+        return resourceName;
+    }
+}
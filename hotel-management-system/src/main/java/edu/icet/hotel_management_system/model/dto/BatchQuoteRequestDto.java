@@ -0,0 +1,15 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchQuoteRequestDto {
+    @NotEmpty
+    @Size(max = 1000, message = "At most 1000 stays can be quoted per request")
+    private List<@Valid StayQuoteRequestDto> quotes;
+}
@@ -0,0 +1,20 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Quotes in request order. Each entry is the stay price of the cheapest free room of the
+ * requested type and that room's id, or null in both lists when none is free.
+ */
+@Data
+public class BatchQuoteResultDto {
+    private List<BigDecimal> totals = new ArrayList<>();
+    private List<Long> roomIds = new ArrayList<>();
+    private LocalDateTime ratesAsOf;
+    private long elapsedMicros;
+}
@@ -0,0 +1,14 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingTransitionOutcomeDto {
+    private Long bookingId;
+    private String previousStatus;
+    private String outcome; // TRANSITIONED, ALREADY_IN_STATUS, INVALID_TRANSITION, NOT_FOUND
+}
@@ -0,0 +1,18 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkStatusTransitionRequestDto {
+    @NotEmpty
+    @Size(max = 1000, message = "At most 1000 bookings can be transitioned per request")
+    private List<Long> bookingIds;
+
+    @NotBlank
+    private String targetStatus; // CONFIRMED, COMPLETED or CANCELLED
+}
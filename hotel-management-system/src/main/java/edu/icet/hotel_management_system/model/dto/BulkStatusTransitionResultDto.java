@@ -0,0 +1,14 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class BulkStatusTransitionResultDto {
+    private String targetStatus;
+    private int requested;
+    private int transitioned;
+    private List<BookingTransitionOutcomeDto> outcomes = new ArrayList<>();
+}
@@ -0,0 +1,14 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+@Data
+public class CacheRegionStatsDto {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio;
+    private long size;
+    private Long maximumSize;
+}
@@ -0,0 +1,17 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ItineraryDto {
+    // CHEAPEST or FEWEST_ROOMS
+    private String objective;
+    private BigDecimal totalPrice;
+    // Times the party changes rooms; 0 when one set of rooms covers the whole stay
+    private int moves;
+    private List<ItinerarySegmentDto> segments = new ArrayList<>();
+}
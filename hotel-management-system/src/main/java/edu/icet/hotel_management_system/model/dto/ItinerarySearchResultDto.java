@@ -0,0 +1,18 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ItinerarySearchResultDto {
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private int guests;
+    // False when the latency budget ran out before split stays were fully explored
+    private boolean complete;
+    private long elapsedMicros;
+    private List<ItineraryDto> itineraries = new ArrayList<>();
+}
@@ -0,0 +1,18 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ItinerarySegmentDto {
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private int nights;
+    private int capacity;
+    private BigDecimal totalPrice;
+    private List<RoomDto> rooms = new ArrayList<>();
+}
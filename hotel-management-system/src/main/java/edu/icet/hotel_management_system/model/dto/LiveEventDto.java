@@ -0,0 +1,17 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveEventDto {
+    private String type;
+    private Long bookingId;
+    private Long roomId;
+    private LocalDateTime occurredAt;
+}
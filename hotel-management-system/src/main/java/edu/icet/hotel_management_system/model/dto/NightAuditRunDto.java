@@ -0,0 +1,21 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+public class NightAuditRunDto {
+    private Long id;
+    private LocalDate businessDate;
+    private String status;
+    private String phase;
+    private Long lastProcessedId;
+    private int noShowCount;
+    private int completedCount;
+    private String owner;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
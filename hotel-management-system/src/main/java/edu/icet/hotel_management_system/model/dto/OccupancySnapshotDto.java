@@ -0,0 +1,17 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class OccupancySnapshotDto {
+    private LocalDate businessDate;
+    private long totalRooms;
+    private long occupiedRooms;
+    private long arrivals;
+    private long departures;
+    private long noShows;
+    private BigDecimal occupancyRate;
+}
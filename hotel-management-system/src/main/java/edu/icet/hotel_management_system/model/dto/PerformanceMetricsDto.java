@@ -0,0 +1,18 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+public class PerformanceMetricsDto {
+    private LocalDate date;
+    private String roomType;
+    private long roomNightsAvailable;
+    private long roomNightsSold;
+    private BigDecimal revenue;
+    private BigDecimal occupancyRate;
+    private BigDecimal adr;
+    private BigDecimal revpar;
+}
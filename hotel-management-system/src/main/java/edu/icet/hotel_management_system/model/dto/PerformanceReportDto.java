@@ -0,0 +1,16 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class PerformanceReportDto {
+    private LocalDate from;
+    private LocalDate to;
+    private String roomType;
+    private PerformanceMetricsDto total;
+    private List<PerformanceMetricsDto> daily = new ArrayList<>();
+}
@@ -0,0 +1,17 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PickupDto {
+    private LocalDate bookedOn;
+    private long roomNights;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,23 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+@Data
+public class PoolStatsDto {
+    private String name;
+    private String poolName;
+    private int maximumPoolSize;
+    private int minimumIdle;
+    private int activeConnections;
+    private int idleConnections;
+    private int totalConnections;
+    private int threadsAwaitingConnection;
+    private long acquisitions;
+    private long timeouts;
+    private double averageWaitMillis;
+    private double p99WaitMillis;
+    private double maxWaitMillis;
+    private double averageUsageMillis;
+    private Integer limiterAvailablePermits;
+    private Integer limiterWaiting;
+}
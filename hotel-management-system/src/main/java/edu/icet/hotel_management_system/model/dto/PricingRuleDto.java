@@ -0,0 +1,69 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Data
+@Schema(description = "Pricing rule: a multiplier on the room's base price")
+public class PricingRuleDto {
+
+    @Schema(description = "Rule ID", example = "1")
+    private Long id;
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    @Schema(description = "Rule name", example = "Summer high season")
+    private String name;
+
+    @NotBlank(message = "Kind is required")
+    @Schema(description = "Rule kind", example = "SEASON",
+            allowableValues = {"SEASON", "DAY_OF_WEEK", "LENGTH_OF_STAY", "OCCUPANCY"})
+    private String kind;
+
+    @Schema(description = "Room type the rule applies to; empty for every type", example = "Deluxe")
+    private String roomType;
+
+    @Schema(description = "First night of a SEASON rule", example = "2025-12-15")
+    private LocalDate startDate;
+
+    @Schema(description = "Last night of a SEASON rule", example = "2026-01-05")
+    private LocalDate endDate;
+
+    @Schema(description = "Nights a DAY_OF_WEEK rule applies to", example = "[\"FRIDAY\", \"SATURDAY\"]")
+    private Set<String> daysOfWeek = new LinkedHashSet<>();
+
+    @Min(value = 1, message = "Minimum nights must be at least 1")
+    @Schema(description = "Shortest stay a LENGTH_OF_STAY rule applies to", example = "7")
+    private Integer minNights;
+
+    @Min(value = 0, message = "Minimum occupancy must be between 0 and 100")
+    @Max(value = 100, message = "Minimum occupancy must be between 0 and 100")
+    @Schema(description = "Occupancy percentage from which an OCCUPANCY rule applies", example = "80")
+    private Integer minOccupancyPercent;
+
+    @NotNull(message = "Multiplier is required")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Multiplier must be greater than 0")
+    @DecimalMax(value = "10.0", message = "Multiplier must not exceed 10")
+    @Digits(integer = 2, fraction = 4, message = "Multiplier allows at most 4 decimals")
+    @Schema(description = "Price multiplier", example = "1.25")
+    private BigDecimal multiplier;
+
+    @Schema(description = "Among matching rules of the same kind, the highest priority applies", example = "0")
+    private int priority;
+
+    @Schema(description = "Inactive rules are kept but ignored", example = "true")
+    private boolean active = true;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class RateLimitPolicyStatsDto {
+    private String name;
+    private List<String> paths;
+    private int requests;
+    private String per;
+    private int burst;
+    private long allowed;
+    private long rejected;
+    private long clusterRequests;
+    private long clusterWindowCount;
+    private long clusterRejected;
+    private boolean clusterBlocked;
+}
@@ -0,0 +1,14 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class RateLimitStatsDto {
+    private boolean enabled;
+    private boolean clusterEnabled;
+    private long trackedKeys;
+    private long maxKeys;
+    private List<RateLimitPolicyStatsDto> policies;
+}
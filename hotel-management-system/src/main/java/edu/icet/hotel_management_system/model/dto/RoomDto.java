@@ -10,6 +10,8 @@ import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.List;
+import java.util.ArrayList;
 
 @Data
 @NoArgsConstructor
@@ -59,6 +61,14 @@ public class RoomDto {
             example = "[\"/uploads/rooms/room_1_image1.jpg\", \"/uploads/rooms/room_1_image2.jpg\"]")
     private Set<String> imageUrls = new HashSet<>();
 
+    @Schema(description = "Room images with thumbnail, card and full-size variant URLs, oldest first",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private List<RoomImageDto> imageVariants = new ArrayList<>();
+
+    @Schema(description = "Total price of the requested stay at current rates; set only when dates were given",
+            example = "450.00", accessMode = Schema.AccessMode.READ_ONLY)
+    private BigDecimal stayPrice;
+
     // Additional computed fields
     @Schema(description = "Number of available amenities", accessMode = Schema.AccessMode.READ_ONLY)
     public int getAmenityCount() {
@@ -0,0 +1,19 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class RoomFacetResultDto {
+    private int matchingRooms;
+    private List<RoomDto> rooms = new ArrayList<>();
+    // facet name (amenity, type, priceBand, capacity) -> value -> matching rooms
+    private Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+    private LocalDateTime catalogueAsOf;
+    private long elapsedMicros;
+}
@@ -0,0 +1,28 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Room image with its resized variants. Until the variants are ready, or if they could not be "
+        + "generated, every variant URL points at the original.")
+public class RoomImageDto {
+
+    @Schema(description = "Image ID", example = "12")
+    private Long id;
+
+    @Schema(description = "Variant generation status", example = "READY", allowableValues = {"PENDING", "READY", "FAILED"})
+    private String status;
+
+    @Schema(description = "Original upload", example = "/uploads/rooms/originals/3f/3f9a....jpg")
+    private String originalUrl;
+
+    @Schema(description = "Thumbnail, at most 160px on the long side", example = "/uploads/rooms/variants/3f/3f9a...-thumbnail.jpg")
+    private String thumbnailUrl;
+
+    @Schema(description = "Listing card image, at most 480px", example = "/uploads/rooms/variants/3f/3f9a...-card.jpg")
+    private String cardUrl;
+
+    @Schema(description = "Detail page image, at most 1600px", example = "/uploads/rooms/variants/3f/3f9a...-full.jpg")
+    private String fullUrl;
+}
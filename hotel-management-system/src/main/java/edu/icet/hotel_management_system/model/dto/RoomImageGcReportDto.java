@@ -0,0 +1,19 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class RoomImageGcReportDto {
+    private boolean complete;
+    private String owner;
+    private long scannedBlobs;
+    private long orphanBlobs;
+    private long deletedBlobs;
+    private long failedDeletes;
+    private long reclaimedBytes;
+    private long deletedTempFiles;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,18 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class SecondLevelCacheStatsDto {
+    private Instant since;
+    private long prepareStatementCount;
+    private long entityLoadCount;
+    private long collectionLoadCount;
+    private long secondLevelCacheHitCount;
+    private long secondLevelCacheMissCount;
+    private List<CacheRegionStatsDto> regions = new ArrayList<>();
+}
@@ -0,0 +1,14 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class SnapshotGroupDto {
+    private String key;
+    private long bookings;
+    private long roomNights;
+    private BigDecimal revenue;
+    private BigDecimal paid;
+}
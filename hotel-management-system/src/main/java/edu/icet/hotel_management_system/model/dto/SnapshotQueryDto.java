@@ -0,0 +1,21 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class SnapshotQueryDto {
+    @NotBlank(message = "Group by dimension is required")
+    private String groupBy; // ROOM_TYPE, STATUS, PRICE_BAND, LEAD_TIME, GUESTS, CHECK_IN_MONTH, PAYMENT_METHOD
+
+    private LocalDate checkInFrom;
+    private LocalDate checkInTo;
+    private String roomType;
+    private String status;
+    private Integer minGuests;
+    private Integer maxGuests;
+    private Integer minLeadDays;
+    private Integer maxLeadDays;
+}
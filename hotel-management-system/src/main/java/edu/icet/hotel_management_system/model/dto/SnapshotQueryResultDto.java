@@ -0,0 +1,17 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class SnapshotQueryResultDto {
+    private String groupBy;
+    private LocalDateTime snapshotAsOf;
+    private long rowsScanned;
+    private long rowsMatched;
+    private long elapsedMicros;
+    private List<SnapshotGroupDto> groups = new ArrayList<>();
+}
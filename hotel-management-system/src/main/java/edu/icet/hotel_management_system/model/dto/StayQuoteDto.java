@@ -0,0 +1,24 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class StayQuoteDto {
+    private Long roomId;
+    private String roomType;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private int nights;
+    private BigDecimal baseRate;
+    // Rate for each night before the length-of-stay multiplier
+    private Map<LocalDate, BigDecimal> nightlyRates = new LinkedHashMap<>();
+    private BigDecimal lengthOfStayMultiplier;
+    private BigDecimal totalPrice;
+    private LocalDateTime ratesAsOf;
+}
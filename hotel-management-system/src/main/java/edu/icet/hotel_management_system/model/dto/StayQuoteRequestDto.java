@@ -0,0 +1,20 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class StayQuoteRequestDto {
+    @NotBlank
+    private String roomType;
+
+    @NotNull
+    private LocalDate checkInDate;
+
+    @Min(value = 1, message = "Nights must be at least 1")
+    private int nights;
+}
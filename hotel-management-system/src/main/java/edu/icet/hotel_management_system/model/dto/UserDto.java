@@ -13,6 +13,4 @@ public class UserDto {
     private String address;
     private String role; // String to match ERole enum values (e.g., "USER", "ADMIN")
     private boolean enabled;
-    private String verificationToken;
-    private String resetToken;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+@Data
+public class UserSearchHitDto {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String role;
+    private boolean enabled;
+    private double score;
+}
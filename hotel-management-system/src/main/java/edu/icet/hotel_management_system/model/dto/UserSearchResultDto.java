@@ -0,0 +1,15 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class UserSearchResultDto {
+    private String query;
+    private int page;
+    private int size;
+    private boolean hasMore;
+    private List<UserSearchHitDto> results = new ArrayList<>();
+}
@@ -0,0 +1,16 @@
+package edu.icet.hotel_management_system.model.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+public class UserStatsDto {
+    private long totalUsers;
+    private long enabledUsers;
+    private long activeCustomers;
+    private Map<String, Long> usersByRole = new LinkedHashMap<>();
+    private LocalDateTime asOf;
+}
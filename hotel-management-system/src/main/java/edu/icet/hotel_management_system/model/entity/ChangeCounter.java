@@ -0,0 +1,25 @@
+package edu.icet.hotel_management_system.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "change_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeCounter {
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
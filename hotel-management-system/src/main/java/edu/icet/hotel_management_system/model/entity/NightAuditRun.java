@@ -0,0 +1,51 @@
+package edu.icet.hotel_management_system.model.entity;
+
+import edu.icet.hotel_management_system.model.entity.enums.NightAuditPhase;
+import edu.icet.hotel_management_system.model.entity.enums.NightAuditStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "night_audit_runs")
+@Data
+@NoArgsConstructor
+public class NightAuditRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private LocalDate businessDate;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private NightAuditStatus status = NightAuditStatus.IN_PROGRESS;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private NightAuditPhase phase = NightAuditPhase.NO_SHOWS;
+
+    // Checkpoint within the current phase
+    @Column(nullable = false)
+    private Long lastProcessedId = 0L;
+
+    private int noShowCount;
+    private int completedCount;
+
+    private String owner;
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,39 @@
+package edu.icet.hotel_management_system.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "occupancy_snapshots")
+@Data
+@NoArgsConstructor
+public class OccupancySnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private LocalDate businessDate;
+
+    private long totalRooms;
+    private long occupiedRooms;
+    private long arrivals;
+    private long departures;
+    private long noShows;
+
+    @Column(precision = 5, scale = 2)
+    private BigDecimal occupancyRate;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
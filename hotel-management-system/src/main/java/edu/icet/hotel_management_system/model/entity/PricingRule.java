@@ -0,0 +1,69 @@
+package edu.icet.hotel_management_system.model.entity;
+
+import edu.icet.hotel_management_system.model.entity.enums.PricingRuleKind;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Multiplier applied to a room's base price. For each kind, the one matching rule with
+ * the highest priority applies; the chosen rules of different kinds multiply together.
+ */
+@Entity
+@Table(name = "pricing_rules")
+@Data
+@NoArgsConstructor
+public class PricingRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 32)
+    private PricingRuleKind kind;
+
+    // Null applies to every room type
+    @Column(name = "room_type")
+    private String roomType;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // Comma separated DayOfWeek names
+    @Column(name = "days_of_week", length = 64)
+    private String daysOfWeek;
+
+    @Column(name = "min_nights")
+    private Integer minNights;
+
+    @Column(name = "min_occupancy_percent")
+    private Integer minOccupancyPercent;
+
+    @Column(nullable = false, precision = 6, scale = 4)
+    private BigDecimal multiplier;
+
+    @Column(nullable = false)
+    private int priority;
+
+    @Column(nullable = false)
+    private boolean active = true;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -2,6 +2,8 @@ package edu.icet.hotel_management_system.model.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.util.HashSet;
 import java.util.Set;
@@ -9,6 +11,7 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "rooms")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rooms")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,15 +40,22 @@ public class Room {
     @Column(nullable = false)
     private boolean available = true;
 
+    // Also bumped when the room's images change, so it can serve as the room's ETag
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "room_amenities", joinColumns = @JoinColumn(name = "room_id"))
     @Column(name = "amenity")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rooms.amenities")
     private Set<String> amenities = new HashSet<>();
 
     @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Booking> bookings = new HashSet<>();
 
     @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rooms.images")
     private Set<RoomImage> images = new HashSet<>();
 
     // Custom equals and hashCode methods excluding relationship fields
@@ -1,12 +1,19 @@
 
 package edu.icet.hotel_management_system.model.entity;
 
+import edu.icet.hotel_management_system.model.entity.enums.RoomImageStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.util.Objects;
 
 @Entity
 @Table(name = "room_images")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "room-images")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,9 +24,34 @@ public class RoomImage {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // URL of the original upload
     @Column(nullable = false)
     private String imageUrl;
 
+    // SHA-256 of the original; null for images uploaded before content addressing
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "content_type", length = 32)
+    private String contentType;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private RoomImageStatus status = RoomImageStatus.READY;
+
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "card_url")
+    private String cardUrl;
+
+    @Column(name = "full_url")
+    private String fullUrl;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id")
     private Room room;
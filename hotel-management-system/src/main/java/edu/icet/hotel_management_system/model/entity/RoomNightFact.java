@@ -0,0 +1,52 @@
+package edu.icet.hotel_management_system.model.entity;
+
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row per booked room per night, kept in step with bookings for reporting.
+ */
+@Entity
+@Table(name = "room_night_fact",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rnf_booking_night", columnNames = {"booking_id", "night"}),
+        indexes = {
+                @Index(name = "idx_rnf_night_type_status", columnList = "night, room_type, status"),
+                @Index(name = "idx_rnf_booked_on_night", columnList = "booked_on, night")
+        })
+@Data
+@NoArgsConstructor
+public class RoomNightFact {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(nullable = false)
+    private LocalDate night;
+
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
+    private BookingStatus status;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal rate;
+
+    @Column(name = "room_type", nullable = false)
+    private String roomType;
+
+    @Column(name = "booked_on", nullable = false)
+    private LocalDate bookedOn;
+}
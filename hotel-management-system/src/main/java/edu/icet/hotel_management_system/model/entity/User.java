@@ -2,6 +2,8 @@ package edu.icet.hotel_management_system.model.entity;
 
 import edu.icet.hotel_management_system.model.entity.enums.ERole;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -37,14 +39,16 @@ public class User implements UserDetails {
     private String address;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private ERole role = ERole.USER;
 
     @Column(nullable = false)
     private boolean enabled = false;
 
-    private String verificationToken;
-    private String resetToken;
+    @Version
+    @Column(nullable = false)
+    private long version;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -1,8 +1,47 @@
 package edu.icet.hotel_management_system.model.entity.enums;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum BookingStatus {
     PENDING,
     CONFIRMED,
     CANCELLED,
-    COMPLETED
+    COMPLETED,
+    NO_SHOW;
+
+    // Allowed status transitions (source -> targets)
+    private static final Map<BookingStatus, Set<BookingStatus>> TRANSITIONS = new EnumMap<>(BookingStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(CONFIRMED, CANCELLED, NO_SHOW));
+        TRANSITIONS.put(CONFIRMED, EnumSet.of(COMPLETED, CANCELLED, NO_SHOW));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(BookingStatus.class));
+        TRANSITIONS.put(COMPLETED, EnumSet.noneOf(BookingStatus.class));
+        TRANSITIONS.put(NO_SHOW, EnumSet.noneOf(BookingStatus.class));
+    }
+
+    public boolean canTransitionTo(BookingStatus target) {
+        return TRANSITIONS.get(this).contains(target);
+    }
+
+    public Set<BookingStatus> allowedTargets() {
+        return Collections.unmodifiableSet(TRANSITIONS.get(this));
+    }
+
+    /**
+     * Statuses from which a booking may move to the given target status
+     */
+    public static Set<BookingStatus> sourcesOf(BookingStatus target) {
+        Set<BookingStatus> sources = EnumSet.noneOf(BookingStatus.class);
+        TRANSITIONS.forEach((source, targets) -> {
+            if (targets.contains(target)) {
+                sources.add(source);
+            }
+        });
+        return sources;
+    }
 }
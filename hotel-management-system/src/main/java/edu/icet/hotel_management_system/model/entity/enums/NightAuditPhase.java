@@ -0,0 +1,8 @@
+package edu.icet.hotel_management_system.model.entity.enums;
+
+public enum NightAuditPhase {
+    NO_SHOWS,
+    DEPARTURES,
+    SNAPSHOT,
+    DONE
+}
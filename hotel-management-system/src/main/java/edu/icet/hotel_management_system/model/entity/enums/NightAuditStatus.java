@@ -0,0 +1,7 @@
+package edu.icet.hotel_management_system.model.entity.enums;
+
+public enum NightAuditStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,12 @@
+package edu.icet.hotel_management_system.model.entity.enums;
+
+public enum PricingRuleKind {
+    // Date range, e.g. high season
+    SEASON,
+    // Selected days of the week, e.g. Friday and Saturday nights
+    DAY_OF_WEEK,
+    // Stays of at least minNights
+    LENGTH_OF_STAY,
+    // Nights on which at least minOccupancyPercent of bookable rooms are taken
+    OCCUPANCY
+}
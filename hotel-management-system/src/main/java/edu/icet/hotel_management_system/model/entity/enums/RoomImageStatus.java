@@ -0,0 +1,7 @@
+package edu.icet.hotel_management_system.model.entity.enums;
+
+public enum RoomImageStatus {
+    PENDING,   // Original stored, variants not generated yet
+    READY,     // Variants available (or a legacy image served as uploaded)
+    FAILED     // Variants could not be generated; the original is served instead
+}
@@ -0,0 +1,6 @@
+package edu.icet.hotel_management_system.model.entity.enums;
+
+public enum TokenPurpose {
+    EMAIL_VERIFICATION,
+    PASSWORD_RESET
+}
@@ -3,12 +3,20 @@ package edu.icet.hotel_management_system.repository;
 
 import edu.icet.hotel_management_system.model.entity.Booking;
 import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -21,4 +29,116 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b WHERE b.checkInDate BETWEEN :startDate AND :endDate OR b.checkOutDate BETWEEN :startDate AND :endDate")
     List<Booking> findBookingsBetweenDates(@Param("startDate") LocalDate startDate,
                                            @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+
+    // Versions of everything BookingDto embeds
+    @Query("SELECT b.version AS bookingVersion, r.version AS roomVersion, u.version AS userVersion " +
+            "FROM Booking b LEFT JOIN b.room r LEFT JOIN b.user u WHERE b.id = :id")
+    Optional<VersionView> findVersionsById(@Param("id") Long id);
+
+    interface VersionView {
+        Long getBookingVersion();
+        Long getRoomVersion();
+        Long getUserVersion();
+    }
+
+    // Bulk status transitions
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b.id AS id, b.status AS status, b.version AS version FROM Booking b WHERE b.id IN :ids ORDER BY b.id")
+    List<StatusView> findStatusesByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :target, b.updatedAt = :now, b.version = b.version + 1 WHERE b.id IN :ids AND b.version = :version")
+    int updateStatusIfVersion(@Param("ids") Collection<Long> ids,
+                              @Param("version") long version,
+                              @Param("target") BookingStatus target,
+                              @Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT b FROM Booking b JOIN FETCH b.user JOIN FETCH b.room WHERE b.id IN :ids")
+    List<Booking> findWithUserAndRoomByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Night audit
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status AND b.checkInDate <= :date AND b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsByStatusCheckingInBy(@Param("status") BookingStatus status,
+                                           @Param("date") LocalDate date,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.status = :status AND b.checkOutDate <= :date AND b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsByStatusCheckingOutBy(@Param("status") BookingStatus status,
+                                            @Param("date") LocalDate date,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+
+    @Query("SELECT COUNT(DISTINCT b.room.id) FROM Booking b WHERE b.checkInDate <= :date AND b.checkOutDate > :date AND b.status IN :statuses")
+    long countOccupiedRoomsOnNight(@Param("date") LocalDate date,
+                                   @Param("statuses") Collection<BookingStatus> statuses);
+
+    long countByCheckInDateAndStatusIn(LocalDate checkInDate, Collection<BookingStatus> statuses);
+
+    long countByCheckOutDateAndStatusIn(LocalDate checkOutDate, Collection<BookingStatus> statuses);
+
+    @Query("SELECT b FROM Booking b JOIN FETCH b.room WHERE b.id > :afterId ORDER BY b.id")
+    List<Booking> findWithRoomAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT b.id FROM Booking b WHERE b.id > :afterId ORDER BY b.id")
+    List<Long> findIdsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Columnar analytics snapshot
+    String SNAPSHOT_ROW_SELECT = "SELECT b.id AS id, b.checkInDate AS checkInDate, b.checkOutDate AS checkOutDate, " +
+            "b.numberOfGuests AS numberOfGuests, b.totalPrice AS totalPrice, b.status AS status, " +
+            "b.createdAt AS createdAt, r.type AS roomType FROM Booking b JOIN b.room r ";
+
+    @Query(SNAPSHOT_ROW_SELECT + "WHERE b.id > :afterId ORDER BY b.id")
+    List<SnapshotRow> findSnapshotRowsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(SNAPSHOT_ROW_SELECT + "WHERE b.updatedAt > :since")
+    List<SnapshotRow> findSnapshotRowsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query(SNAPSHOT_ROW_SELECT + "WHERE b.id IN :ids")
+    List<SnapshotRow> findSnapshotRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface SnapshotRow {
+        Long getId();
+        LocalDate getCheckInDate();
+        LocalDate getCheckOutDate();
+        int getNumberOfGuests();
+        BigDecimal getTotalPrice();
+        BookingStatus getStatus();
+        LocalDateTime getCreatedAt();
+        String getRoomType();
+    }
+
+    // Room facet availability calendar
+    String STAY_ROW_SELECT = "SELECT b.id AS id, b.room.id AS roomId, b.checkInDate AS checkInDate, " +
+            "b.checkOutDate AS checkOutDate, b.status AS status FROM Booking b ";
+
+    @Query(STAY_ROW_SELECT + "WHERE b.status IN :statuses AND b.checkOutDate >= :from")
+    List<StayRow> findStayRowsByStatusInEndingFrom(@Param("statuses") Collection<BookingStatus> statuses,
+                                                    @Param("from") LocalDate from);
+
+    @Query(STAY_ROW_SELECT + "WHERE b.id IN :ids")
+    List<StayRow> findStayRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface StayRow {
+        Long getId();
+        Long getRoomId();
+        LocalDate getCheckInDate();
+        LocalDate getCheckOutDate();
+        BookingStatus getStatus();
+    }
+
+    @Query("SELECT b.id AS id, b.room.id AS roomId, b.user.id AS userId FROM Booking b WHERE b.id IN :ids")
+    List<OwnerView> findOwnersByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface OwnerView {
+        Long getId();
+        Long getRoomId();
+        Long getUserId();
+    }
+
+    interface StatusView {
+        Long getId();
+        BookingStatus getStatus();
+        long getVersion();
+    }
+}
@@ -0,0 +1,38 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.ChangeCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface ChangeCounterRepository extends JpaRepository<ChangeCounter, String> {
+
+    @Query("SELECT c.value FROM ChangeCounter c WHERE c.name = :name")
+    Optional<Long> findValueByName(@Param("name") String name);
+
+    // Without a query space Hibernate treats a native write as touching every table and clears the whole L2 cache
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "change_counters"))
+    @Query(value = "INSERT INTO change_counters (name, counter_value, updated_at) VALUES (:name, 1, :now) " +
+            "ON DUPLICATE KEY UPDATE counter_value = counter_value + 1, updated_at = :now", nativeQuery = true)
+    int increment(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "change_counters"))
+    @Query(value = "INSERT INTO change_counters (name, counter_value, updated_at) VALUES (:name, :delta, :now) " +
+            "ON DUPLICATE KEY UPDATE counter_value = counter_value + :delta, updated_at = :now", nativeQuery = true)
+    int incrementBy(@Param("name") String name, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM ChangeCounter c WHERE c.name LIKE :prefix% AND c.updatedAt < :before")
+    int deleteByPrefixUpdatedBefore(@Param("prefix") String prefix, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,19 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.NightAuditRun;
+import edu.icet.hotel_management_system.model.entity.enums.NightAuditStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NightAuditRunRepository extends JpaRepository<NightAuditRun, Long> {
+    Optional<NightAuditRun> findByBusinessDate(LocalDate businessDate);
+    List<NightAuditRun> findByStatusNotAndBusinessDateLessThanEqualOrderByBusinessDate(NightAuditStatus status,
+                                                                                      LocalDate businessDate);
+    List<NightAuditRun> findByStatusAndBusinessDateBetween(NightAuditStatus status, LocalDate from, LocalDate to);
+    Optional<NightAuditRun> findTopByOrderByBusinessDateAsc();
+}
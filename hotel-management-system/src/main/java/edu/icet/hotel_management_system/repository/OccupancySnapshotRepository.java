@@ -0,0 +1,15 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.OccupancySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OccupancySnapshotRepository extends JpaRepository<OccupancySnapshot, Long> {
+    Optional<OccupancySnapshot> findByBusinessDate(LocalDate businessDate);
+    List<OccupancySnapshot> findByBusinessDateBetweenOrderByBusinessDate(LocalDate from, LocalDate to);
+}
@@ -2,9 +2,15 @@ package edu.icet.hotel_management_system.repository;
 
 import edu.icet.hotel_management_system.model.entity.Payment;
 import edu.icet.hotel_management_system.model.entity.enums.PaymentStatus;
+import edu.icet.hotel_management_system.model.entity.enums.PaymentMethod;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +20,19 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByStatus(PaymentStatus status);
     List<Payment> findByTransactionId(String transactionId);
     Optional<Payment> findByStripePaymentIntentId(String stripePaymentIntentId);
+
+    // Columnar analytics snapshot
+    @Query("SELECT p.booking.id AS bookingId, p.amount AS amount, p.status AS status, p.method AS method " +
+            "FROM Payment p WHERE p.booking.id IN :bookingIds ORDER BY p.id")
+    List<SnapshotRow> findSnapshotRowsByBookingIdIn(@Param("bookingIds") Collection<Long> bookingIds);
+
+    @Query("SELECT DISTINCT p.booking.id FROM Payment p WHERE p.updatedAt > :since")
+    List<Long> findBookingIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    interface SnapshotRow {
+        Long getBookingId();
+        BigDecimal getAmount();
+        PaymentStatus getStatus();
+        PaymentMethod getMethod();
+    }
 }
@@ -0,0 +1,14 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.PricingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
+    List<PricingRule> findByActiveTrue();
+
+    List<PricingRule> findAllByOrderByKindAscPriorityDescIdAsc();
+}
@@ -0,0 +1,38 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.RoomImage;
+import edu.icet.hotel_management_system.model.entity.enums.RoomImageStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RoomImageRepository extends JpaRepository<RoomImage, Long> {
+    long countByContentHash(String contentHash);
+
+    @Query("SELECT DISTINCT i.contentHash FROM RoomImage i WHERE i.contentHash IN :hashes")
+    List<String> findReferencedContentHashes(@Param("hashes") Collection<String> hashes);
+
+    List<RoomImage> findTop100ByStatusOrderByIdAsc(RoomImageStatus status);
+
+    @Query("SELECT i.room.id FROM RoomImage i WHERE i.id = :id")
+    Optional<Long> findRoomIdById(@Param("id") Long id);
+
+    // Guarded on PENDING so a worker never resurrects or overwrites an image changed meanwhile
+    @Transactional
+    @Modifying
+    @Query("UPDATE RoomImage i SET i.status = :status, i.thumbnailUrl = :thumbnailUrl, i.cardUrl = :cardUrl, " +
+            "i.fullUrl = :fullUrl WHERE i.id = :id AND i.status = edu.icet.hotel_management_system.model.entity.enums.RoomImageStatus.PENDING")
+    int completeVariants(@Param("id") Long id,
+                         @Param("status") RoomImageStatus status,
+                         @Param("thumbnailUrl") String thumbnailUrl,
+                         @Param("cardUrl") String cardUrl,
+                         @Param("fullUrl") String fullUrl);
+}
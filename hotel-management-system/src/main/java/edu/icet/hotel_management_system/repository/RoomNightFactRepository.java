@@ -0,0 +1,65 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.RoomNightFact;
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RoomNightFactRepository extends JpaRepository<RoomNightFact, Long> {
+
+    @Modifying
+    @Query("DELETE FROM RoomNightFact f WHERE f.bookingId = :bookingId")
+    int deleteByBookingId(@Param("bookingId") Long bookingId);
+
+    @Modifying
+    @Query("DELETE FROM RoomNightFact f WHERE f.bookingId > :afterId AND f.bookingId <= :upToId")
+    int deleteByBookingIdRange(@Param("afterId") Long afterId, @Param("upToId") Long upToId);
+
+    @Modifying
+    @Query("UPDATE RoomNightFact f SET f.status = :status WHERE f.bookingId IN :bookingIds")
+    int updateStatusByBookingIds(@Param("bookingIds") Collection<Long> bookingIds,
+                                 @Param("status") BookingStatus status);
+
+    @Query("SELECT f.night AS night, f.roomType AS roomType, COUNT(f) AS roomNights, SUM(f.rate) AS revenue " +
+            "FROM RoomNightFact f WHERE f.night BETWEEN :from AND :to AND f.status IN :statuses " +
+            "AND (:roomType IS NULL OR f.roomType = :roomType) " +
+            "GROUP BY f.night, f.roomType")
+    List<NightlyTotals> sumByNightAndRoomType(@Param("from") LocalDate from,
+                                              @Param("to") LocalDate to,
+                                              @Param("statuses") Collection<BookingStatus> statuses,
+                                              @Param("roomType") String roomType);
+
+    @Query("SELECT f.bookedOn AS bookedOn, COUNT(f) AS roomNights, SUM(f.rate) AS revenue " +
+            "FROM RoomNightFact f WHERE f.night BETWEEN :stayFrom AND :stayTo " +
+            "AND f.bookedOn BETWEEN :bookedFrom AND :bookedTo AND f.status IN :statuses " +
+            "AND (:roomType IS NULL OR f.roomType = :roomType) " +
+            "GROUP BY f.bookedOn ORDER BY f.bookedOn")
+    List<PickupTotals> sumByBookedOn(@Param("stayFrom") LocalDate stayFrom,
+                                     @Param("stayTo") LocalDate stayTo,
+                                     @Param("bookedFrom") LocalDate bookedFrom,
+                                     @Param("bookedTo") LocalDate bookedTo,
+                                     @Param("statuses") Collection<BookingStatus> statuses,
+                                     @Param("roomType") String roomType);
+
+    interface NightlyTotals {
+        LocalDate getNight();
+        String getRoomType();
+        Long getRoomNights();
+        BigDecimal getRevenue();
+    }
+
+    interface PickupTotals {
+        LocalDate getBookedOn();
+        Long getRoomNights();
+        BigDecimal getRevenue();
+    }
+}
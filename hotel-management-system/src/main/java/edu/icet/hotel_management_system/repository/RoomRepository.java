@@ -3,9 +3,11 @@ package edu.icet.hotel_management_system.repository;
 import edu.icet.hotel_management_system.model.entity.Room;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -25,4 +27,21 @@ public interface RoomRepository extends JpaRepository<Room, Long>, JpaSpecificat
             "AND b.status IN ('CONFIRMED', 'PENDING'))")
     List<Room> findAvailableRoomsForDates(@Param("checkInDate") LocalDate checkInDate,
                                           @Param("checkOutDate") LocalDate checkOutDate);
+
+    @Query("SELECT r.version FROM Room r WHERE r.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Image rows are not part of the room's own state, so image changes bump the version here
+    @Transactional
+    @Modifying
+    @Query("UPDATE Room r SET r.version = r.version + 1 WHERE r.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Query("SELECT r.type AS type, COUNT(r) AS rooms FROM Room r GROUP BY r.type")
+    List<TypeCount> countRoomsByType();
+
+    interface TypeCount {
+        String getType();
+        Long getRooms();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.SchedulerLease;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // Claims an expired lease or renews one we already hold
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.leaseUntil = :until " +
+            "WHERE l.name = :name AND (l.owner = :owner OR l.leaseUntil < :now)")
+    int tryClaim(@Param("name") String name,
+                 @Param("owner") String owner,
+                 @Param("until") LocalDateTime until,
+                 @Param("now") LocalDateTime now);
+
+    // Plain INSERT so a concurrent claim fails on the primary key instead of being merged over;
+    // the query space keeps it from clearing the second-level cache
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scheduler_leases"))
+    @Query(value = "INSERT INTO scheduler_leases (name, owner, lease_until) VALUES (:name, :owner, :until)",
+            nativeQuery = true)
+    int insertLease(@Param("name") String name,
+                    @Param("owner") String owner,
+                    @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leaseUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now);
+}
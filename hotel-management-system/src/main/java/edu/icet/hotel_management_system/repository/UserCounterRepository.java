@@ -0,0 +1,36 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.UserCounter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UserCounterRepository extends JpaRepository<UserCounter, String> {
+
+    // Runs in the caller's transaction, so the counter commits or rolls back with the user change.
+    // The query space keeps Hibernate from clearing the whole second-level cache after it
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_counters"))
+    @Query(value = "INSERT INTO user_counters (name, counter_value, updated_at) VALUES (:name, :delta, :now) " +
+            "ON DUPLICATE KEY UPDATE counter_value = counter_value + :delta, updated_at = :now", nativeQuery = true)
+    int increment(@Param("name") String name, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_counters"))
+    @Query(value = "INSERT INTO user_counters (name, counter_value, updated_at) VALUES (:name, :value, :now) " +
+            "ON DUPLICATE KEY UPDATE counter_value = :value, updated_at = :now", nativeQuery = true)
+    int set(@Param("name") String name, @Param("value") long value, @Param("now") LocalDateTime now);
+
+    // Locking read: holds off concurrent increments while a recount runs
+    @Query(value = "SELECT * FROM user_counters FOR UPDATE", nativeQuery = true)
+    List<UserCounter> findAllForUpdate();
+}
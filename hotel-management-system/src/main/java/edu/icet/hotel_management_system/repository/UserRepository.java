@@ -2,8 +2,10 @@ package edu.icet.hotel_management_system.repository;
 
 import edu.icet.hotel_management_system.model.entity.User;
 import edu.icet.hotel_management_system.model.entity.enums.ERole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -12,8 +14,6 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-    User findByVerificationToken(String token);
-    User findByResetToken(String token);
 
     // Fixed method signatures
     List<User> findByRole(ERole role);
@@ -22,4 +22,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT COUNT(u) FROM User u WHERE u.enabled = true AND u.role = 'USER'")
     long countActiveCustomers();
+
+    @Query("SELECT u.role AS role, u.enabled AS enabled, COUNT(u) AS users FROM User u GROUP BY u.role, u.enabled")
+    List<RoleEnabledCount> countByRoleAndEnabled();
+
+    @Query("SELECT u.id AS id, u.firstName AS firstName, u.lastName AS lastName, u.email AS email, " +
+            "u.phone AS phone FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<SearchRow> findSearchRowsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface SearchRow {
+        Long getId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        String getPhone();
+    }
+
+    interface RoleEnabledCount {
+        ERole getRole();
+        boolean getEnabled();
+        long getUsers();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.UserToken;
+import edu.icet.hotel_management_system.model.entity.enums.TokenPurpose;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface UserTokenRepository extends JpaRepository<UserToken, Long> {
+
+    @Query("SELECT t FROM UserToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash AND t.purpose = :purpose")
+    Optional<UserToken> findWithUserByTokenHash(@Param("tokenHash") String tokenHash,
+                                                @Param("purpose") TokenPurpose purpose);
+
+    @Modifying
+    @Query("DELETE FROM UserToken t WHERE t.user.id = :userId AND t.purpose = :purpose")
+    int deleteByUserIdAndPurpose(@Param("userId") Long userId, @Param("purpose") TokenPurpose purpose);
+
+    // Bounded so a large backlog is purged in short transactions instead of one long lock.
+    // Native, so the query space tells Hibernate only user_tokens changed
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_tokens"))
+    @Query(value = "DELETE FROM user_tokens WHERE expires_at < :now LIMIT :batchSize", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,30 @@
+package edu.icet.hotel_management_system.security;
+
+import edu.icet.hotel_management_system.exception.ErrorResponseRenderer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 403 for requests the filter chain turns away, with the body GlobalExceptionHandler gives
+ * denials raised inside controllers.
+ */
+@Component
+public class JwtAccessDeniedHandler implements AccessDeniedHandler {
+
+    @Autowired
+    private ErrorResponseRenderer errorResponseRenderer;
+
+    @Override
+    public void handle(HttpServletRequest request,
+                       HttpServletResponse response,
+                       AccessDeniedException accessDeniedException) throws IOException {
+
+        errorResponseRenderer.writeForbidden(request.getRequestURI(), response);
+    }
+}
@@ -61,6 +61,17 @@ public class JwtTokenProvider {
         return claims.getSubject();
     }
 
+    /**
+     * The token's subject if it is valid, otherwise null; one parse instead of validate then read.
+     */
+    public String getUsernameIfValid(String token) {
+        try {
+            return getUsernameFromJWT(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
     public boolean validateToken(String token) {
         try {
             Jwts.parserBuilder()
@@ -56,6 +56,24 @@ public class PermissionEvaluationService {
         return rolePermissionService.hasAnyPermission(user.getRole(), permissions);
     }
 
+    /**
+     * Check if current user may move bookings to the given status
+     */
+    public boolean canTransitionBookings(String targetStatus) {
+        String status = targetStatus != null ? targetStatus.toUpperCase() : "";
+        switch (status) {
+            case "CONFIRMED":
+                return hasPermission(RolePermissionService.Permissions.CONFIRM_BOOKING);
+            case "COMPLETED":
+                return hasPermission(RolePermissionService.Permissions.COMPLETE_BOOKING);
+            case "CANCELLED":
+                return hasPermission(RolePermissionService.Permissions.CANCEL_BOOKING);
+            default:
+                // Unsupported targets are rejected by the service with a 400
+                return hasPermission(RolePermissionService.Permissions.UPDATE_BOOKING);
+        }
+    }
+
     /**
      * Check if current user can access resource owned by specific user
      */
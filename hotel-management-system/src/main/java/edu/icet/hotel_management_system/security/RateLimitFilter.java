@@ -0,0 +1,70 @@
+package edu.icet.hotel_management_system.security;
+
+import edu.icet.hotel_management_system.exception.ErrorResponseRenderer;
+import edu.icet.hotel_management_system.service.RateLimitService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+
+/**
+ * Turns away requests over their rate limit with a 429 before JwtAuthFilter loads the user.
+ * Requests carrying a valid token are charged to the user, all others to the client address.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private ErrorResponseRenderer errorResponseRenderer;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitService.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        String clientKey = clientKey(request);
+        RateLimitService.Rejection rejection = rateLimitService.check(request.getMethod(), path, clientKey);
+        if (rejection != null) {
+            logger.debug("Rate limit {} exceeded by {} on {}", rejection.policy(), clientKey, path);
+            errorResponseRenderer.writeTooManyRequests(request.getRequestURI(), rejection.retryAfterSeconds(), response);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            // An invalid token falls back to the address, so made-up tokens buy no extra requests
+            String username = tokenProvider.getUsernameIfValid(bearerToken.substring(7));
+            if (username != null) {
+                return "user:" + username;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,15 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.model.dto.PerformanceMetricsDto;
+import edu.icet.hotel_management_system.model.dto.PerformanceReportDto;
+import edu.icet.hotel_management_system.model.dto.PickupDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AnalyticsService {
+    PerformanceReportDto getPerformance(LocalDate from, LocalDate to, String roomType);
+    List<PerformanceMetricsDto> getPerformanceByRoomType(LocalDate from, LocalDate to);
+    List<PickupDto> getPickup(LocalDate stayFrom, LocalDate stayTo, LocalDate bookedFrom, LocalDate bookedTo, String roomType);
+    int rebuildFacts();
+}
@@ -0,0 +1,127 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.model.dto.BatchQuoteResultDto;
+import edu.icet.hotel_management_system.model.dto.RoomDto;
+import edu.icet.hotel_management_system.model.dto.StayQuoteRequestDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Prices many (room type, check-in, nights) stays in one request, for price calendars and
+ * comparison views, from the in-memory catalogue and stay calendar kept by
+ * {@link RoomFacetService}.
+ *
+ * Each requested room type is scanned once over the window the batch spans: every room
+ * gets the length of the free run starting on each day, and the type keeps the longest
+ * run per day. A stay is then unavailable in O(1) when the longest run is too short, and
+ * otherwise takes the first room, cheapest base price first, whose run fits. Prices come
+ * from the running sums in {@link PricingService}.
+ */
+@Service
+public class BatchQuoteService {
+
+    @Autowired
+    private RoomFacetService roomFacetService;
+
+    @Autowired
+    private PricingService pricingService;
+
+    @Value("${quotes.max-nights:30}")
+    private int maxNights;
+
+    @Value("${quotes.max-window-days:400}")
+    private int maxWindowDays;
+
+    private record TypeRuns(RoomDto[] rooms, int[][] runs, int[] longestRun) {
+    }
+
+    public BatchQuoteResultDto quote(List<StayQuoteRequestDto> stays) {
+        LocalDate today = LocalDate.now();
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (StayQuoteRequestDto stay : stays) {
+            if (stay.getCheckInDate().isBefore(today)) {
+                throw new IllegalArgumentException("Check-in date cannot be in the past: " + stay.getCheckInDate());
+            }
+            if (stay.getNights() < 1 || stay.getNights() > maxNights) {
+                throw new IllegalArgumentException("Nights must be between 1 and " + maxNights);
+            }
+            first = Math.min(first, stay.getCheckInDate().toEpochDay());
+            last = Math.max(last, stay.getCheckInDate().toEpochDay() + stay.getNights());
+        }
+        // Days first..last, both ends included
+        int windowDays = (int) (last - first + 1);
+        if (windowDays > maxWindowDays) {
+            throw new IllegalArgumentException("Quoted stays must fall within " + maxWindowDays + " days of each other");
+        }
+
+        long started = System.nanoTime();
+        RoomFacetService.Snapshot snapshot = roomFacetService.snapshot();
+        LocalDate windowStart = LocalDate.ofEpochDay(first);
+
+        Map<String, List<RoomDto>> roomsByType = new HashMap<>();
+        for (RoomDto room : snapshot.catalogue().bookableRooms()) {
+            if (room.getType() != null) {
+                roomsByType.computeIfAbsent(key(room.getType()), k -> new ArrayList<>()).add(room);
+            }
+        }
+
+        Map<String, TypeRuns> runsByType = new HashMap<>();
+        BatchQuoteResultDto result = new BatchQuoteResultDto();
+        result.setRatesAsOf(pricingService.getRatesAsOf());
+        for (StayQuoteRequestDto stay : stays) {
+            TypeRuns type = runsByType.computeIfAbsent(key(stay.getRoomType()), k -> runs(
+                    roomsByType.getOrDefault(k, List.of()), snapshot, windowStart, windowDays));
+
+            int day = (int) (stay.getCheckInDate().toEpochDay() - first);
+            // Inclusive overlap: N nights need N + 1 free days
+            int needed = stay.getNights() + 1;
+            RoomDto chosen = null;
+            if (type.longestRun()[day] >= needed) {
+                for (int i = 0; i < type.rooms().length && chosen == null; i++) {
+                    if (type.runs()[i][day] >= needed) {
+                        chosen = type.rooms()[i];
+                    }
+                }
+            }
+
+            if (chosen == null) {
+                result.getTotals().add(null);
+                result.getRoomIds().add(null);
+            } else {
+                BigDecimal total = pricingService.quoteTotal(chosen.getType(), chosen.getPrice(),
+                        stay.getCheckInDate(), stay.getCheckInDate().plusDays(stay.getNights()));
+                result.getTotals().add(total);
+                result.getRoomIds().add(chosen.getId());
+            }
+        }
+        result.setElapsedMicros((System.nanoTime() - started) / 1000);
+        return result;
+    }
+
+    private static TypeRuns runs(List<RoomDto> rooms, RoomFacetService.Snapshot snapshot,
+                                 LocalDate windowStart, int windowDays) {
+        // Rates vary by type and date, not by room, so the cheapest base price is the cheapest stay
+        RoomDto[] sorted = rooms.stream()
+                .sorted(Comparator.comparing(RoomDto::getPrice).thenComparing(RoomDto::getId))
+                .toArray(RoomDto[]::new);
+        int[][] runs = new int[sorted.length][];
+        int[] longestRun = new int[windowDays];
+        for (int i = 0; i < sorted.length; i++) {
+            runs[i] = snapshot.calendar().freeRuns(sorted[i].getId(), windowStart, windowDays);
+            for (int day = 0; day < windowDays; day++) {
+                longestRun[day] = Math.max(longestRun[day], runs[i][day]);
+            }
+        }
+        return new TypeRuns(sorted, runs, longestRun);
+    }
+
+    private static String key(String roomType) {
+        return roomType.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,66 @@
+package edu.icet.hotel_management_system.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Optional;
+
+/**
+ * Flat key/value storage for binary files such as room images. Keys are slash-separated
+ * names like "rooms/originals/3f9a...jpg"; how they are laid out is up to the store.
+ *
+ * Writes are all-or-nothing: a reader sees either no blob or the complete one.
+ */
+public interface BlobStore {
+
+    record Blob(String key, long size, Instant lastModified) {
+    }
+
+    /**
+     * One page of a listing. cursor is passed back to {@link #list} for the next page and is
+     * null on the last one.
+     */
+    record Listing(List<Blob> blobs, String cursor) {
+    }
+
+    /**
+     * Stores the file under the key, replacing any blob already there. The source file is
+     * consumed: it is moved when possible and deleted otherwise.
+     */
+    void put(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * Streams length bytes of the blob starting at offset.
+     *
+     * @throws java.nio.file.NoSuchFileException when there is no blob under the key
+     */
+    InputStream open(String key, long offset, long length) throws IOException;
+
+    /**
+     * Size of the blob in bytes, or empty when there is none.
+     */
+    OptionalLong size(String key) throws IOException;
+
+    /**
+     * Size and modification time of the blob, or empty when there is none.
+     */
+    Optional<Blob> stat(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * Up to limit blobs whose keys start with directory + "/", continuing after the given
+     * cursor (null for the first page). Pages follow the store's own order, not key order,
+     * and hold only what was asked for, so a whole directory can be walked in bounded memory.
+     */
+    Listing list(String directory, String cursor, int limit) throws IOException;
+
+    /**
+     * The blob's file when it lives on this machine's filesystem, so it can be sent with
+     * sendfile; empty for remote stores.
+     */
+    Optional<Path> localPath(String key);
+}
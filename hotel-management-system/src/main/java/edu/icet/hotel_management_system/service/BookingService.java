@@ -1,6 +1,7 @@
 package edu.icet.hotel_management_system.service;
 
 import edu.icet.hotel_management_system.model.dto.BookingDto;
+import edu.icet.hotel_management_system.model.dto.BulkStatusTransitionResultDto;
 import edu.icet.hotel_management_system.model.dto.RoomDto;
 
 import java.time.LocalDate;
@@ -18,6 +19,7 @@ public interface BookingService {
     BookingDto confirmBooking(Long id);
     BookingDto cancelBooking(Long id);
     BookingDto completeBooking(Long id);
+    BulkStatusTransitionResultDto transitionBookings(List<Long> bookingIds, String targetStatus);
 
     // Listing and filtering
     List<BookingDto> getAllBookings(int page, int size);
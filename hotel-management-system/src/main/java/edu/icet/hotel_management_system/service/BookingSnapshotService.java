@@ -0,0 +1,542 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.model.dto.SnapshotGroupDto;
+import edu.icet.hotel_management_system.model.dto.SnapshotQueryDto;
+import edu.icet.hotel_management_system.model.dto.SnapshotQueryResultDto;
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import edu.icet.hotel_management_system.model.entity.enums.PaymentMethod;
+import edu.icet.hotel_management_system.model.entity.enums.PaymentStatus;
+import edu.icet.hotel_management_system.repository.BookingRepository;
+import edu.icet.hotel_management_system.repository.PaymentRepository;
+import edu.icet.hotel_management_system.util.StringDictionary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory columnar copy of bookings and their payments for slice-and-dice dashboards.
+ *
+ * Rows live in fixed-size partitions of primitive column arrays. Queries filter each column
+ * into a selection vector, aggregate into per-group arrays, and run partitions in parallel.
+ * Refreshes are copy-on-write: changed partitions are cloned and a new snapshot is published,
+ * so readers never lock.
+ */
+@Service
+public class BookingSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingSnapshotService.class);
+
+    private static final int PARTITION_SIZE = 16_384;
+    private static final int LOAD_CHUNK_SIZE = 2_000;
+    private static final int MAX_GUEST_GROUP = 10;
+    private static final int PRICE_BANDS = 10;
+    private static final int[] LEAD_TIME_BOUNDS = {1, 7, 30, 90, 180};
+    private static final String[] LEAD_TIME_LABELS = {"0-1", "2-7", "8-30", "31-90", "91-180", "181+", "UNKNOWN"};
+    // Re-read a little before the watermark so rows committed late are not missed
+    private static final long WATERMARK_OVERLAP_SECONDS = 5;
+
+    public enum Dimension {
+        ROOM_TYPE, STATUS, PRICE_BAND, LEAD_TIME, GUESTS, CHECK_IN_MONTH, PAYMENT_METHOD
+    }
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Value("${analytics.snapshot.price-band-width:50}")
+    private long priceBandWidth;
+
+    private final StringDictionary roomTypes = new StringDictionary();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public SnapshotQueryResultDto query(SnapshotQueryDto request) {
+        Dimension dimension;
+        try {
+            dimension = Dimension.valueOf(request.getGroupBy().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid group by dimension: " + request.getGroupBy());
+        }
+
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = buildIfMissing();
+        }
+
+        long started = System.nanoTime();
+        Filter filter = Filter.from(request, roomTypes);
+        int cardinality = cardinality(dimension, current);
+        long bandWidthCents = priceBandWidth * 100;
+        Snapshot view = current;
+
+        Aggregate total = Arrays.stream(view.partitions)
+                .parallel()
+                .map(partition -> partition.aggregate(filter, dimension, cardinality, view.minMonth, bandWidthCents))
+                .reduce(new Aggregate(cardinality), Aggregate::merge);
+
+        SnapshotQueryResultDto result = new SnapshotQueryResultDto();
+        result.setGroupBy(dimension.name());
+        result.setSnapshotAsOf(view.asOf);
+        result.setRowsScanned(view.rowCount);
+        result.setRowsMatched(total.matched);
+        for (int key = 0; key < cardinality; key++) {
+            if (total.bookings[key] == 0) {
+                continue;
+            }
+            SnapshotGroupDto group = new SnapshotGroupDto();
+            group.setKey(label(dimension, key, view.minMonth));
+            group.setBookings(total.bookings[key]);
+            group.setRoomNights(total.nights[key]);
+            group.setRevenue(BigDecimal.valueOf(total.revenueCents[key], 2));
+            group.setPaid(BigDecimal.valueOf(total.paidCents[key], 2));
+            result.getGroups().add(group);
+        }
+        result.setElapsedMicros((System.nanoTime() - started) / 1_000);
+        return result;
+    }
+
+    // Periodic full rebuild is the only path that drops deleted bookings
+    @Scheduled(cron = "${analytics.snapshot.rebuild-cron:0 0 * * * *}")
+    public void scheduledRebuild() {
+        if (snapshot != null) {
+            rebuild();
+        }
+    }
+
+    // Queries arriving together before the first build wait for one load instead of each running their own
+    private Snapshot buildIfMissing() {
+        refreshLock.lock();
+        try {
+            if (snapshot == null) {
+                rebuild();
+            }
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /** Loads every booking from scratch. */
+    public void rebuild() {
+        refreshLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            LocalDateTime loadStarted = LocalDateTime.now();
+            Builder builder = new Builder(null);
+            long afterId = 0L;
+            while (true) {
+                List<BookingRepository.SnapshotRow> rows =
+                        bookingRepository.findSnapshotRowsAfterId(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                builder.apply(rows, loadPayments(rows));
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+            snapshot = builder.build(loadStarted);
+            logger.info("Built booking snapshot with {} rows in {} ms",
+                    snapshot.rowCount, System.currentTimeMillis() - started);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /** Applies bookings and payments changed since the last refresh. */
+    @Scheduled(fixedDelayString = "${analytics.snapshot.refresh-interval:PT30S}",
+            initialDelayString = "${analytics.snapshot.refresh-interval:PT30S}")
+    public void refresh() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Built lazily on first query
+            return;
+        }
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            current = snapshot;
+            LocalDateTime loadStarted = LocalDateTime.now();
+            LocalDateTime since = current.watermark.minusSeconds(WATERMARK_OVERLAP_SECONDS);
+
+            Map<Long, BookingRepository.SnapshotRow> changed = new LinkedHashMap<>();
+            bookingRepository.findSnapshotRowsUpdatedSince(since).forEach(row -> changed.put(row.getId(), row));
+
+            Set<Long> paymentTouched = new HashSet<>(paymentRepository.findBookingIdsUpdatedSince(since));
+            paymentTouched.removeAll(changed.keySet());
+            if (!paymentTouched.isEmpty()) {
+                bookingRepository.findSnapshotRowsByIdIn(paymentTouched).forEach(row -> changed.put(row.getId(), row));
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            List<BookingRepository.SnapshotRow> rows = new ArrayList<>(changed.values());
+            Builder builder = new Builder(current);
+            builder.apply(rows, loadPayments(rows));
+            snapshot = builder.build(loadStarted);
+            logger.debug("Applied {} changed booking(s) to snapshot", rows.size());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Map<Long, List<PaymentRepository.SnapshotRow>> loadPayments(List<BookingRepository.SnapshotRow> rows) {
+        List<Long> ids = rows.stream().map(BookingRepository.SnapshotRow::getId).toList();
+        Map<Long, List<PaymentRepository.SnapshotRow>> payments = new HashMap<>();
+        for (PaymentRepository.SnapshotRow payment : paymentRepository.findSnapshotRowsByBookingIdIn(ids)) {
+            payments.computeIfAbsent(payment.getBookingId(), id -> new ArrayList<>()).add(payment);
+        }
+        return payments;
+    }
+
+    private int cardinality(Dimension dimension, Snapshot view) {
+        return switch (dimension) {
+            case ROOM_TYPE -> Math.max(1, roomTypes.size());
+            case STATUS -> BookingStatus.values().length;
+            case PRICE_BAND -> PRICE_BANDS;
+            case LEAD_TIME -> LEAD_TIME_LABELS.length;
+            case GUESTS -> MAX_GUEST_GROUP + 1;
+            case CHECK_IN_MONTH -> Math.max(1, view.maxMonth - view.minMonth + 1);
+            case PAYMENT_METHOD -> PaymentMethod.values().length + 1;
+        };
+    }
+
+    private String label(Dimension dimension, int key, int minMonth) {
+        return switch (dimension) {
+            case ROOM_TYPE -> roomTypes.decode(key);
+            case STATUS -> BookingStatus.values()[key].name();
+            case PRICE_BAND -> key == PRICE_BANDS - 1
+                    ? (key * priceBandWidth) + "+"
+                    : (key * priceBandWidth) + "-" + ((key + 1) * priceBandWidth);
+            case LEAD_TIME -> LEAD_TIME_LABELS[key];
+            case GUESTS -> key == MAX_GUEST_GROUP ? MAX_GUEST_GROUP + "+" : String.valueOf(key);
+            case CHECK_IN_MONTH -> YearMonth.of((minMonth + key) / 12, (minMonth + key) % 12 + 1).toString();
+            case PAYMENT_METHOD -> key == 0 ? "NONE" : PaymentMethod.values()[key - 1].name();
+        };
+    }
+
+    private static int monthIndex(int epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    private static int leadTimeBucket(int leadDays) {
+        if (leadDays < 0) {
+            return LEAD_TIME_LABELS.length - 1;
+        }
+        for (int i = 0; i < LEAD_TIME_BOUNDS.length; i++) {
+            if (leadDays <= LEAD_TIME_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return LEAD_TIME_BOUNDS.length;
+    }
+
+    /** Immutable view published to readers. */
+    private static final class Snapshot {
+        final Partition[] partitions;
+        final Map<Long, Integer> rowIndex;
+        final long rowCount;
+        final int minMonth;
+        final int maxMonth;
+        final LocalDateTime watermark;
+        final LocalDateTime asOf;
+
+        Snapshot(Partition[] partitions, Map<Long, Integer> rowIndex, int minMonth, int maxMonth,
+                 LocalDateTime watermark) {
+            this.partitions = partitions;
+            this.rowIndex = rowIndex;
+            this.rowCount = rowIndex.size();
+            this.minMonth = minMonth;
+            this.maxMonth = maxMonth;
+            this.watermark = watermark;
+            this.asOf = LocalDateTime.now();
+        }
+    }
+
+    /** Produces the next snapshot, cloning only the partitions it writes to. */
+    private final class Builder {
+        private final List<Partition> partitions = new ArrayList<>();
+        private final Set<Integer> cloned = new HashSet<>();
+        private final Map<Long, Integer> rowIndex;
+        private int minMonth = Integer.MAX_VALUE;
+        private int maxMonth = Integer.MIN_VALUE;
+
+        Builder(Snapshot base) {
+            if (base == null) {
+                rowIndex = new HashMap<>();
+                return;
+            }
+            partitions.addAll(Arrays.asList(base.partitions));
+            rowIndex = new HashMap<>(base.rowIndex);
+            minMonth = base.minMonth;
+            maxMonth = base.maxMonth;
+        }
+
+        void apply(List<BookingRepository.SnapshotRow> rows, Map<Long, List<PaymentRepository.SnapshotRow>> payments) {
+            for (BookingRepository.SnapshotRow row : rows) {
+                Integer position = rowIndex.get(row.getId());
+                int partitionNo;
+                int slot;
+                if (position != null) {
+                    partitionNo = position / PARTITION_SIZE;
+                    slot = position % PARTITION_SIZE;
+                } else {
+                    partitionNo = partitions.isEmpty() ? -1 : partitions.size() - 1;
+                    if (partitionNo < 0 || partitions.get(partitionNo).size == PARTITION_SIZE) {
+                        partitions.add(new Partition());
+                        partitionNo = partitions.size() - 1;
+                        cloned.add(partitionNo);
+                    }
+                    slot = writable(partitionNo).size++;
+                    rowIndex.put(row.getId(), partitionNo * PARTITION_SIZE + slot);
+                }
+                writable(partitionNo).set(slot, row, payments.getOrDefault(row.getId(), List.of()));
+
+                int month = monthIndex((int) row.getCheckInDate().toEpochDay());
+                minMonth = Math.min(minMonth, month);
+                maxMonth = Math.max(maxMonth, month);
+            }
+        }
+
+        private Partition writable(int partitionNo) {
+            if (cloned.add(partitionNo)) {
+                partitions.set(partitionNo, partitions.get(partitionNo).copy());
+            }
+            return partitions.get(partitionNo);
+        }
+
+        /** @param watermark when loading started; the next refresh reads changes from here */
+        Snapshot build(LocalDateTime watermark) {
+            return new Snapshot(partitions.toArray(new Partition[0]), rowIndex,
+                    minMonth == Integer.MAX_VALUE ? 0 : minMonth,
+                    maxMonth == Integer.MIN_VALUE ? 0 : maxMonth,
+                    watermark);
+        }
+    }
+
+    /** One block of rows stored column by column. */
+    private final class Partition {
+        int size;
+        final int[] checkInDay;
+        final int[] nights;
+        final int[] leadDays;
+        final int[] guests;
+        final int[] roomType;
+        final byte[] status;
+        final long[] revenueCents;
+        final long[] paidCents;
+        final byte[] paymentMethod;
+
+        Partition() {
+            this(0, new int[PARTITION_SIZE], new int[PARTITION_SIZE], new int[PARTITION_SIZE],
+                    new int[PARTITION_SIZE], new int[PARTITION_SIZE], new byte[PARTITION_SIZE],
+                    new long[PARTITION_SIZE], new long[PARTITION_SIZE], new byte[PARTITION_SIZE]);
+        }
+
+        private Partition(int size, int[] checkInDay, int[] nights, int[] leadDays, int[] guests, int[] roomType,
+                          byte[] status, long[] revenueCents, long[] paidCents, byte[] paymentMethod) {
+            this.size = size;
+            this.checkInDay = checkInDay;
+            this.nights = nights;
+            this.leadDays = leadDays;
+            this.guests = guests;
+            this.roomType = roomType;
+            this.status = status;
+            this.revenueCents = revenueCents;
+            this.paidCents = paidCents;
+            this.paymentMethod = paymentMethod;
+        }
+
+        Partition copy() {
+            return new Partition(size, checkInDay.clone(), nights.clone(), leadDays.clone(), guests.clone(),
+                    roomType.clone(), status.clone(), revenueCents.clone(), paidCents.clone(), paymentMethod.clone());
+        }
+
+        void set(int slot, BookingRepository.SnapshotRow row, List<PaymentRepository.SnapshotRow> payments) {
+            checkInDay[slot] = (int) row.getCheckInDate().toEpochDay();
+            nights[slot] = (int) Math.max(1, ChronoUnit.DAYS.between(row.getCheckInDate(), row.getCheckOutDate()));
+            leadDays[slot] = row.getCreatedAt() == null ? -1
+                    : (int) Math.max(0, ChronoUnit.DAYS.between(row.getCreatedAt().toLocalDate(), row.getCheckInDate()));
+            guests[slot] = row.getNumberOfGuests();
+            roomType[slot] = roomTypes.encode(row.getRoomType());
+            status[slot] = (byte) row.getStatus().ordinal();
+            revenueCents[slot] = row.getTotalPrice().movePointRight(2).longValue();
+
+            long paid = 0;
+            int method = 0;
+            for (PaymentRepository.SnapshotRow payment : payments) {
+                if (payment.getStatus() == PaymentStatus.COMPLETED) {
+                    paid += payment.getAmount().movePointRight(2).longValue();
+                }
+                method = payment.getMethod().ordinal() + 1;
+            }
+            paidCents[slot] = paid;
+            paymentMethod[slot] = (byte) method;
+        }
+
+        Aggregate aggregate(Filter filter, Dimension dimension, int cardinality, int minMonth, long bandWidthCents) {
+            int[] selection = new int[size];
+            int selected = 0;
+            for (int i = 0; i < size; i++) {
+                selection[selected++] = i;
+            }
+            selected = filter.apply(this, selection, selected);
+
+            Aggregate aggregate = new Aggregate(cardinality);
+            for (int s = 0; s < selected; s++) {
+                int i = selection[s];
+                int key = switch (dimension) {
+                    case ROOM_TYPE -> roomType[i];
+                    case STATUS -> status[i];
+                    case PRICE_BAND -> (int) Math.min(PRICE_BANDS - 1, revenueCents[i] / nights[i] / bandWidthCents);
+                    case LEAD_TIME -> leadTimeBucket(leadDays[i]);
+                    case GUESTS -> Math.min(MAX_GUEST_GROUP, guests[i]);
+                    case CHECK_IN_MONTH -> monthIndex(checkInDay[i]) - minMonth;
+                    case PAYMENT_METHOD -> paymentMethod[i];
+                };
+                if (key < 0 || key >= cardinality) {
+                    // Dimension grew after this query started; left out of the totals as well
+                    continue;
+                }
+                aggregate.matched++;
+                aggregate.bookings[key]++;
+                aggregate.nights[key] += nights[i];
+                aggregate.revenueCents[key] += revenueCents[i];
+                aggregate.paidCents[key] += paidCents[i];
+            }
+            return aggregate;
+        }
+    }
+
+    /** Column predicates applied one at a time to narrow a selection vector. */
+    private static final class Filter {
+        int checkInFrom = Integer.MIN_VALUE;
+        int checkInTo = Integer.MAX_VALUE;
+        int roomType = -1;
+        int status = -1;
+        int minGuests = Integer.MIN_VALUE;
+        int maxGuests = Integer.MAX_VALUE;
+        int minLeadDays = Integer.MIN_VALUE;
+        int maxLeadDays = Integer.MAX_VALUE;
+        boolean unknownRoomType;
+
+        static Filter from(SnapshotQueryDto request, StringDictionary roomTypes) {
+            Filter filter = new Filter();
+            if (request.getCheckInFrom() != null) {
+                filter.checkInFrom = (int) request.getCheckInFrom().toEpochDay();
+            }
+            if (request.getCheckInTo() != null) {
+                filter.checkInTo = (int) request.getCheckInTo().toEpochDay();
+            }
+            if (request.getRoomType() != null) {
+                filter.roomType = roomTypes.codeOf(request.getRoomType());
+                filter.unknownRoomType = filter.roomType < 0;
+            }
+            if (request.getStatus() != null) {
+                try {
+                    filter.status = BookingStatus.valueOf(request.getStatus().toUpperCase()).ordinal();
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid booking status: " + request.getStatus());
+                }
+            }
+            if (request.getMinGuests() != null) {
+                filter.minGuests = request.getMinGuests();
+            }
+            if (request.getMaxGuests() != null) {
+                filter.maxGuests = request.getMaxGuests();
+            }
+            if (request.getMinLeadDays() != null) {
+                filter.minLeadDays = request.getMinLeadDays();
+            }
+            if (request.getMaxLeadDays() != null) {
+                filter.maxLeadDays = request.getMaxLeadDays();
+            }
+            return filter;
+        }
+
+        int apply(Partition p, int[] selection, int selected) {
+            if (unknownRoomType) {
+                return 0;
+            }
+            if (checkInFrom != Integer.MIN_VALUE || checkInTo != Integer.MAX_VALUE) {
+                selected = range(p.checkInDay, selection, selected, checkInFrom, checkInTo);
+            }
+            if (roomType >= 0) {
+                selected = range(p.roomType, selection, selected, roomType, roomType);
+            }
+            if (status >= 0) {
+                int out = 0;
+                for (int s = 0; s < selected; s++) {
+                    int i = selection[s];
+                    if (p.status[i] == status) {
+                        selection[out++] = i;
+                    }
+                }
+                selected = out;
+            }
+            if (minGuests != Integer.MIN_VALUE || maxGuests != Integer.MAX_VALUE) {
+                selected = range(p.guests, selection, selected, minGuests, maxGuests);
+            }
+            if (minLeadDays != Integer.MIN_VALUE || maxLeadDays != Integer.MAX_VALUE) {
+                // Unknown lead time (-1) never matches an explicit lead time filter
+                selected = range(p.leadDays, selection, selected, Math.max(0, minLeadDays), maxLeadDays);
+            }
+            return selected;
+        }
+
+        private static int range(int[] column, int[] selection, int selected, int min, int max) {
+            int out = 0;
+            for (int s = 0; s < selected; s++) {
+                int i = selection[s];
+                int value = column[i];
+                if (value >= min && value <= max) {
+                    selection[out++] = i;
+                }
+            }
+            return out;
+        }
+    }
+
+    /** Per-group running totals. */
+    private static final class Aggregate {
+        final long[] bookings;
+        final long[] nights;
+        final long[] revenueCents;
+        final long[] paidCents;
+        long matched;
+
+        Aggregate(int cardinality) {
+            bookings = new long[cardinality];
+            nights = new long[cardinality];
+            revenueCents = new long[cardinality];
+            paidCents = new long[cardinality];
+        }
+
+        Aggregate merge(Aggregate other) {
+            Aggregate merged = new Aggregate(bookings.length);
+            for (int k = 0; k < bookings.length; k++) {
+                merged.bookings[k] = bookings[k] + other.bookings[k];
+                merged.nights[k] = nights[k] + other.nights[k];
+                merged.revenueCents[k] = revenueCents[k] + other.revenueCents[k];
+                merged.paidCents[k] = paidCents[k] + other.paidCents[k];
+            }
+            merged.matched = matched + other.matched;
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package edu.icet.hotel_management_system.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import edu.icet.hotel_management_system.config.ConnectionLimitingDataSource;
+import edu.icet.hotel_management_system.config.PoolMetricsTrackerFactory;
+import edu.icet.hotel_management_system.model.dto.PoolStatsDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Reports size, usage and connection wait times of the write and read pools.
+ */
+@Service
+public class DataSourceMetricsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceMetricsService.class);
+
+    @Autowired
+    @Qualifier("writeDataSource")
+    private DataSource writeDataSource;
+
+    @Autowired
+    @Qualifier("readDataSource")
+    private DataSource readDataSource;
+
+    @Autowired
+    private PoolMetricsTrackerFactory metricsTrackerFactory;
+
+    public List<PoolStatsDto> getPoolStats() {
+        return List.of(stats("write", writeDataSource), stats("read", readDataSource));
+    }
+
+    private PoolStatsDto stats(String name, DataSource dataSource) {
+        PoolStatsDto dto = new PoolStatsDto();
+        dto.setName(name);
+
+        if (dataSource instanceof ConnectionLimitingDataSource limiter) {
+            dto.setLimiterAvailablePermits(limiter.getAvailablePermits());
+            dto.setLimiterWaiting(limiter.getWaiting());
+        }
+
+        HikariDataSource hikari;
+        try {
+            hikari = dataSource.unwrap(HikariDataSource.class);
+        } catch (SQLException e) {
+            logger.warn("Data source {} is not a Hikari pool", name);
+            return dto;
+        }
+        dto.setPoolName(hikari.getPoolName());
+        dto.setMaximumPoolSize(hikari.getMaximumPoolSize());
+        dto.setMinimumIdle(hikari.getMinimumIdle());
+
+        // Null until the pool has handed out its first connection
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool != null) {
+            dto.setActiveConnections(pool.getActiveConnections());
+            dto.setIdleConnections(pool.getIdleConnections());
+            dto.setTotalConnections(pool.getTotalConnections());
+            dto.setThreadsAwaitingConnection(pool.getThreadsAwaitingConnection());
+        }
+
+        PoolMetricsTrackerFactory.Tracker tracker = metricsTrackerFactory.getTracker(hikari.getPoolName());
+        if (tracker != null) {
+            dto.setAcquisitions(tracker.getAcquisitions());
+            dto.setTimeouts(tracker.getTimeouts());
+            dto.setAverageWaitMillis(tracker.getAverageWaitMillis());
+            dto.setP99WaitMillis(tracker.getWaitPercentileMillis(99));
+            dto.setMaxWaitMillis(tracker.getMaxWaitMillis());
+            dto.setAverageUsageMillis(tracker.getAverageUsageMillis());
+        }
+        return dto;
+    }
+}
@@ -2,7 +2,11 @@ package edu.icet.hotel_management_system.service;
 
 import edu.icet.hotel_management_system.model.entity.Booking;
 import edu.icet.hotel_management_system.model.entity.User;
+import edu.icet.hotel_management_system.util.Bulkhead;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
@@ -13,25 +17,32 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 @Service
 public class EmailService {
 
+    private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
+
     @Autowired
     private JavaMailSender mailSender;
 
     @Autowired
     private TemplateEngine templateEngine;
 
+    @Autowired
+    @Qualifier("mailBulkhead")
+    private Bulkhead mailBulkhead;
+
     @Async
-    public void sendVerificationEmail(User user) {
+    public void sendVerificationEmail(User user, String verificationToken) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
             Context context = new Context();
             context.setVariable("name", user.getFirstName() + " " + user.getLastName());
-            context.setVariable("verificationUrl", "http://localhost:8080/api/auth/verify?token=" + user.getVerificationToken());
+            context.setVariable("verificationUrl", "http://localhost:8080/api/auth/verify?token=" + verificationToken);
 
             String htmlContent = templateEngine.process("email-verification", context);
 
@@ -39,21 +50,21 @@ public class EmailService {
             helper.setSubject("Verify your email address");
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(message);
         } catch (MessagingException e) {
             throw new RuntimeException("Failed to send verification email", e);
         }
     }
 
     @Async
-    public void sendPasswordResetEmail(User user) {
+    public void sendPasswordResetEmail(User user, String resetToken) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
             Context context = new Context();
             context.setVariable("name", user.getFirstName() + " " + user.getLastName());
-            context.setVariable("resetUrl", "http://localhost:3000/reset-password?token=" + user.getResetToken());
+            context.setVariable("resetUrl", "http://localhost:3000/reset-password?token=" + resetToken);
 
             String htmlContent = templateEngine.process("password-reset", context);
 
@@ -61,7 +72,7 @@ public class EmailService {
             helper.setSubject("Password Reset Request");
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(message);
         } catch (MessagingException e) {
             throw new RuntimeException("Failed to send password reset email", e);
         }
@@ -85,7 +96,7 @@ public class EmailService {
             helper.setSubject("Booking Confirmation #" + booking.getId());
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(message);
         } catch (MessagingException e) {
             throw new RuntimeException("Failed to send booking confirmation email", e);
         }
@@ -93,6 +104,21 @@ public class EmailService {
 
     @Async
     public void sendBookingCancellationEmail(User user, Booking booking) {
+        sendCancellation(user, booking);
+    }
+
+    @Async
+    public void sendBookingCancellationEmails(List<Booking> bookings) {
+        for (Booking booking : bookings) {
+            try {
+                sendCancellation(booking.getUser(), booking);
+            } catch (Exception e) {
+                logger.error("Failed to send booking cancellation email for booking {}", booking.getId(), e);
+            }
+        }
+    }
+
+    private void sendCancellation(User user, Booking booking) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -109,9 +135,16 @@ public class EmailService {
             helper.setSubject("Booking Cancellation #" + booking.getId());
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(message);
         } catch (MessagingException e) {
             throw new RuntimeException("Failed to send booking cancellation email", e);
         }
     }
-}
\ No newline at end of file
+
+    private void send(MimeMessage message) {
+        mailBulkhead.call(() -> {
+            mailSender.send(message);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.event.RoomChangedEvent;
+import edu.icet.hotel_management_system.repository.BookingRepository;
+import edu.icet.hotel_management_system.repository.ChangeCounterRepository;
+import edu.icet.hotel_management_system.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ETags for room and booking reads, worked out from version columns and change counters so a
+ * request whose If-None-Match still matches is answered without loading entities or mapping.
+ *
+ * A room's tag is its version, which image changes bump as well. A booking's tag also covers
+ * the room and user embedded in its DTO. Room lists are tagged with the "rooms" change counter,
+ * bumped in the same transaction as every room change; callers read the tag before loading the list, and
+ * from the same database, so a list is never older than the tag sent with it. Tags are read
+ * outside read-only transactions, that is from the primary.
+ */
+@Service
+public class EntityTagService {
+
+    private static final String ROOMS = "rooms";
+
+    @Autowired
+    private ChangeCounterRepository counterRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    public String roomsTag() {
+        return "\"rooms-" + counterRepository.findValueByName(ROOMS).orElse(0L) + "\"";
+    }
+
+    /**
+     * Empty when there is no such room.
+     */
+    public Optional<String> roomTag(Long roomId) {
+        return roomRepository.findVersionById(roomId)
+                .map(version -> "\"room-" + roomId + "-" + version + "\"");
+    }
+
+    /**
+     * Empty when there is no such booking.
+     */
+    public Optional<String> bookingTag(Long bookingId) {
+        return bookingRepository.findVersionsById(bookingId)
+                .map(versions -> "\"booking-" + bookingId + "-" + versions.getBookingVersion()
+                        + "-" + versions.getRoomVersion() + "-" + versions.getUserVersion() + "\"");
+    }
+
+    // Joins the transaction that changes the room, so the tags move exactly when the change commits
+    @Transactional
+    public void roomChanged(RoomChangedEvent event) {
+        if (event.getChangeType() == RoomChangedEvent.ChangeType.IMAGES_CHANGED) {
+            roomRepository.incrementVersion(event.getRoomId());
+        }
+        counterRepository.increment(ROOMS, LocalDateTime.now());
+    }
+}
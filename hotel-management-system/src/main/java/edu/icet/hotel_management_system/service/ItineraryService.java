@@ -0,0 +1,107 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.model.dto.ItineraryDto;
+import edu.icet.hotel_management_system.model.dto.ItinerarySearchResultDto;
+import edu.icet.hotel_management_system.model.dto.ItinerarySegmentDto;
+import edu.icet.hotel_management_system.model.dto.RoomDto;
+import edu.icet.hotel_management_system.util.ItineraryPlanner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Room combinations for parties too large for one room, answered from the in-memory
+ * room catalogue and stay calendar kept by {@link RoomFacetService}. Rooms are priced at
+ * their nightly rates from {@link PricingService}; length-of-stay discounts are left to
+ * the bookings made from a plan, since each segment is booked separately.
+ */
+@Service
+public class ItineraryService {
+
+    @Autowired
+    private RoomFacetService roomFacetService;
+
+    @Autowired
+    private PricingService pricingService;
+
+    @Value("${itineraries.max-guests:50}")
+    private int maxGuests;
+
+    @Value("${itineraries.max-nights:30}")
+    private int maxNights;
+
+    @Value("${itineraries.latency-budget:PT0.25S}")
+    private Duration latencyBudget;
+
+    public ItinerarySearchResultDto search(LocalDate checkInDate, LocalDate checkOutDate, int guests) {
+        if (checkInDate == null || checkOutDate == null) {
+            throw new IllegalArgumentException("Check-in and check-out dates are required");
+        }
+        if (!checkOutDate.isAfter(checkInDate)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        if (checkInDate.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Check-in date cannot be in the past");
+        }
+        int nights = (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        if (nights > Math.min(maxNights, ItineraryPlanner.MAX_NIGHTS)) {
+            throw new IllegalArgumentException("Itineraries can cover at most " + maxNights + " nights");
+        }
+        if (guests < 1 || guests > maxGuests) {
+            throw new IllegalArgumentException("Guests must be between 1 and " + maxGuests);
+        }
+
+        long started = System.nanoTime();
+        RoomFacetService.Snapshot snapshot = roomFacetService.snapshot();
+        List<RoomDto> rooms = snapshot.catalogue().bookableRooms();
+        List<ItineraryPlanner.Candidate> candidates = new ArrayList<>(rooms.size());
+        for (RoomDto room : rooms) {
+            long blockedDays = snapshot.calendar().blockedDays(room.getId(), checkInDate, nights + 1);
+            candidates.add(new ItineraryPlanner.Candidate(room.getMaxOccupancy(),
+                    pricingService.cumulativeNightlyCents(room.getType(), room.getPrice(), checkInDate, nights),
+                    blockedDays));
+        }
+
+        ItineraryPlanner.Result planned = new ItineraryPlanner(candidates, nights, guests,
+                started + latencyBudget.toNanos()).plan();
+
+        ItinerarySearchResultDto result = new ItinerarySearchResultDto();
+        result.setCheckInDate(checkInDate);
+        result.setCheckOutDate(checkOutDate);
+        result.setGuests(guests);
+        result.setComplete(planned.complete());
+        for (ItineraryPlanner.Plan plan : planned.plans()) {
+            result.getItineraries().add(toDto(plan, rooms, checkInDate));
+        }
+        result.setElapsedMicros((System.nanoTime() - started) / 1000);
+        return result;
+    }
+
+    private ItineraryDto toDto(ItineraryPlanner.Plan plan, List<RoomDto> rooms, LocalDate checkInDate) {
+        ItineraryDto dto = new ItineraryDto();
+        dto.setObjective(plan.objective().name());
+        dto.setTotalPrice(BigDecimal.valueOf(plan.totalCents(), 2));
+        dto.setMoves(plan.segments().size() - 1);
+        for (ItineraryPlanner.Segment segment : plan.segments()) {
+            ItinerarySegmentDto segmentDto = new ItinerarySegmentDto();
+            segmentDto.setCheckInDate(checkInDate.plusDays(segment.fromDay()));
+            segmentDto.setCheckOutDate(checkInDate.plusDays(segment.toDay()));
+            segmentDto.setNights(segment.toDay() - segment.fromDay());
+            segmentDto.setTotalPrice(BigDecimal.valueOf(segment.totalCents(), 2));
+            for (int index : segment.rooms()) {
+                RoomDto room = rooms.get(index);
+                segmentDto.getRooms().add(room);
+                segmentDto.setCapacity(segmentDto.getCapacity() + room.getMaxOccupancy());
+            }
+            dto.getSegments().add(segmentDto);
+        }
+        return dto;
+    }
+}
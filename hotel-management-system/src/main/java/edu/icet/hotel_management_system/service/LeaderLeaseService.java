@@ -0,0 +1,68 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.repository.SchedulerLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Database-backed leases so only one node runs a scheduled job at a time.
+ */
+@Service
+public class LeaderLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderLeaseService.class);
+
+    @Autowired
+    private SchedulerLeaseRepository leaseRepository;
+
+    private final String ownerId = resolveOwnerId();
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    /** Acquires the lease if it is free or expired, or extends it if this node already holds it. */
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime until = now.plus(ttl);
+
+        if (leaseRepository.tryClaim(name, ownerId, until, now) == 1) {
+            return true;
+        }
+        if (leaseRepository.existsById(name)) {
+            return false;
+        }
+
+        try {
+            leaseRepository.insertLease(name, ownerId, until);
+            logger.info("Created scheduler lease {} for {}", name, ownerId);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the row first
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        leaseRepository.release(name, ownerId, LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    private static String resolveOwnerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
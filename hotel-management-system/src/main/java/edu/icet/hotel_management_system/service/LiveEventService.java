@@ -0,0 +1,346 @@
+package edu.icet.hotel_management_system.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.icet.hotel_management_system.model.dto.LiveEventDto;
+import edu.icet.hotel_management_system.model.entity.User;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans booking and room changes out to server-sent event subscribers.
+ *
+ * Recent events are kept in a ring buffer so reconnecting clients can resume from
+ * Last-Event-ID. Each subscriber has a bounded queue drained on a shared pool; a
+ * subscriber whose queue overflows is disconnected rather than slowing everyone else.
+ *
+ * Sends block while the client's socket buffer is full, and nothing in the application can
+ * cut such a write short: it ends only when the container's write timeout fires
+ * (server.tomcat.connection-timeout). A watchdog therefore evicts a subscriber whose send has
+ * taken longer than live-events.send-timeout and gives the pool a replacement thread until
+ * the stuck one returns, so a handful of stalled clients cannot take the pool over.
+ */
+@Service
+public class LiveEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveEventService.class);
+
+    public static final String CATEGORY_BOOKING = "booking";
+    public static final String CATEGORY_ROOM = "room";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RolePermissionService rolePermissionService;
+
+    @Value("${live-events.client-queue-size:256}")
+    private int clientQueueSize;
+
+    @Value("${live-events.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${live-events.emitter-timeout:PT30M}")
+    private Duration emitterTimeout;
+
+    @Value("${live-events.send-timeout:PT10S}")
+    private Duration sendTimeout;
+
+    private final LiveEvent[] ring;
+    private long nextSequence = 1;
+    // Distinguishes ids issued before a restart, which cannot be replayed
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService watchdog;
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong sendTimeouts = new AtomicLong();
+
+    public LiveEventService(@Value("${live-events.buffer-size:1024}") int bufferSize,
+                            @Value("${live-events.dispatch-threads:16}") int dispatchThreads) {
+        this.ring = new LiveEvent[bufferSize];
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "live-events-" + UUID.randomUUID().toString().substring(0, 4));
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-events-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog.scheduleWithFixedDelay(this::evictStalledSends, 1, 1, TimeUnit.SECONDS);
+    }
+
+    public SseEmitter subscribe(User user, String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many live event subscribers");
+        }
+
+        boolean seesAllBookings = rolePermissionService.hasPermission(user.getRole(),
+                RolePermissionService.Permissions.VIEW_ALL_BOOKINGS);
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(UUID.randomUUID().toString(), user.getId(), seesAllBookings,
+                emitter, new LinkedBlockingQueue<>(clientQueueSize));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber.id));
+        emitter.onTimeout(() -> subscribers.remove(subscriber.id));
+        emitter.onError(error -> subscribers.remove(subscriber.id));
+
+        // Register before replaying so nothing published in between is lost
+        synchronized (ring) {
+            subscribers.put(subscriber.id, subscriber);
+            replay(subscriber, lastEventId);
+        }
+        schedule(subscriber);
+        logger.debug("Live event subscriber {} connected for user {}", subscriber.id, user.getId());
+        return emitter;
+    }
+
+    /**
+     * @param ownerUserId user allowed to see the event without VIEW_ALL_BOOKINGS, or null for public events
+     */
+    public void publish(String category, LiveEventDto payload, Long ownerUserId) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize live event {}", payload.getType(), e);
+            return;
+        }
+
+        synchronized (ring) {
+            long sequence = nextSequence++;
+            LiveEvent event = new LiveEvent(epoch + ":" + sequence,
+                    category + "." + payload.getType().toLowerCase(), data, category, ownerUserId);
+            ring[(int) (sequence % ring.length)] = event;
+            published.incrementAndGet();
+
+            for (Subscriber subscriber : subscribers.values()) {
+                if (subscriber.canSee(event)) {
+                    enqueue(subscriber, event);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${live-events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            enqueue(subscriber, LiveEvent.HEARTBEAT);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", subscribers.size());
+        stats.put("published", published.get());
+        stats.put("evicted", evicted.get());
+        stats.put("sendTimeouts", sendTimeouts.get());
+        stats.put("bufferSize", ring.length);
+        stats.put("clientQueueSize", clientQueueSize);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        watchdog.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    // Caller holds the ring lock
+    private void replay(Subscriber subscriber, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+
+        long lastSequence = parseSequence(lastEventId);
+        long oldest = Math.max(1, nextSequence - ring.length);
+        if (lastSequence < 0 || lastSequence >= nextSequence || lastSequence + 1 < oldest
+                || nextSequence - 1 - lastSequence > clientQueueSize) {
+            // Unknown id, fallen out of the buffer or too far behind: tell the client to reload its state
+            enqueue(subscriber, LiveEvent.RESYNC);
+            return;
+        }
+        for (long sequence = lastSequence + 1; sequence < nextSequence; sequence++) {
+            LiveEvent event = ring[(int) (sequence % ring.length)];
+            if (subscriber.canSee(event)) {
+                enqueue(subscriber, event);
+            }
+        }
+    }
+
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.indexOf(':');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, LiveEvent event) {
+        if (!subscriber.queue.offer(event)) {
+            evict(subscriber, "queue full");
+            return;
+        }
+        schedule(subscriber);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            LiveEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                if (!subscribers.containsKey(subscriber.id)) {
+                    return;
+                }
+                subscriber.sendStartedAt = System.nanoTime();
+                if (event == LiveEvent.HEARTBEAT) {
+                    subscriber.emitter.send(SseEmitter.event().comment("ping"));
+                } else {
+                    SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name)
+                            .data(event.data, MediaType.APPLICATION_JSON);
+                    if (event.id != null) {
+                        builder.id(event.id);
+                    }
+                    subscriber.emitter.send(builder);
+                }
+                subscriber.sendStartedAt = 0;
+            }
+        } catch (Exception e) {
+            // Client went away mid-write, or the container gave up on a stalled one
+            subscribers.remove(subscriber.id);
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.sendStartedAt = 0;
+            if (subscriber.replaced.compareAndSet(true, false)) {
+                resizeDispatcher(-1);
+            }
+            subscriber.draining.set(false);
+        }
+        // An event may have arrived after the last poll but before the flag was cleared
+        schedule(subscriber);
+    }
+
+    private void evictStalledSends() {
+        long now = System.nanoTime();
+        long timeoutNanos = sendTimeout.toNanos();
+        for (Subscriber subscriber : subscribers.values()) {
+            long started = subscriber.sendStartedAt;
+            if (started == 0 || now - started < timeoutNanos) {
+                continue;
+            }
+            sendTimeouts.incrementAndGet();
+            // The blocked thread is lost to the pool until the write fails, so stand another in for it
+            if (subscriber.replaced.compareAndSet(false, true)) {
+                resizeDispatcher(1);
+                // The send may have returned meanwhile, too late to see the flag
+                if (subscriber.sendStartedAt != started && subscriber.replaced.compareAndSet(true, false)) {
+                    resizeDispatcher(-1);
+                }
+            }
+            evict(subscriber, "send timed out");
+        }
+    }
+
+    private synchronized void resizeDispatcher(int delta) {
+        // The maximum must never drop below the core size, so it grows first and shrinks last
+        if (delta > 0) {
+            dispatcher.setMaximumPoolSize(dispatcher.getMaximumPoolSize() + delta);
+            dispatcher.setCorePoolSize(dispatcher.getCorePoolSize() + delta);
+        } else {
+            dispatcher.setCorePoolSize(dispatcher.getCorePoolSize() + delta);
+            dispatcher.setMaximumPoolSize(dispatcher.getMaximumPoolSize() + delta);
+        }
+    }
+
+    private void evict(Subscriber subscriber, String reason) {
+        if (subscribers.remove(subscriber.id) != null) {
+            evicted.incrementAndGet();
+            logger.info("Evicting live event subscriber {} for user {}: {}", subscriber.id, subscriber.userId, reason);
+            subscriber.queue.clear();
+            try {
+                subscriber.emitter.complete();
+            } catch (Exception e) {
+                logger.debug("Failed to complete evicted emitter {}", subscriber.id, e);
+            }
+        }
+    }
+
+    private static final class LiveEvent {
+        static final LiveEvent HEARTBEAT = new LiveEvent(null, null, null, null, null);
+        static final LiveEvent RESYNC = new LiveEvent(null, "resync", "{}", null, null);
+
+        final String id;
+        final String name;
+        final String data;
+        final String category;
+        final Long ownerUserId;
+
+        LiveEvent(String id, String name, String data, String category, Long ownerUserId) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+            this.category = category;
+            this.ownerUserId = ownerUserId;
+        }
+    }
+
+    private static final class Subscriber {
+        final String id;
+        final Long userId;
+        final boolean seesAllBookings;
+        final SseEmitter emitter;
+        final BlockingQueue<LiveEvent> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        // System.nanoTime() when the send in progress started, 0 when not sending
+        volatile long sendStartedAt;
+        // Set while the pool carries an extra thread for this subscriber's stalled send
+        final AtomicBoolean replaced = new AtomicBoolean();
+
+        Subscriber(String id, Long userId, boolean seesAllBookings, SseEmitter emitter, BlockingQueue<LiveEvent> queue) {
+            this.id = id;
+            this.userId = userId;
+            this.seesAllBookings = seesAllBookings;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        boolean canSee(LiveEvent event) {
+            if (!CATEGORY_BOOKING.equals(event.category)) {
+                return true;
+            }
+            return seesAllBookings || Objects.equals(event.ownerUserId, userId);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.model.dto.NightAuditRunDto;
+import edu.icet.hotel_management_system.model.dto.OccupancySnapshotDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface NightAuditService {
+    void runDueAudits();
+    NightAuditRunDto runAudit(LocalDate businessDate);
+    NightAuditRunDto getRun(LocalDate businessDate);
+    List<OccupancySnapshotDto> getSnapshots(LocalDate from, LocalDate to);
+}
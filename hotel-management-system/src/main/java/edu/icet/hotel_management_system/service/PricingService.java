@@ -0,0 +1,280 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.event.PricingRulesChangedEvent;
+import edu.icet.hotel_management_system.exception.ResourceNotFoundException;
+import edu.icet.hotel_management_system.exception.ServiceBusyException;
+import edu.icet.hotel_management_system.model.dto.PricingRuleDto;
+import edu.icet.hotel_management_system.model.dto.StayQuoteDto;
+import edu.icet.hotel_management_system.model.entity.PricingRule;
+import edu.icet.hotel_management_system.model.entity.Room;
+import edu.icet.hotel_management_system.model.entity.enums.PricingRuleKind;
+import edu.icet.hotel_management_system.repository.PricingRuleRepository;
+import edu.icet.hotel_management_system.repository.RoomRepository;
+import edu.icet.hotel_management_system.util.RateTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Prices stays from the room's base price and the active pricing rules.
+ *
+ * Rules are compiled into a {@link RateTable} that is rebuilt after every rule change and
+ * every pricing.refresh-interval. The periodic rebuild picks up rule changes made through
+ * other nodes and the latest occupancy for occupancy rules, so occupancy pricing trails
+ * bookings by at most that interval.
+ */
+@Service
+public class PricingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PricingService.class);
+
+    @Autowired
+    private PricingRuleRepository pricingRuleRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomFacetService roomFacetService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${pricing.horizon-days:730}")
+    private int horizonDays;
+
+    private volatile RateTable rates;
+
+    @Scheduled(fixedDelayString = "${pricing.refresh-interval:PT1M}",
+            initialDelayString = "${pricing.refresh-interval:PT1M}")
+    public void refresh() {
+        List<PricingRule> rules = pricingRuleRepository.findByActiveTrue();
+        LocalDate today = LocalDate.now();
+        rates = new RateTable(rules, today, occupancyPercent(today));
+        logger.debug("Compiled {} pricing rules over {} nights", rules.size(), horizonDays);
+    }
+
+    public BigDecimal quoteTotal(Room room, LocalDate checkInDate, LocalDate checkOutDate) {
+        return quoteTotal(room.getType(), room.getPrice(), checkInDate, checkOutDate);
+    }
+
+    public BigDecimal quoteTotal(String roomType, BigDecimal basePrice, LocalDate checkInDate, LocalDate checkOutDate) {
+        int nights = (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        if (nights <= 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        RateTable table = rates();
+        return basePrice
+                .multiply(BigDecimal.valueOf(table.nightlySum(roomType, checkInDate, checkOutDate), 4))
+                .multiply(BigDecimal.valueOf(table.lengthOfStay(roomType, nights), 4))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public LocalDateTime getRatesAsOf() {
+        return rates().getBuiltAt();
+    }
+
+    /**
+     * Running totals in cents of the nightly rates from the given date on, before any
+     * length-of-stay multiplier: element i is the cost of the first i nights.
+     */
+    public long[] cumulativeNightlyCents(String roomType, BigDecimal basePrice, LocalDate from, int nights) {
+        RateTable table = rates();
+        long baseCents = basePrice.movePointRight(2).longValueExact();
+        long[] cumulative = new long[nights + 1];
+        for (int i = 0; i < nights; i++) {
+            long multiplier = table.nightly(roomType, from.plusDays(i));
+            cumulative[i + 1] = cumulative[i] + (baseCents * multiplier + RateTable.ONE / 2) / RateTable.ONE;
+        }
+        return cumulative;
+    }
+
+    @Transactional(readOnly = true)
+    public StayQuoteDto quote(Long roomId, LocalDate checkInDate, LocalDate checkOutDate) {
+        if (checkInDate == null || checkOutDate == null) {
+            throw new IllegalArgumentException("Check-in and check-out dates are required");
+        }
+        if (!checkOutDate.isAfter(checkInDate)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room", "id", roomId));
+
+        RateTable table = rates();
+        int nights = (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+        StayQuoteDto quote = new StayQuoteDto();
+        quote.setRoomId(room.getId());
+        quote.setRoomType(room.getType());
+        quote.setCheckInDate(checkInDate);
+        quote.setCheckOutDate(checkOutDate);
+        quote.setNights(nights);
+        quote.setBaseRate(room.getPrice());
+        for (LocalDate night = checkInDate; night.isBefore(checkOutDate); night = night.plusDays(1)) {
+            quote.getNightlyRates().put(night, room.getPrice()
+                    .multiply(BigDecimal.valueOf(table.nightly(room.getType(), night), 4))
+                    .setScale(2, RoundingMode.HALF_UP));
+        }
+        quote.setLengthOfStayMultiplier(BigDecimal.valueOf(table.lengthOfStay(room.getType(), nights), 4));
+        quote.setTotalPrice(quoteTotal(room, checkInDate, checkOutDate));
+        quote.setRatesAsOf(table.getBuiltAt());
+        return quote;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PricingRuleDto> getRules() {
+        return pricingRuleRepository.findAllByOrderByKindAscPriorityDescIdAsc().stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public PricingRuleDto createRule(PricingRuleDto ruleDto) {
+        PricingRule rule = new PricingRule();
+        rule.setCreatedAt(LocalDateTime.now());
+        apply(ruleDto, rule);
+        PricingRule saved = pricingRuleRepository.save(rule);
+        logger.info("Created pricing rule {} ({})", saved.getId(), saved.getName());
+        eventPublisher.publishEvent(new PricingRulesChangedEvent(saved.getId()));
+        return toDto(saved);
+    }
+
+    @Transactional
+    public PricingRuleDto updateRule(Long id, PricingRuleDto ruleDto) {
+        PricingRule rule = pricingRuleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("PricingRule", "id", id));
+        apply(ruleDto, rule);
+        PricingRule saved = pricingRuleRepository.save(rule);
+        logger.info("Updated pricing rule {} ({})", saved.getId(), saved.getName());
+        eventPublisher.publishEvent(new PricingRulesChangedEvent(saved.getId()));
+        return toDto(saved);
+    }
+
+    @Transactional
+    public void deleteRule(Long id) {
+        PricingRule rule = pricingRuleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("PricingRule", "id", id));
+        pricingRuleRepository.delete(rule);
+        logger.info("Deleted pricing rule {} ({})", id, rule.getName());
+        eventPublisher.publishEvent(new PricingRulesChangedEvent(id));
+    }
+
+    private RateTable rates() {
+        RateTable current = rates;
+        if (current == null) {
+            synchronized (this) {
+                if (rates == null) {
+                    refresh();
+                }
+                current = rates;
+            }
+        }
+        return current;
+    }
+
+    private int[] occupancyPercent(LocalDate from) {
+        int[] percent = new int[horizonDays];
+        try {
+            RoomFacetService.Snapshot snapshot = roomFacetService.snapshot();
+            int rooms = snapshot.catalogue().bookableRooms().size();
+            if (rooms > 0) {
+                int[] occupied = snapshot.calendar().occupiedRoomsPerNight(from, horizonDays);
+                for (int i = 0; i < horizonDays; i++) {
+                    percent[i] = Math.min(100, occupied[i] * 100 / rooms);
+                }
+            }
+        } catch (ServiceBusyException e) {
+            logger.debug("Room calendar not loaded yet; occupancy rules see empty nights until the next refresh");
+        }
+        return percent;
+    }
+
+    private void apply(PricingRuleDto dto, PricingRule rule) {
+        PricingRuleKind kind;
+        try {
+            kind = PricingRuleKind.valueOf(dto.getKind().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid pricing rule kind: " + dto.getKind());
+        }
+
+        String daysOfWeek = null;
+        switch (kind) {
+            case SEASON -> {
+                if (dto.getStartDate() == null || dto.getEndDate() == null) {
+                    throw new IllegalArgumentException("Season rules need a start and end date");
+                }
+                if (dto.getEndDate().isBefore(dto.getStartDate())) {
+                    throw new IllegalArgumentException("Season end date must not be before its start date");
+                }
+            }
+            case DAY_OF_WEEK -> {
+                if (dto.getDaysOfWeek() == null || dto.getDaysOfWeek().isEmpty()) {
+                    throw new IllegalArgumentException("Day-of-week rules need at least one day");
+                }
+                try {
+                    daysOfWeek = RateTable.parseDays(String.join(",", dto.getDaysOfWeek())).stream()
+                            .map(DayOfWeek::name)
+                            .collect(Collectors.joining(","));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid day of week in " + dto.getDaysOfWeek());
+                }
+            }
+            case LENGTH_OF_STAY -> {
+                if (dto.getMinNights() == null) {
+                    throw new IllegalArgumentException("Length-of-stay rules need minimum nights");
+                }
+            }
+            case OCCUPANCY -> {
+                if (dto.getMinOccupancyPercent() == null) {
+                    throw new IllegalArgumentException("Occupancy rules need a minimum occupancy percentage");
+                }
+            }
+        }
+
+        // Only the fields the kind uses are kept
+        rule.setName(dto.getName().trim());
+        rule.setKind(kind);
+        rule.setRoomType(dto.getRoomType() == null || dto.getRoomType().isBlank() ? null : dto.getRoomType().trim());
+        rule.setStartDate(kind == PricingRuleKind.SEASON ? dto.getStartDate() : null);
+        rule.setEndDate(kind == PricingRuleKind.SEASON ? dto.getEndDate() : null);
+        rule.setDaysOfWeek(daysOfWeek);
+        rule.setMinNights(kind == PricingRuleKind.LENGTH_OF_STAY ? dto.getMinNights() : null);
+        rule.setMinOccupancyPercent(kind == PricingRuleKind.OCCUPANCY ? dto.getMinOccupancyPercent() : null);
+        rule.setMultiplier(dto.getMultiplier());
+        rule.setPriority(dto.getPriority());
+        rule.setActive(dto.isActive());
+        rule.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private PricingRuleDto toDto(PricingRule rule) {
+        PricingRuleDto dto = new PricingRuleDto();
+        dto.setId(rule.getId());
+        dto.setName(rule.getName());
+        dto.setKind(rule.getKind().name());
+        dto.setRoomType(rule.getRoomType());
+        dto.setStartDate(rule.getStartDate());
+        dto.setEndDate(rule.getEndDate());
+        RateTable.parseDays(rule.getDaysOfWeek()).forEach(day -> dto.getDaysOfWeek().add(day.name()));
+        dto.setMinNights(rule.getMinNights());
+        dto.setMinOccupancyPercent(rule.getMinOccupancyPercent());
+        dto.setMultiplier(rule.getMultiplier());
+        dto.setPriority(rule.getPriority());
+        dto.setActive(rule.isActive());
+        dto.setCreatedAt(rule.getCreatedAt());
+        dto.setUpdatedAt(rule.getUpdatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,248 @@
+package edu.icet.hotel_management_system.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.icet.hotel_management_system.config.RateLimitConfig.Policy;
+import edu.icet.hotel_management_system.config.RateLimitConfig.RateLimitSettings;
+import edu.icet.hotel_management_system.model.dto.RateLimitPolicyStatsDto;
+import edu.icet.hotel_management_system.model.dto.RateLimitStatsDto;
+import edu.icet.hotel_management_system.repository.ChangeCounterRepository;
+import edu.icet.hotel_management_system.util.TokenBucket;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Per-client request rate limits (see RateLimitConfig). Each client gets a {@link TokenBucket}
+ * per policy, keyed by user for authenticated requests and by address otherwise, in a bounded
+ * map that drops idle buckets.
+ *
+ * Policies with a cluster limit also cap the total across every node: each node adds what it
+ * admitted to a change_counters row for the current window every sync interval and reads back
+ * the total, and once that reaches the limit the policy refuses everyone until the window ends.
+ * Enforcement trails by up to one sync interval, which is fine for what it is for, keeping a
+ * flood off the database.
+ */
+@Service
+public class RateLimitService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitService.class);
+
+    private static final String COUNTER_PREFIX = "rate-limit:";
+
+    public record Rejection(String policy, long retryAfterSeconds) {
+    }
+
+    @Autowired
+    private RateLimitSettings settings;
+
+    @Autowired
+    private ChangeCounterRepository changeCounterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Route> routes;
+    private Cache<String, TokenBucket> buckets;
+
+    @PostConstruct
+    void init() {
+        List<Route> compiled = new ArrayList<>();
+        for (Map.Entry<String, Policy> entry : settings.getPolicies().entrySet()) {
+            Policy policy = entry.getValue();
+            if (policy.getPaths().isEmpty()) {
+                throw new IllegalArgumentException("Rate limit policy " + entry.getKey() + " has no paths");
+            }
+            compiled.add(new Route(entry.getKey(), policy));
+            if (policy.getRequests() > 0) {
+                logger.info("Rate limit policy {}: {} requests per {} (burst {}) on {}", entry.getKey(),
+                        policy.getRequests(), policy.getPer(), burst(policy), policy.getPaths());
+            } else {
+                logger.info("Rate limit policy {}: unlimited on {}", entry.getKey(), policy.getPaths());
+            }
+        }
+        routes = List.copyOf(compiled);
+        buckets = Caffeine.newBuilder()
+                .maximumSize(settings.getMaxKeys())
+                .expireAfterAccess(settings.getKeyTtl())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return settings.isEnabled() && !routes.isEmpty();
+    }
+
+    /**
+     * Counts a request against the policy it falls under.
+     *
+     * @param clientKey the user or address the request is charged to
+     * @return null if the request may go ahead
+     */
+    public Rejection check(String method, String path, String clientKey) {
+        Route route = match(method, path);
+        if (route == null || route.policy.getRequests() <= 0) {
+            return null;
+        }
+
+        long blockedUntil = route.clusterBlockedUntil;
+        if (blockedUntil != 0) {
+            long remainingMillis = blockedUntil - System.currentTimeMillis();
+            if (remainingMillis > 0) {
+                route.clusterRejected.increment();
+                return new Rejection(route.name, seconds(TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+            }
+        }
+
+        TokenBucket bucket = buckets.get(route.name + '|' + clientKey, key ->
+                new TokenBucket(route.policy.getRequests(), route.policy.getPer(), burst(route.policy)));
+        long waitNanos = bucket.tryAcquire();
+        if (waitNanos > 0) {
+            route.rejected.increment();
+            return new Rejection(route.name, seconds(waitNanos));
+        }
+        route.allowed.increment();
+        if (route.clustered()) {
+            route.pending.increment();
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.cluster-sync-interval:PT1S}")
+    public void syncClusterCounts() {
+        if (!settings.isEnabled() || !settings.isClusterEnabled()) {
+            return;
+        }
+        for (Route route : routes) {
+            if (route.clustered()) {
+                sync(route);
+            }
+        }
+    }
+
+    public RateLimitStatsDto getStats() {
+        RateLimitStatsDto dto = new RateLimitStatsDto();
+        dto.setEnabled(settings.isEnabled());
+        dto.setClusterEnabled(settings.isClusterEnabled());
+        dto.setTrackedKeys(buckets.estimatedSize());
+        dto.setMaxKeys(settings.getMaxKeys());
+        dto.setPolicies(routes.stream().map(route -> {
+            RateLimitPolicyStatsDto stats = new RateLimitPolicyStatsDto();
+            stats.setName(route.name);
+            stats.setPaths(route.policy.getPaths());
+            stats.setRequests(route.policy.getRequests());
+            stats.setPer(route.policy.getPer().toString());
+            stats.setBurst(burst(route.policy));
+            stats.setAllowed(route.allowed.sum());
+            stats.setRejected(route.rejected.sum());
+            stats.setClusterRequests(route.policy.getClusterRequests());
+            stats.setClusterWindowCount(route.clusterWindowCount);
+            stats.setClusterRejected(route.clusterRejected.sum());
+            stats.setClusterBlocked(route.clusterBlockedUntil > System.currentTimeMillis());
+            return stats;
+        }).collect(Collectors.toList()));
+        return dto;
+    }
+
+    private Route match(String method, String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (Route route : routes) {
+            if (!route.methods.isEmpty() && !route.methods.contains(method)) {
+                continue;
+            }
+            for (PathPattern pattern : route.patterns) {
+                if (pattern.matches(pathContainer)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void sync(Route route) {
+        long windowMillis = route.policy.getClusterWindow().toMillis();
+        long window = System.currentTimeMillis() / windowMillis;
+        String counter = COUNTER_PREFIX + route.name + ":" + window;
+        long delta = route.pending.sumThenReset();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            Long total = transactionTemplate.execute(status -> {
+                if (delta > 0) {
+                    changeCounterRepository.incrementBy(counter, delta, LocalDateTime.now());
+                }
+                return changeCounterRepository.findValueByName(counter).orElse(0L);
+            });
+            route.clusterWindowCount = total;
+            route.clusterBlockedUntil = total >= route.policy.getClusterRequests() ? (window + 1) * windowMillis : 0;
+        } catch (RuntimeException e) {
+            // Counted again on the next sync; the per-client limits still hold meanwhile
+            route.pending.add(delta);
+            logger.warn("Failed to sync cluster rate limit {}: {}", route.name, e.getMessage());
+            return;
+        }
+
+        if (window != route.lastWindow) {
+            route.lastWindow = window;
+            try {
+                LocalDateTime before = LocalDateTime.now().minus(route.policy.getClusterWindow().multipliedBy(2));
+                transactionTemplate.executeWithoutResult(status ->
+                        changeCounterRepository.deleteByPrefixUpdatedBefore(COUNTER_PREFIX + route.name + ":", before));
+            } catch (RuntimeException e) {
+                logger.warn("Failed to delete old cluster rate limit counters for {}: {}", route.name, e.getMessage());
+            }
+        }
+    }
+
+    private static int burst(Policy policy) {
+        return policy.getBurst() > 0 ? policy.getBurst() : policy.getRequests();
+    }
+
+    private static long seconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private static final class Route {
+        final String name;
+        final Policy policy;
+        final Set<String> methods;
+        final List<PathPattern> patterns;
+        final LongAdder allowed = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder clusterRejected = new LongAdder();
+
+        // Admitted on this node since the last sync
+        final LongAdder pending = new LongAdder();
+        volatile long clusterWindowCount;
+        // Wall clock millis, as windows are shared between nodes
+        volatile long clusterBlockedUntil;
+        long lastWindow = -1;
+
+        Route(String name, Policy policy) {
+            this.name = name;
+            this.policy = policy;
+            this.methods = policy.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet());
+            this.patterns = policy.getPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        }
+
+        boolean clustered() {
+            return policy.getClusterRequests() > 0;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package edu.icet.hotel_management_system.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.icet.hotel_management_system.model.dto.RoomDto;
+import edu.icet.hotel_management_system.repository.RoomRepository;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The room catalogue (GET /api/rooms) serialized once per change instead of once per request:
+ * the JSON and a gzipped copy are kept in memory and written out as they are.
+ *
+ * A snapshot is tagged with the rooms change counter it was built at (see
+ * {@link EntityTagService}). It is rebuilt after every room change on this node, and by the
+ * first request that finds the counter has moved on, which covers changes made on other nodes.
+ * The counter and the rooms are read in one transaction on the primary, counter first: a
+ * replica could still be missing the change the counter already counts, and the stale list
+ * would then be served, and answered with 304s, under the new tag.
+ */
+@Service
+public class RoomCatalogueSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomCatalogueSnapshotService.class);
+
+    public record Snapshot(String etag, byte[] json, byte[] gzip) {
+
+        // Each encoding is a different representation, so it gets its own strong tag
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+    }
+
+    @Autowired
+    private EntityTagService entityTagService;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot current() {
+        String etag = entityTagService.roomsTag();
+        Snapshot current = snapshot;
+        if (current != null && current.etag().equals(etag)) {
+            return current;
+        }
+        return rebuild(etag);
+    }
+
+    public void refresh() {
+        rebuild(entityTagService.roomsTag());
+    }
+
+    // One rebuild at a time; requests that queued behind it reuse its result
+    private synchronized Snapshot rebuild(String etag) {
+        Snapshot current = snapshot;
+        if (current != null && current.etag().equals(etag)) {
+            return current;
+        }
+
+        long started = System.nanoTime();
+        // Not read-only, so it stays on the write pool, where roomsTag() is read as well
+        TransactionTemplate primary = new TransactionTemplate(transactionManager);
+        Tagged tagged = primary.execute(status -> {
+            String tag = entityTagService.roomsTag();
+            return new Tagged(tag, roomRepository.findAll().stream()
+                    .map(room -> modelMapper.map(room, RoomDto.class))
+                    .toList());
+        });
+        etag = tagged.etag();
+        List<RoomDto> rooms = tagged.rooms();
+
+        byte[] json;
+        try {
+            json = objectMapper.writerFor(new TypeReference<List<RoomDto>>() {
+            }).writeValueAsBytes(rooms);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize the room catalogue", e);
+        }
+        Snapshot rebuilt = new Snapshot(etag, json, gzip(json));
+        snapshot = rebuilt;
+        logger.debug("Room catalogue snapshot {} rebuilt in {} ms: {} rooms, {} bytes, {} gzipped",
+                etag, (System.nanoTime() - started) / 1_000_000, rooms.size(), json.length, rebuilt.gzip().length);
+        return rebuilt;
+    }
+
+    private record Tagged(String etag, List<RoomDto> rooms) {
+    }
+
+    // Compressed once per change, so the slowest level costs nothing per request
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
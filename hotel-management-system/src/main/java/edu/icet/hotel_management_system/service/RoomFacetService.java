@@ -0,0 +1,214 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.exception.ServiceBusyException;
+import edu.icet.hotel_management_system.model.dto.RoomDto;
+import edu.icet.hotel_management_system.model.dto.RoomFacetResultDto;
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import edu.icet.hotel_management_system.repository.BookingRepository;
+import edu.icet.hotel_management_system.repository.RoomRepository;
+import edu.icet.hotel_management_system.util.RoomCatalogueIndex;
+import edu.icet.hotel_management_system.util.RoomStayCalendar;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Faceted room search served entirely from memory: a {@link RoomCatalogueIndex} of the
+ * rooms and a {@link RoomStayCalendar} of the bookings that block them.
+ *
+ * The catalogue is rebuilt on every committed room change and stays are refreshed per
+ * booking change on this node. Both are reloaded periodically to pick up changes made
+ * through other nodes and to drop stays that have ended.
+ */
+@Service
+public class RoomFacetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomFacetService.class);
+
+    // Statuses that hold a room, as in RoomRepository.findAvailableRoomsForDates
+    private static final Set<BookingStatus> BLOCKING_STATUSES = EnumSet.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+
+    // Lazy because pricing reads occupancy from this service's calendar
+    @Autowired
+    @Lazy
+    private PricingService pricingService;
+
+    private volatile RoomCatalogueIndex catalogue;
+    private volatile RoomStayCalendar calendar;
+    // Bookings refreshed while a reload is reading stays, re-read once the new calendar is in place
+    private Set<Long> changedDuringReload;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        taskExecutor.execute(this::reload);
+    }
+
+    @Scheduled(fixedDelayString = "${room-facets.reload-interval:PT15M}",
+            initialDelayString = "${room-facets.reload-interval:PT15M}")
+    public void reload() {
+        try {
+            refreshRooms();
+            reloadStays();
+        } catch (RuntimeException e) {
+            logger.error("Failed to load room facet index", e);
+        }
+    }
+
+    public void refreshRooms() {
+        List<RoomDto> rooms = roomRepository.findAll().stream()
+                .map(room -> modelMapper.map(room, RoomDto.class))
+                .toList();
+        catalogue = new RoomCatalogueIndex(rooms);
+        logger.debug("Room facet index rebuilt with {} rooms", rooms.size());
+    }
+
+    public void refreshStays(Collection<Long> bookingIds) {
+        if (bookingIds.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            if (changedDuringReload != null) {
+                changedDuringReload.addAll(bookingIds);
+            }
+        }
+        RoomStayCalendar current = calendar;
+        if (current == null) {
+            return;
+        }
+
+        Set<Long> missing = new HashSet<>(bookingIds);
+        for (BookingRepository.StayRow row : bookingRepository.findStayRowsByIdIn(bookingIds)) {
+            missing.remove(row.getId());
+            if (BLOCKING_STATUSES.contains(row.getStatus())) {
+                current.put(toStay(row));
+            } else {
+                current.remove(row.getId());
+            }
+        }
+        // Deleted bookings
+        missing.forEach(current::remove);
+    }
+
+    private void reloadStays() {
+        synchronized (this) {
+            if (changedDuringReload != null) {
+                logger.debug("Room stay reload already running");
+                return;
+            }
+            changedDuringReload = new HashSet<>();
+        }
+
+        RoomStayCalendar loaded;
+        try {
+            // A stay that ended before today cannot overlap a search, which may not start in the past
+            List<RoomStayCalendar.Stay> stays = bookingRepository
+                    .findStayRowsByStatusInEndingFrom(BLOCKING_STATUSES, LocalDate.now().minusDays(1)).stream()
+                    .map(RoomFacetService::toStay)
+                    .toList();
+            loaded = new RoomStayCalendar(stays);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringReload = null;
+            }
+            throw e;
+        }
+
+        Set<Long> replay;
+        synchronized (this) {
+            calendar = loaded;
+            replay = changedDuringReload;
+            changedDuringReload = null;
+        }
+        refreshStays(replay);
+        logger.debug("Room stay calendar reloaded with {} stays", loaded.size());
+    }
+
+    public RoomFacetResultDto search(Set<String> amenities, Set<String> types, Set<String> priceBands,
+                                     Set<String> capacities, Integer minGuests, BigDecimal minPrice,
+                                     BigDecimal maxPrice, LocalDate checkInDate, LocalDate checkOutDate) {
+        if ((checkInDate == null) != (checkOutDate == null)) {
+            throw new IllegalArgumentException("Check-in and check-out dates must be given together");
+        }
+        if (checkInDate != null) {
+            if (checkInDate.isAfter(checkOutDate)) {
+                throw new IllegalArgumentException("Check-out date must be after check-in date");
+            }
+            if (checkInDate.isBefore(LocalDate.now())) {
+                throw new IllegalArgumentException("Check-in date cannot be in the past");
+            }
+        }
+
+        long started = System.nanoTime();
+        Snapshot snapshot = snapshot();
+        RoomCatalogueIndex currentCatalogue = snapshot.catalogue();
+        RoomStayCalendar currentCalendar = snapshot.calendar();
+
+        RoomCatalogueIndex.Query query = new RoomCatalogueIndex.Query(amenities, types, priceBands, capacities,
+                minGuests, minPrice, maxPrice);
+        RoomCatalogueIndex.Result result = currentCatalogue.search(query, checkInDate == null ? null
+                : roomId -> currentCalendar.isFree(roomId, checkInDate, checkOutDate));
+
+        RoomFacetResultDto dto = new RoomFacetResultDto();
+        dto.setMatchingRooms(result.rooms().size());
+        dto.setRooms(checkInDate == null ? result.rooms() : result.rooms().stream()
+                .map(room -> priced(room, checkInDate, checkOutDate))
+                .toList());
+        dto.setFacets(result.facets());
+        dto.setCatalogueAsOf(currentCatalogue.getBuiltAt());
+        dto.setElapsedMicros((System.nanoTime() - started) / 1000);
+        return dto;
+    }
+
+    /**
+     * The loaded catalogue and calendar, for other searches answered from memory.
+     */
+    public Snapshot snapshot() {
+        RoomCatalogueIndex currentCatalogue = catalogue;
+        RoomStayCalendar currentCalendar = calendar;
+        if (currentCatalogue == null || currentCalendar == null) {
+            throw new ServiceBusyException("Room catalogue index");
+        }
+        return new Snapshot(currentCatalogue, currentCalendar);
+    }
+
+    public record Snapshot(RoomCatalogueIndex catalogue, RoomStayCalendar calendar) {
+    }
+
+    // Catalogue rooms are shared between searches, so the stay price goes on a copy
+    private RoomDto priced(RoomDto room, LocalDate checkInDate, LocalDate checkOutDate) {
+        RoomDto copy = new RoomDto();
+        BeanUtils.copyProperties(room, copy);
+        copy.setStayPrice(pricingService.quoteTotal(room.getType(), room.getPrice(), checkInDate, checkOutDate));
+        return copy;
+    }
+
+    private static RoomStayCalendar.Stay toStay(BookingRepository.StayRow row) {
+        return new RoomStayCalendar.Stay(row.getId(), row.getRoomId(), row.getCheckInDate(), row.getCheckOutDate());
+    }
+}
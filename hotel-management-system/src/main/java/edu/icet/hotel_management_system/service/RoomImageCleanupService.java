@@ -0,0 +1,204 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.model.dto.RoomImageGcReportDto;
+import edu.icet.hotel_management_system.repository.RoomImageRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Garbage collector for room image blobs no room_images row refers to: files of deleted rooms,
+ * files whose delete failed, and uploads that never got a row.
+ *
+ * A pass walks rooms/originals and then rooms/variants a page at a time, a few pages per run,
+ * and keeps its place between runs, so even a very large store is collected in bounded memory
+ * and bounded time per run. Only blobs older than the grace period are candidates, which covers
+ * uploads whose row is not committed yet. The lease is kept between runs so one node works
+ * through a pass; the place is held in memory, so a pass starts over if the lease moves.
+ */
+@Service
+public class RoomImageCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomImageCleanupService.class);
+
+    private static final String LEASE_NAME = "room-image-gc";
+    private static final List<String> AREAS = List.of(RoomImageService.ORIGINALS, RoomImageService.VARIANTS);
+    // Stored file names start with the content hash: {hash}.{ext} and {hash}-{variant}.jpg
+    private static final Pattern HASHED_NAME = Pattern.compile("([0-9a-f]{64})[.-][^/]*");
+
+    @Autowired
+    private RoomImageRepository roomImageRepository;
+
+    @Autowired
+    private RoomImageService roomImageService;
+
+    @Autowired
+    private RoomImageFileService roomImageFileService;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private LeaderLeaseService leaseService;
+
+    @Value("${room-images.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${room-images.gc.grace-period:PT24H}")
+    private Duration gracePeriod;
+
+    @Value("${room-images.gc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${room-images.gc.pages-per-run:20}")
+    private int pagesPerRun;
+
+    // Longer than the interval, so the holder keeps it from one run to the next
+    @Value("${room-images.gc.lease-ttl:PT30M}")
+    private Duration leaseTtl;
+
+    // Position of the pass in progress
+    private int area;
+    private String cursor;
+    private RoomImageGcReportDto pass;
+
+    private volatile RoomImageGcReportDto progress;
+    private volatile RoomImageGcReportDto lastPass;
+
+    @Scheduled(fixedDelayString = "${room-images.gc.interval:PT10M}",
+            initialDelayString = "${room-images.gc.interval:PT10M}")
+    public synchronized void collect() {
+        if (!enabled) {
+            return;
+        }
+        if (!leaseService.tryAcquire(LEASE_NAME, leaseTtl)) {
+            logger.debug("Room image GC lease held by another node, skipping");
+            return;
+        }
+
+        if (pass == null) {
+            pass = new RoomImageGcReportDto();
+            pass.setOwner(leaseService.getOwnerId());
+            pass.setStartedAt(LocalDateTime.now());
+        }
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        try {
+            for (int page = 0; page < pagesPerRun && pass != null; page++) {
+                BlobStore.Listing listing = blobStore.list(RoomImageService.directory(AREAS.get(area)), cursor, batchSize);
+                collectPage(listing.blobs(), cutoff);
+                cursor = listing.cursor();
+                if (cursor == null && ++area == AREAS.size()) {
+                    finishPass(cutoff);
+                } else {
+                    progress = copy(pass);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // A stale cursor would fail the same way on every run
+            logger.warn("Room image GC pass abandoned after {} blobs: {}", pass.getScannedBlobs(), e.getMessage());
+            area = 0;
+            cursor = null;
+            pass = null;
+            progress = null;
+        }
+    }
+
+    /**
+     * The pass in progress on this node, or else the last one it completed; null before the first.
+     */
+    public RoomImageGcReportDto getReport() {
+        RoomImageGcReportDto current = progress;
+        return current != null ? current : lastPass;
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        leaseService.release(LEASE_NAME);
+    }
+
+    private void collectPage(List<BlobStore.Blob> blobs, Instant cutoff) {
+        pass.setScannedBlobs(pass.getScannedBlobs() + blobs.size());
+
+        Map<String, List<BlobStore.Blob>> candidates = new HashMap<>();
+        for (BlobStore.Blob blob : blobs) {
+            Matcher matcher = HASHED_NAME.matcher(blob.key().substring(blob.key().lastIndexOf('/') + 1));
+            if (matcher.matches() && blob.lastModified().isBefore(cutoff)) {
+                candidates.computeIfAbsent(matcher.group(1), hash -> new ArrayList<>()).add(blob);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+        roomImageRepository.findReferencedContentHashes(candidates.keySet()).forEach(candidates::remove);
+
+        for (List<BlobStore.Blob> orphans : candidates.values()) {
+            for (BlobStore.Blob orphan : orphans) {
+                pass.setOrphanBlobs(pass.getOrphanBlobs() + 1);
+                delete(orphan.key(), cutoff);
+            }
+        }
+    }
+
+    private void delete(String key, Instant cutoff) {
+        try {
+            // An upload of the same content rewrites the blob before its row is saved
+            Optional<BlobStore.Blob> current = blobStore.stat(key);
+            if (current.isEmpty() || !current.get().lastModified().isBefore(cutoff)) {
+                return;
+            }
+            blobStore.delete(key);
+            roomImageFileService.evict(key);
+            pass.setDeletedBlobs(pass.getDeletedBlobs() + 1);
+            pass.setReclaimedBytes(pass.getReclaimedBytes() + current.get().size());
+        } catch (IOException e) {
+            pass.setFailedDeletes(pass.getFailedDeletes() + 1);
+            logger.warn("Failed to delete orphaned room image blob {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void finishPass(Instant cutoff) throws IOException {
+        // Scratch files left by uploads and variant jobs that died part way
+        try (DirectoryStream<Path> temps = Files.newDirectoryStream(roomImageService.tempDir())) {
+            for (Path temp : temps) {
+                try {
+                    if (Files.getLastModifiedTime(temp).toInstant().isBefore(cutoff) && Files.deleteIfExists(temp)) {
+                        pass.setDeletedTempFiles(pass.getDeletedTempFiles() + 1);
+                    }
+                } catch (NoSuchFileException e) {
+                    // Finished and removed by its upload meanwhile
+                }
+            }
+        }
+
+        pass.setComplete(true);
+        pass.setFinishedAt(LocalDateTime.now());
+        logger.info("Room image GC pass scanned {} blobs, deleted {} of {} orphans ({} bytes), {} failed, {} temp files",
+                pass.getScannedBlobs(), pass.getDeletedBlobs(), pass.getOrphanBlobs(), pass.getReclaimedBytes(),
+                pass.getFailedDeletes(), pass.getDeletedTempFiles());
+        lastPass = pass;
+        progress = null;
+        area = 0;
+        cursor = null;
+        pass = null;
+    }
+
+    private static RoomImageGcReportDto copy(RoomImageGcReportDto report) {
+        RoomImageGcReportDto copy = new RoomImageGcReportDto();
+        BeanUtils.copyProperties(report, copy);
+        return copy;
+    }
+}
@@ -0,0 +1,108 @@
+package edu.icet.hotel_management_system.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Looks up content-addressed room image files for serving. The file name carries the
+ * content hash, so a name always denotes the same bytes: it doubles as a strong ETag and
+ * the file can be cached forever. Small files (thumbnails, mostly) are kept in memory.
+ */
+@Service
+public class RoomImageFileService {
+
+    // {hash}.{ext} under originals, {hash}-{variant}.jpg under variants
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})(-(?:thumbnail|card|full))?\\.(jpg|png|gif|webp)");
+
+    /**
+     * @param path    the file when it is on local disk, for sendfile; null otherwise
+     * @param content the whole file when it is small enough to keep in memory; null otherwise
+     */
+    public record ImageFile(String key, Path path, long length, String etag, String contentType, byte[] content) {
+    }
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Value("${room-images.serving.memory-cache-bytes:16777216}")
+    private long memoryCacheBytes;
+
+    @Value("${room-images.serving.memory-max-file-bytes:65536}")
+    private int memoryMaxFileBytes;
+
+    private Cache<String, byte[]> smallFiles;
+
+    @PostConstruct
+    void init() {
+        smallFiles = Caffeine.newBuilder()
+                .maximumWeight(memoryCacheBytes)
+                .weigher((String key, byte[] content) -> content.length)
+                .build();
+    }
+
+    /**
+     * @return the file, or null when the name is not a stored image or the file does not exist
+     */
+    public ImageFile find(String area, String prefix, String fileName) throws IOException {
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches() || !matcher.group(1).startsWith(prefix) || prefix.length() != 2) {
+            return null;
+        }
+        boolean variant = matcher.group(2) != null;
+        if (!((RoomImageService.ORIGINALS.equals(area) && !variant) || (RoomImageService.VARIANTS.equals(area) && variant))) {
+            return null;
+        }
+
+        String etag = "\"" + fileName.substring(0, fileName.lastIndexOf('.')) + "\"";
+        String contentType = contentType(matcher.group(3));
+        String key = RoomImageService.key(area, fileName);
+        byte[] cached = smallFiles.getIfPresent(key);
+        if (cached != null) {
+            return new ImageFile(key, null, cached.length, etag, contentType, cached);
+        }
+
+        OptionalLong length = blobStore.size(key);
+        if (length.isEmpty()) {
+            return null;
+        }
+        byte[] content = null;
+        if (length.getAsLong() <= memoryMaxFileBytes) {
+            try (InputStream in = blobStore.open(key, 0, length.getAsLong())) {
+                content = in.readAllBytes();
+            }
+            smallFiles.put(key, content);
+        }
+        return new ImageFile(key, blobStore.localPath(key).orElse(null), length.getAsLong(), etag, contentType, content);
+    }
+
+    public InputStream open(ImageFile file, long offset, long length) throws IOException {
+        return blobStore.open(file.key(), offset, length);
+    }
+
+    /**
+     * Drops a deleted file from memory, given its blob store key.
+     */
+    public void evict(String key) {
+        smallFiles.invalidate(key);
+    }
+
+    private static String contentType(String extension) {
+        return switch (extension) {
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            case "webp" -> "image/webp";
+            default -> "image/jpeg";
+        };
+    }
+}
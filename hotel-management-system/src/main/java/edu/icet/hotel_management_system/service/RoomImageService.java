@@ -0,0 +1,379 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.event.RoomChangedEvent;
+import edu.icet.hotel_management_system.model.entity.RoomImage;
+import edu.icet.hotel_management_system.model.entity.enums.RoomImageStatus;
+import edu.icet.hotel_management_system.repository.RoomImageRepository;
+import edu.icet.hotel_management_system.util.ImageResizer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stores room images by content and generates their resized variants in the background.
+ *
+ * Uploads stream straight to a temporary file while their SHA-256 is computed, then go to the
+ * {@link BlobStore} as rooms/originals/{hash}.{ext}. The same picture uploaded twice, for the
+ * same room or another, is stored once. Variants (thumbnail, card, full) are JPEGs under
+ * rooms/variants, named by the same hash, and are produced by a small bounded worker pool;
+ * images the pool had no room for stay PENDING and are picked up by a periodic sweep.
+ */
+@Service
+public class RoomImageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomImageService.class);
+
+    public enum Variant {
+        THUMBNAIL, CARD, FULL
+    }
+
+    public static final String ORIGINALS = "originals";
+    public static final String VARIANTS = "variants";
+
+    private static final Pattern STORED_URL = Pattern.compile("/uploads/rooms/(originals|variants)/[0-9a-f]{2}/([^/]+)");
+
+    public record StoredImage(String contentHash, String contentType, long sizeBytes, String url) {
+    }
+
+    private enum ImageType {
+        JPEG("image/jpeg", "jpg"), PNG("image/png", "png"), GIF("image/gif", "gif");
+
+        private final String contentType;
+        private final String extension;
+
+        ImageType(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        // By magic number; the client's file name and content type are not trusted
+        static ImageType sniff(byte[] head, int length) {
+            if (length >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+                return JPEG;
+            }
+            if (length >= 8 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+                return PNG;
+            }
+            if (length >= 4 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8') {
+                return GIF;
+            }
+            if (length >= 12 && head[0] == 'R' && head[1] == 'I' && head[2] == 'F' && head[3] == 'F'
+                    && head[8] == 'W' && head[9] == 'E' && head[10] == 'B' && head[11] == 'P') {
+                // ImageIO has no WebP reader, so its variants could never be made
+                throw new IllegalArgumentException("WebP images are not supported; upload a JPEG, PNG or GIF");
+            }
+            throw new IllegalArgumentException("Only JPEG, PNG and GIF images can be uploaded");
+        }
+    }
+
+    @Autowired
+    private RoomImageRepository roomImageRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private RoomImageFileService roomImageFileService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Value("${room-images.thumbnail-size:160}")
+    private int thumbnailSize;
+
+    @Value("${room-images.card-size:480}")
+    private int cardSize;
+
+    @Value("${room-images.full-size:1600}")
+    private int fullSize;
+
+    @Value("${room-images.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    // Decoding is refused above this, before pixels are allocated
+    @Value("${room-images.max-pixels:50000000}")
+    private long maxPixels;
+
+    // Blobs written within the image GC's grace period are left to it when released
+    @Value("${room-images.gc.grace-period:PT24H}")
+    private Duration gracePeriod;
+
+    private final ThreadPoolExecutor workers;
+    // Images queued or being processed, so the sweep does not queue them twice
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    public RoomImageService(@Value("${room-images.worker-threads:2}") int workerThreads,
+                            @Value("${room-images.queue-capacity:100}") int queueCapacity) {
+        this.workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "room-images-" + Integer.toHexString(runnable.hashCode()));
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    public StoredImage store(MultipartFile file) throws IOException {
+        Path temp = Files.createTempFile(tempDir(), "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            byte[] head = new byte[12];
+            int headLength = 0;
+            long size = 0;
+            try (InputStream in = file.getInputStream(); OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    if (headLength < head.length) {
+                        int copied = Math.min(read, head.length - headLength);
+                        System.arraycopy(buffer, 0, head, headLength, copied);
+                        headLength += copied;
+                    }
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                    size += read;
+                }
+            }
+            if (size == 0) {
+                throw new IllegalArgumentException("Image file is empty");
+            }
+            ImageType type = ImageType.sniff(head, headLength);
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            String fileName = hash + "." + type.extension;
+            String key = key(ORIGINALS, fileName);
+            // Written even when the content is already stored: the row that refers to it may be
+            // released or collected before this upload's row commits, and a fresh copy restarts
+            // the image GC's grace period
+            blobStore.put(key, temp, type.contentType);
+            return new StoredImage(hash, type.contentType, size, url(ORIGINALS, fileName));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Queues variant generation for a PENDING image. Returns straight away; when the queue is
+     * full the image is left for the sweep.
+     */
+    public void generateVariants(Long imageId) {
+        if (!queued.add(imageId)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    process(imageId);
+                } finally {
+                    queued.remove(imageId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.remove(imageId);
+            logger.warn("Image worker queue full; image {} will be retried by the sweep", imageId);
+        }
+    }
+
+    // Also covers images whose upload outlived the node that stored them
+    @Scheduled(fixedDelayString = "${room-images.sweep-interval:PT5M}",
+            initialDelayString = "${room-images.sweep-interval:PT5M}")
+    public void sweepPending() {
+        for (RoomImage image : roomImageRepository.findTop100ByStatusOrderByIdAsc(RoomImageStatus.PENDING)) {
+            generateVariants(image.getId());
+        }
+    }
+
+    /**
+     * Deletes the image's files unless another image row still refers to the same content.
+     * Call once the row itself has been removed and that removal committed. Files written
+     * recently are kept, as an upload of the same content may not have committed its row yet;
+     * the image GC reclaims them if nothing does.
+     */
+    public void release(RoomImage image) throws IOException {
+        if (image.getContentHash() != null && roomImageRepository.countByContentHash(image.getContentHash()) > 0) {
+            logger.debug("Image {} is shared; keeping its files", image.getContentHash());
+            return;
+        }
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        for (String url : new String[]{image.getImageUrl(), image.getThumbnailUrl(), image.getCardUrl(), image.getFullUrl()}) {
+            if (url == null) {
+                continue;
+            }
+            String key = keyForUrl(url);
+            if (key != null) {
+                Optional<BlobStore.Blob> blob = blobStore.stat(key);
+                if (blob.isEmpty() || !blob.get().lastModified().isBefore(cutoff)) {
+                    continue;
+                }
+                blobStore.delete(key);
+                roomImageFileService.evict(key);
+            } else {
+                // Uploaded before the blob store, straight into the upload directory
+                Files.deleteIfExists(Paths.get(uploadDir, url.replaceFirst("^/uploads/?", "")));
+            }
+        }
+    }
+
+    private void process(Long imageId) {
+        RoomImage image = roomImageRepository.findById(imageId).orElse(null);
+        if (image == null || image.getStatus() != RoomImageStatus.PENDING || image.getContentHash() == null) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        Map<Variant, String> urls = new EnumMap<>(Variant.class);
+        RoomImageStatus status;
+        try {
+            String originalKey = keyForUrl(image.getImageUrl());
+            BufferedImage decoded = null;
+            for (Variant variant : Variant.values()) {
+                String fileName = image.getContentHash() + "-" + variant.name().toLowerCase() + ".jpg";
+                String key = key(VARIANTS, fileName);
+                // Shared content: another room's upload may already have produced it
+                if (blobStore.size(key).isEmpty()) {
+                    if (decoded == null) {
+                        decoded = decode(originalKey);
+                    }
+                    Path temp = Files.createTempFile(tempDir(), "variant-", ".jpg");
+                    try {
+                        ImageResizer.writeJpeg(ImageResizer.fit(decoded, maxEdge(variant)), temp, jpegQuality);
+                        blobStore.put(key, temp, "image/jpeg");
+                    } finally {
+                        Files.deleteIfExists(temp);
+                    }
+                }
+                urls.put(variant, url(VARIANTS, fileName));
+            }
+            status = RoomImageStatus.READY;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to generate variants for room image {}: {}", imageId, e.getMessage());
+            urls.clear();
+            status = RoomImageStatus.FAILED;
+        }
+
+        // The room's ETag bump, made by EntityTagListener, commits with the new variants
+        RoomImageStatus outcome = status;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Boolean updated = transactionTemplate.execute(tx -> {
+            if (roomImageRepository.completeVariants(imageId, outcome,
+                    urls.get(Variant.THUMBNAIL), urls.get(Variant.CARD), urls.get(Variant.FULL)) == 0) {
+                return false;
+            }
+            roomImageRepository.findRoomIdById(imageId).ifPresent(roomId ->
+                    eventPublisher.publishEvent(new RoomChangedEvent(roomId, RoomChangedEvent.ChangeType.IMAGES_CHANGED)));
+            return true;
+        });
+        if (!Boolean.TRUE.equals(updated)) {
+            return;
+        }
+        logger.info("Room image {} {} in {} ms", imageId, status, (System.nanoTime() - started) / 1_000_000);
+
+        Cache availableRooms = cacheManager.getCache("availableRooms");
+        if (availableRooms != null) {
+            availableRooms.clear();
+        }
+    }
+
+    private int maxEdge(Variant variant) {
+        return switch (variant) {
+            case THUMBNAIL -> thumbnailSize;
+            case CARD -> cardSize;
+            case FULL -> fullSize;
+        };
+    }
+
+    private BufferedImage decode(String key) throws IOException {
+        if (key == null) {
+            throw new IOException("Image has no stored original");
+        }
+        Optional<Path> local = blobStore.localPath(key);
+        if (local.isPresent()) {
+            return ImageResizer.read(local.get(), fullSize, maxPixels);
+        }
+        long size = blobStore.size(key).orElseThrow(() -> new NoSuchFileException(key));
+        try (InputStream in = blobStore.open(key, 0, size)) {
+            return ImageResizer.read(in, fullSize, maxPixels);
+        }
+    }
+
+    // Scratch space for uploads and variants before they go to the blob store
+    Path tempDir() throws IOException {
+        return Files.createDirectories(Paths.get(uploadDir, "tmp"));
+    }
+
+    /**
+     * Blob store key of a stored image file: rooms/{originals|variants}/{file name}.
+     */
+    public static String key(String area, String fileName) {
+        return directory(area) + "/" + fileName;
+    }
+
+    public static String directory(String area) {
+        return "rooms/" + area;
+    }
+
+    // Public URLs keep a 2-character hash prefix, so they stay stable whatever the store's layout
+    private static String url(String area, String fileName) {
+        return "/uploads/rooms/" + area + "/" + fileName.substring(0, 2) + "/" + fileName;
+    }
+
+    /**
+     * Blob store key for an image URL, or null for images uploaded before content addressing.
+     */
+    static String keyForUrl(String url) {
+        Matcher matcher = STORED_URL.matcher(url);
+        return matcher.matches() ? key(matcher.group(1), matcher.group(2)) : null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
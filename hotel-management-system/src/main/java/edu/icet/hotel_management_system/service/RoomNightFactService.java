@@ -0,0 +1,123 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.model.entity.Booking;
+import edu.icet.hotel_management_system.model.entity.RoomNightFact;
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import edu.icet.hotel_management_system.repository.BookingRepository;
+import edu.icet.hotel_management_system.repository.RoomNightFactRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintains the room_night_fact table: one row per booked room per night.
+ */
+@Service
+@Transactional
+public class RoomNightFactService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomNightFactService.class);
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    @Autowired
+    private RoomNightFactRepository factRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /** Replaces the facts of one booking; removes them if the booking no longer exists. */
+    public void refreshBooking(Long bookingId) {
+        factRepository.deleteByBookingId(bookingId);
+        bookingRepository.findById(bookingId)
+                .ifPresent(booking -> factRepository.saveAll(buildFacts(booking)));
+    }
+
+    public void updateStatus(Collection<Long> bookingIds, BookingStatus status) {
+        factRepository.updateStatusByBookingIds(bookingIds, status);
+    }
+
+    /**
+     * Recomputes every fact from the bookings table, one chunk of bookings per transaction, so
+     * booking writes refreshing their own facts meanwhile wait for one chunk at most.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildAll() {
+        logger.info("Rebuilding room night facts");
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+
+        int written = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> ids = bookingRepository.findIdsAfterId(afterId, PageRequest.of(0, REBUILD_CHUNK_SIZE));
+            // The last chunk runs to the end of the table, clearing facts of bookings deleted there
+            boolean last = ids.size() < REBUILD_CHUNK_SIZE;
+            long from = afterId;
+            long upTo = last ? Long.MAX_VALUE : ids.get(ids.size() - 1);
+            written += chunkTransaction.execute(status -> rebuildChunk(from, upTo));
+            if (last) {
+                break;
+            }
+            afterId = upTo;
+        }
+
+        logger.info("Rebuilt {} room night facts", written);
+        return written;
+    }
+
+    // The facts are deleted, and so locked, before the bookings are read: a booking write that
+    // commits meanwhile is either seen here or rewrites its own facts once this chunk commits
+    private int rebuildChunk(long afterId, long upToId) {
+        factRepository.deleteByBookingIdRange(afterId, upToId);
+        List<Booking> bookings = bookingRepository.findWithRoomAfterId(afterId,
+                upToId == Long.MAX_VALUE ? Pageable.unpaged() : PageRequest.of(0, REBUILD_CHUNK_SIZE));
+
+        List<RoomNightFact> facts = new ArrayList<>();
+        for (Booking booking : bookings) {
+            if (booking.getId() <= upToId) {
+                facts.addAll(buildFacts(booking));
+            }
+        }
+        factRepository.saveAll(facts);
+        return facts.size();
+    }
+
+    private List<RoomNightFact> buildFacts(Booking booking) {
+        LocalDate checkIn = booking.getCheckInDate();
+        long nights = Math.max(1, ChronoUnit.DAYS.between(checkIn, booking.getCheckOutDate()));
+        BigDecimal rate = booking.getTotalPrice().divide(BigDecimal.valueOf(nights), 2, RoundingMode.HALF_UP);
+        // Bookings created before created_at existed fall back to their arrival date
+        LocalDate bookedOn = booking.getCreatedAt() != null ? booking.getCreatedAt().toLocalDate() : checkIn;
+
+        List<RoomNightFact> facts = new ArrayList<>((int) nights);
+        for (long i = 0; i < nights; i++) {
+            RoomNightFact fact = new RoomNightFact();
+            fact.setBookingId(booking.getId());
+            fact.setRoomId(booking.getRoom().getId());
+            fact.setNight(checkIn.plusDays(i));
+            fact.setStatus(booking.getStatus());
+            fact.setRate(rate);
+            fact.setRoomType(booking.getRoom().getType());
+            fact.setBookedOn(bookedOn);
+            facts.add(fact);
+        }
+        return facts;
+    }
+}
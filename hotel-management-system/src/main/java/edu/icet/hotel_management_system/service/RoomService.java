@@ -10,7 +10,10 @@ public interface RoomService {
     RoomDto createRoom(RoomDto roomDto);
     RoomDto getRoomById(Long id);
     List<RoomDto> getAllRooms();
-    List<RoomDto> getAvailableRooms();
+    /**
+     * @param roomsTag the rooms tag read just before, which the result is cached under
+     */
+    List<RoomDto> getAvailableRooms(String roomsTag);
     RoomDto updateRoom(Long id, RoomDto roomDto);
     void deleteRoom(Long id);
     RoomDto uploadRoomImage(Long roomId, MultipartFile file);
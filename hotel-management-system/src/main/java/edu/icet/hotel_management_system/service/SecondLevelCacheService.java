@@ -0,0 +1,80 @@
+package edu.icet.hotel_management_system.service;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import edu.icet.hotel_management_system.config.HibernateCacheConfig;
+import edu.icet.hotel_management_system.model.dto.CacheRegionStatsDto;
+import edu.icet.hotel_management_system.model.dto.SecondLevelCacheStatsDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+/**
+ * Hit, miss and size figures for the Hibernate second-level cache regions, together with
+ * the session factory's statement counters so the effect of the cache can be measured.
+ */
+@Service
+public class SecondLevelCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheService.class);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    public SecondLevelCacheStatsDto getStats() {
+        Statistics statistics = statistics();
+
+        SecondLevelCacheStatsDto dto = new SecondLevelCacheStatsDto();
+        dto.setSince(statistics.getStart());
+        dto.setPrepareStatementCount(statistics.getPrepareStatementCount());
+        dto.setEntityLoadCount(statistics.getEntityLoadCount());
+        dto.setCollectionLoadCount(statistics.getCollectionLoadCount());
+        dto.setSecondLevelCacheHitCount(statistics.getSecondLevelCacheHitCount());
+        dto.setSecondLevelCacheMissCount(statistics.getSecondLevelCacheMissCount());
+
+        for (String region : HibernateCacheConfig.REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            CacheRegionStatsDto regionDto = new CacheRegionStatsDto();
+            regionDto.setRegion(region);
+            regionDto.setHitCount(regionStatistics.getHitCount());
+            regionDto.setMissCount(regionStatistics.getMissCount());
+            regionDto.setPutCount(regionStatistics.getPutCount());
+            long lookups = regionStatistics.getHitCount() + regionStatistics.getMissCount();
+            regionDto.setHitRatio(lookups == 0 ? 0 : (double) regionStatistics.getHitCount() / lookups);
+
+            Cache<Object, Object> cache = hibernateCacheManager.getCache(region);
+            if (cache != null) {
+                regionDto.setSize(cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize());
+                @SuppressWarnings("unchecked")
+                CaffeineConfiguration<Object, Object> configuration = cache.getConfiguration(CaffeineConfiguration.class);
+                configuration.getMaximumSize().ifPresent(regionDto::setMaximumSize);
+            }
+            dto.getRegions().add(regionDto);
+        }
+        return dto;
+    }
+
+    public void resetStatistics() {
+        logger.info("Resetting Hibernate statistics");
+        statistics().clear();
+    }
+
+    public void evictAll() {
+        logger.info("Evicting all second-level cache regions");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,195 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.model.dto.UserStatsDto;
+import edu.icet.hotel_management_system.model.entity.User;
+import edu.icet.hotel_management_system.model.entity.UserCounter;
+import edu.icet.hotel_management_system.model.entity.enums.ERole;
+import edu.icet.hotel_management_system.repository.UserCounterRepository;
+import edu.icet.hotel_management_system.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User counts by role and enabled state, kept in user_counters so dashboards never
+ * COUNT(*) the users table. Counters are adjusted in the same transaction as the user
+ * change; a periodic recount corrects drift from writes that bypass this service.
+ */
+@Service
+public class UserCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCounterService.class);
+
+    private static final String ROLE_PREFIX = "role:";
+    private static final String ENABLED = "enabled";
+    // Enabled users with the USER role, as in UserRepository.countActiveCustomers
+    private static final String ACTIVE_CUSTOMERS = "active_customers";
+    private static final String RECOUNT_LEASE = "user-counter-recount";
+
+    @Autowired
+    private UserCounterRepository counterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LeaderLeaseService leaseService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${user-counters.cache-ttl:PT10S}")
+    private Duration cacheTtl;
+
+    private volatile CachedCounts cached;
+
+    public void userCreated(User user) {
+        apply(contributions(user.getRole(), user.isEnabled()), 1);
+    }
+
+    public void userChanged(ERole oldRole, boolean oldEnabled, User user) {
+        Map<String, Long> deltas = new HashMap<>();
+        contributions(oldRole, oldEnabled).forEach(name -> deltas.merge(name, -1L, Long::sum));
+        contributions(user.getRole(), user.isEnabled()).forEach(name -> deltas.merge(name, 1L, Long::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+        applyDeltas(deltas);
+    }
+
+    public void userDeleted(User user) {
+        apply(contributions(user.getRole(), user.isEnabled()), -1);
+    }
+
+    public UserStatsDto getStats() {
+        CachedCounts counts = cached;
+        if (counts == null || counts.loadedAt.plus(cacheTtl).isBefore(LocalDateTime.now())) {
+            counts = load();
+            cached = counts;
+        }
+
+        UserStatsDto dto = new UserStatsDto();
+        long total = 0;
+        for (ERole role : ERole.values()) {
+            long users = counts.values.getOrDefault(ROLE_PREFIX + role.name(), 0L);
+            dto.getUsersByRole().put(role.name(), users);
+            total += users;
+        }
+        dto.setTotalUsers(total);
+        dto.setEnabledUsers(counts.values.getOrDefault(ENABLED, 0L));
+        dto.setActiveCustomers(counts.values.getOrDefault(ACTIVE_CUSTOMERS, 0L));
+        dto.setAsOf(counts.loadedAt);
+        return dto;
+    }
+
+    @Scheduled(fixedDelayString = "${user-counters.recount-interval:PT1H}",
+            initialDelayString = "${user-counters.recount-initial-delay:PT1M}")
+    public void scheduledRecount() {
+        if (!leaseService.tryAcquire(RECOUNT_LEASE, Duration.ofMinutes(10))) {
+            return;
+        }
+        try {
+            recount();
+        } finally {
+            leaseService.release(RECOUNT_LEASE);
+        }
+    }
+
+    /**
+     * Recomputes every counter from the users table. The counter rows are locked first so
+     * increments from concurrent transactions land either before the count or after it.
+     */
+    public void recount() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Map<String, Long> stored = new HashMap<>();
+            for (UserCounter counter : counterRepository.findAllForUpdate()) {
+                stored.put(counter.getName(), counter.getValue());
+            }
+
+            Map<String, Long> actual = new HashMap<>();
+            for (ERole role : ERole.values()) {
+                actual.put(ROLE_PREFIX + role.name(), 0L);
+            }
+            actual.put(ENABLED, 0L);
+            actual.put(ACTIVE_CUSTOMERS, 0L);
+            for (UserRepository.RoleEnabledCount row : userRepository.countByRoleAndEnabled()) {
+                for (String name : contributions(row.getRole(), row.getEnabled())) {
+                    actual.merge(name, row.getUsers(), Long::sum);
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            actual.forEach((name, value) -> {
+                long previous = stored.getOrDefault(name, 0L);
+                if (previous != value || !stored.containsKey(name)) {
+                    logger.info("Correcting user counter {}: {} -> {}", name, previous, value);
+                    counterRepository.set(name, value, now);
+                }
+            });
+        });
+        cached = null;
+    }
+
+    private void apply(Iterable<String> names, long delta) {
+        Map<String, Long> deltas = new HashMap<>();
+        names.forEach(name -> deltas.put(name, delta));
+        applyDeltas(deltas);
+    }
+
+    private void applyDeltas(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // Fixed order so concurrent transactions lock counter rows in the same sequence
+        deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> counterRepository.increment(entry.getKey(), entry.getValue(), now));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cached = null;
+                }
+            });
+        } else {
+            cached = null;
+        }
+    }
+
+    private CachedCounts load() {
+        Map<String, Long> values = new HashMap<>();
+        for (UserCounter counter : counterRepository.findAll()) {
+            values.put(counter.getName(), counter.getValue());
+        }
+        return new CachedCounts(values, LocalDateTime.now());
+    }
+
+    private static List<String> contributions(ERole role, boolean enabled) {
+        List<String> names = new ArrayList<>(3);
+        names.add(ROLE_PREFIX + role.name());
+        if (enabled) {
+            names.add(ENABLED);
+            if (role == ERole.USER) {
+                names.add(ACTIVE_CUSTOMERS);
+            }
+        }
+        return names;
+    }
+
+    private record CachedCounts(Map<String, Long> values, LocalDateTime loadedAt) {
+    }
+}
@@ -0,0 +1,195 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.event.UserChangedEvent;
+import edu.icet.hotel_management_system.exception.ServiceBusyException;
+import edu.icet.hotel_management_system.model.dto.UserSearchHitDto;
+import edu.icet.hotel_management_system.model.dto.UserSearchResultDto;
+import edu.icet.hotel_management_system.model.entity.User;
+import edu.icet.hotel_management_system.repository.UserRepository;
+import edu.icet.hotel_management_system.util.TrigramIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Guest directory search over name, email and phone, served from an in-memory
+ * {@link TrigramIndex}. The index is loaded from the users table at startup, kept
+ * current from committed {@link UserChangedEvent}s on this node and rebuilt periodically
+ * to pick up changes made through other nodes.
+ */
+@Service
+public class UserSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private TaskExecutor taskExecutor;
+
+    @Value("${user-search.load-page-size:5000}")
+    private int loadPageSize;
+
+    @Value("${user-search.max-results:500}")
+    private int maxResults;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private TrigramIndex index;
+    // Changes seen while a rebuild is reading the table, replayed onto the new index
+    private List<UserChangedEvent> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        taskExecutor.execute(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${user-search.rebuild-interval:PT6H}",
+            initialDelayString = "${user-search.rebuild-interval:PT6H}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                logger.debug("User search rebuild already running");
+                return;
+            }
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long started = System.currentTimeMillis();
+        TrigramIndex rebuilt = new TrigramIndex();
+        try {
+            long afterId = 0;
+            List<UserRepository.SearchRow> rows;
+            do {
+                rows = userRepository.findSearchRowsAfterId(afterId, PageRequest.of(0, loadPageSize));
+                for (UserRepository.SearchRow row : rows) {
+                    rebuilt.put(row.getId(), row.getFirstName(), row.getLastName(), row.getEmail(), row.getPhone());
+                    afterId = row.getId();
+                }
+            } while (rows.size() == loadPageSize);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("Failed to build user search index", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(change -> apply(rebuilt, change));
+            changesDuringRebuild = null;
+            index = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("User search index built with {} users in {} ms", rebuilt.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    public void apply(UserChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                apply(index, event);
+                index.compactIfNeeded();
+            }
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public UserSearchResultDto search(String query, int page, int size) {
+        if (query == null || query.trim().length() < 2) {
+            throw new IllegalArgumentException("Search query must be at least 2 characters");
+        }
+        if (page < 0 || size < 1 || size > 100) {
+            throw new IllegalArgumentException("Page must be 0 or more and size between 1 and 100");
+        }
+        // Checked before multiplying, so a huge page can't overflow past the limit
+        if (page >= maxResults / size) {
+            throw new IllegalArgumentException("Only the first " + maxResults + " matches can be paged through");
+        }
+        int wanted = (page + 1) * size;
+
+        List<TrigramIndex.Hit> hits;
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                throw new ServiceBusyException("User search index");
+            }
+            // One extra to tell whether another page exists
+            hits = index.search(query, wanted + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        UserSearchResultDto result = new UserSearchResultDto();
+        result.setQuery(query);
+        result.setPage(page);
+        result.setSize(size);
+        result.setHasMore(hits.size() > wanted);
+
+        List<TrigramIndex.Hit> pageHits = hits.subList(Math.min(page * size, hits.size()), Math.min(wanted, hits.size()));
+        Map<Long, User> users = userRepository.findAllById(pageHits.stream().map(TrigramIndex.Hit::key).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (TrigramIndex.Hit hit : pageHits) {
+            User user = users.get(hit.key());
+            if (user != null) {
+                result.getResults().add(toHit(user, hit.score()));
+            }
+        }
+        return result;
+    }
+
+    private static void apply(TrigramIndex index, UserChangedEvent event) {
+        if (event.getChangeType() == UserChangedEvent.ChangeType.DELETED) {
+            index.remove(event.getUserId());
+        } else {
+            index.put(event.getUserId(), event.getFirstName(), event.getLastName(), event.getEmail(), event.getPhone());
+        }
+    }
+
+    private UserSearchHitDto toHit(User user, double score) {
+        UserSearchHitDto dto = new UserSearchHitDto();
+        dto.setId(user.getId());
+        dto.setFirstName(user.getFirstName());
+        dto.setLastName(user.getLastName());
+        dto.setEmail(user.getEmail());
+        dto.setPhone(user.getPhone());
+        dto.setRole(user.getRole().name());
+        dto.setEnabled(user.isEnabled());
+        dto.setScore(score);
+        return dto;
+    }
+}
@@ -1,6 +1,8 @@
 package edu.icet.hotel_management_system.service;
 
 import edu.icet.hotel_management_system.model.dto.UserDto;
+import edu.icet.hotel_management_system.model.dto.UserSearchResultDto;
+import edu.icet.hotel_management_system.model.dto.UserStatsDto;
 
 import java.util.List;
 
@@ -18,5 +20,9 @@ public interface UserService {
 
     void deleteUser(Long id);
 
+    UserSearchResultDto searchUsers(String query, int page, int size);
+
+    UserStatsDto getUserStats();
+
     void changePassword(String oldPassword, String newPassword);
 }
\ No newline at end of file
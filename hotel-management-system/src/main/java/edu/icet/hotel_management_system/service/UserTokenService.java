@@ -0,0 +1,113 @@
+package edu.icet.hotel_management_system.service;
+
+import edu.icet.hotel_management_system.model.entity.User;
+import edu.icet.hotel_management_system.model.entity.UserToken;
+import edu.icet.hotel_management_system.model.entity.enums.TokenPurpose;
+import edu.icet.hotel_management_system.repository.UserTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Issues and redeems email verification and password reset tokens. Tokens are looked up
+ * by the unique SHA-256 hash, so redeeming one is a single index probe.
+ */
+@Service
+public class UserTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserTokenService.class);
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    private UserTokenRepository userTokenRepository;
+
+    @Value("${user-tokens.verification-ttl:P2D}")
+    private Duration verificationTtl;
+
+    @Value("${user-tokens.reset-ttl:PT1H}")
+    private Duration resetTtl;
+
+    @Value("${user-tokens.purge-batch-size:5000}")
+    private int purgeBatchSize;
+
+    /**
+     * Replaces any outstanding token of the same purpose and returns the raw token for the email link.
+     */
+    @Transactional
+    public String issue(User user, TokenPurpose purpose) {
+        userTokenRepository.deleteByUserIdAndPurpose(user.getId(), purpose);
+
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        UserToken token = new UserToken();
+        token.setTokenHash(hash(rawToken));
+        token.setPurpose(purpose);
+        token.setUser(user);
+        token.setCreatedAt(now);
+        token.setExpiresAt(now.plus(purpose == TokenPurpose.PASSWORD_RESET ? resetTtl : verificationTtl));
+        userTokenRepository.save(token);
+        return rawToken;
+    }
+
+    /**
+     * Deletes the token and returns its user, or empty if the token is unknown or expired.
+     */
+    @Transactional
+    public Optional<User> redeem(String rawToken, TokenPurpose purpose) {
+        if (rawToken == null || rawToken.isBlank()) {
+            return Optional.empty();
+        }
+        Optional<UserToken> token = userTokenRepository.findWithUserByTokenHash(hash(rawToken), purpose);
+        if (token.isEmpty()) {
+            return Optional.empty();
+        }
+        userTokenRepository.delete(token.get());
+        if (token.get().getExpiresAt().isBefore(LocalDateTime.now())) {
+            logger.info("Rejected expired {} token for user {}", purpose, token.get().getUser().getId());
+            return Optional.empty();
+        }
+        return Optional.of(token.get().getUser());
+    }
+
+    @Scheduled(fixedDelayString = "${user-tokens.purge-interval:PT1H}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = userTokenRepository.deleteExpired(now, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        if (purged > 0) {
+            logger.info("Purged {} expired user tokens", purged);
+        }
+    }
+
+    // Must stay lowercase hex SHA-256, matching SHA2(token, 256) used when migrating old tokens
+    static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package edu.icet.hotel_management_system.service.impl;
+
+import edu.icet.hotel_management_system.model.dto.PerformanceMetricsDto;
+import edu.icet.hotel_management_system.model.dto.PerformanceReportDto;
+import edu.icet.hotel_management_system.model.dto.PickupDto;
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import edu.icet.hotel_management_system.repository.RoomNightFactRepository;
+import edu.icet.hotel_management_system.repository.RoomRepository;
+import edu.icet.hotel_management_system.service.AnalyticsService;
+import edu.icet.hotel_management_system.service.RoomNightFactService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+
+    // Roughly three years of stay dates per report
+    private static final long MAX_RANGE_DAYS = 1100;
+
+    // Nights that were actually sold
+    private static final Set<BookingStatus> SOLD = EnumSet.of(BookingStatus.CONFIRMED, BookingStatus.COMPLETED);
+
+    // Nights on the books for pickup purposes
+    private static final Set<BookingStatus> ON_THE_BOOKS =
+            EnumSet.of(BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.COMPLETED);
+
+    @Autowired
+    private RoomNightFactRepository factRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoomNightFactService roomNightFactService;
+
+    @Override
+    public PerformanceReportDto getPerformance(LocalDate from, LocalDate to, String roomType) {
+        long days = validateRange(from, to);
+        logger.info("Building performance report {} to {} for room type {}", from, to, roomType);
+
+        long rooms = inventoryByType().entrySet().stream()
+                .filter(entry -> roomType == null || entry.getKey().equals(roomType))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+
+        Map<LocalDate, long[]> soldByNight = new HashMap<>();
+        Map<LocalDate, BigDecimal> revenueByNight = new HashMap<>();
+        for (RoomNightFactRepository.NightlyTotals row : factRepository.sumByNightAndRoomType(from, to, SOLD, roomType)) {
+            soldByNight.computeIfAbsent(row.getNight(), night -> new long[1])[0] += row.getRoomNights();
+            revenueByNight.merge(row.getNight(), row.getRevenue(), BigDecimal::add);
+        }
+
+        PerformanceReportDto report = new PerformanceReportDto();
+        report.setFrom(from);
+        report.setTo(to);
+        report.setRoomType(roomType);
+
+        long totalSold = 0;
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        for (LocalDate night = from; !night.isAfter(to); night = night.plusDays(1)) {
+            long sold = soldByNight.getOrDefault(night, new long[1])[0];
+            BigDecimal revenue = revenueByNight.getOrDefault(night, BigDecimal.ZERO);
+            report.getDaily().add(metrics(night, roomType, rooms, sold, revenue));
+            totalSold += sold;
+            totalRevenue = totalRevenue.add(revenue);
+        }
+        report.setTotal(metrics(null, roomType, rooms * days, totalSold, totalRevenue));
+        return report;
+    }
+
+    @Override
+    public List<PerformanceMetricsDto> getPerformanceByRoomType(LocalDate from, LocalDate to) {
+        long days = validateRange(from, to);
+
+        Map<String, Long> inventory = inventoryByType();
+        Map<String, long[]> soldByType = new HashMap<>();
+        Map<String, BigDecimal> revenueByType = new HashMap<>();
+        for (RoomNightFactRepository.NightlyTotals row : factRepository.sumByNightAndRoomType(from, to, SOLD, null)) {
+            soldByType.computeIfAbsent(row.getRoomType(), type -> new long[1])[0] += row.getRoomNights();
+            revenueByType.merge(row.getRoomType(), row.getRevenue(), BigDecimal::add);
+        }
+
+        Set<String> types = new TreeSet<>(inventory.keySet());
+        types.addAll(soldByType.keySet());
+        return types.stream()
+                .map(type -> metrics(null, type, inventory.getOrDefault(type, 0L) * days,
+                        soldByType.getOrDefault(type, new long[1])[0],
+                        revenueByType.getOrDefault(type, BigDecimal.ZERO)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PickupDto> getPickup(LocalDate stayFrom, LocalDate stayTo,
+                                     LocalDate bookedFrom, LocalDate bookedTo, String roomType) {
+        validateRange(stayFrom, stayTo);
+        validateRange(bookedFrom, bookedTo);
+
+        return factRepository.sumByBookedOn(stayFrom, stayTo, bookedFrom, bookedTo, ON_THE_BOOKS, roomType).stream()
+                .map(row -> new PickupDto(row.getBookedOn(), row.getRoomNights(), row.getRevenue()))
+                .collect(Collectors.toList());
+    }
+
+    // Not one transaction: the rebuild commits chunk by chunk
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildFacts() {
+        return roomNightFactService.rebuildAll();
+    }
+
+    private long validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+        return days;
+    }
+
+    private Map<String, Long> inventoryByType() {
+        return roomRepository.countRoomsByType().stream()
+                .collect(Collectors.toMap(RoomRepository.TypeCount::getType, RoomRepository.TypeCount::getRooms));
+    }
+
+    private PerformanceMetricsDto metrics(LocalDate date, String roomType, long available, long sold, BigDecimal revenue) {
+        PerformanceMetricsDto dto = new PerformanceMetricsDto();
+        dto.setDate(date);
+        dto.setRoomType(roomType);
+        dto.setRoomNightsAvailable(available);
+        dto.setRoomNightsSold(sold);
+        dto.setRevenue(revenue);
+        dto.setOccupancyRate(ratio(BigDecimal.valueOf(sold * 100), available));
+        dto.setAdr(ratio(revenue, sold));
+        dto.setRevpar(ratio(revenue, available));
+        return dto;
+    }
+
+    private BigDecimal ratio(BigDecimal numerator, long denominator) {
+        return denominator == 0 ? BigDecimal.ZERO
+                : numerator.divide(BigDecimal.valueOf(denominator), 2, RoundingMode.HALF_UP);
+    }
+}
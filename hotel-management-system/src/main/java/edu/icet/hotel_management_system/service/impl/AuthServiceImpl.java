@@ -1,19 +1,24 @@
 package edu.icet.hotel_management_system.service.impl;
 
+import edu.icet.hotel_management_system.event.UserChangedEvent;
 import edu.icet.hotel_management_system.exception.ResourceNotFoundException;
 import edu.icet.hotel_management_system.model.dto.JwtAuthResponse;
 import edu.icet.hotel_management_system.model.dto.LoginDto;
 import edu.icet.hotel_management_system.model.dto.SignUpDto;
 import edu.icet.hotel_management_system.model.dto.UserDto;
 import edu.icet.hotel_management_system.model.entity.User;
+import edu.icet.hotel_management_system.model.entity.enums.TokenPurpose;
 import edu.icet.hotel_management_system.repository.UserRepository;
 import edu.icet.hotel_management_system.security.CustomerUserDetailsService;
 import edu.icet.hotel_management_system.security.JwtTokenProvider;
 import edu.icet.hotel_management_system.service.AuthService;
 import edu.icet.hotel_management_system.service.EmailService;
+import edu.icet.hotel_management_system.service.UserCounterService;
 import edu.icet.hotel_management_system.service.UserService;
+import edu.icet.hotel_management_system.service.UserTokenService;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,6 +26,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -51,6 +57,15 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private CustomerUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private UserTokenService userTokenService;
+
+    @Autowired
+    private UserCounterService userCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public JwtAuthResponse login(LoginDto loginDto) {
         Authentication authentication = authenticationManager.authenticate(
@@ -76,26 +91,25 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findByEmail(createdUser.getEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", createdUser.getEmail()));
 
-        String verificationToken = UUID.randomUUID().toString();
-        user.setVerificationToken(verificationToken);
-        userRepository.save(user);
-
-        emailService.sendVerificationEmail(user);
+        String verificationToken = userTokenService.issue(user, TokenPurpose.EMAIL_VERIFICATION);
+        emailService.sendVerificationEmail(user, verificationToken);
 
         return "User registered successfully. Please check your email for verification.";
     }
 
     @Override
+    @Transactional
     public String verifyEmail(String token) {
-        User user = userRepository.findByVerificationToken(token);
+        User user = userTokenService.redeem(token, TokenPurpose.EMAIL_VERIFICATION).orElse(null);
 
         if (user == null) {
             return "Invalid verification token";
         }
 
+        boolean wasEnabled = user.isEnabled();
         user.setEnabled(true);
-        user.setVerificationToken(null);
         userRepository.save(user);
+        userCounterService.userChanged(user.getRole(), wasEnabled, user);
 
         return "Email verified successfully. You can now login.";
     }
@@ -105,31 +119,29 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "email", email));
 
-        String resetToken = UUID.randomUUID().toString();
-        user.setResetToken(resetToken);
-        userRepository.save(user);
-
-        emailService.sendPasswordResetEmail(user);
+        String resetToken = userTokenService.issue(user, TokenPurpose.PASSWORD_RESET);
+        emailService.sendPasswordResetEmail(user, resetToken);
 
         return "Password reset instructions have been sent to your email.";
     }
 
     @Override
+    @Transactional
     public String resetPassword(String token, String newPassword) {
-        User user = userRepository.findByResetToken(token);
+        User user = userTokenService.redeem(token, TokenPurpose.PASSWORD_RESET).orElse(null);
 
         if (user == null) {
             return "Invalid reset token";
         }
 
         user.setPassword(passwordEncoder.encode(newPassword));
-        user.setResetToken(null);
         userRepository.save(user);
 
         return "Password reset successfully. You can now login with your new password.";
     }
 
     @Override
+    @Transactional
     public JwtAuthResponse oauth2Login(String email, String name) {
         User user;
         try {
@@ -144,6 +156,8 @@ public class AuthServiceImpl implements AuthService {
             newUser.setEnabled(true);
 
             user = userRepository.save(newUser);
+            userCounterService.userCreated(user);
+            eventPublisher.publishEvent(UserChangedEvent.of(user, UserChangedEvent.ChangeType.CREATED));
         }
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
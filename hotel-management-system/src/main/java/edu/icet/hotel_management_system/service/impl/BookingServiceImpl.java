@@ -1,7 +1,11 @@
 package edu.icet.hotel_management_system.service.impl;
 
+import edu.icet.hotel_management_system.event.BookingChangedEvent;
+import edu.icet.hotel_management_system.event.BookingsTransitionedEvent;
 import edu.icet.hotel_management_system.exception.ResourceNotFoundException;
 import edu.icet.hotel_management_system.model.dto.BookingDto;
+import edu.icet.hotel_management_system.model.dto.BookingTransitionOutcomeDto;
+import edu.icet.hotel_management_system.model.dto.BulkStatusTransitionResultDto;
 import edu.icet.hotel_management_system.model.dto.RoomDto;
 import edu.icet.hotel_management_system.model.entity.Booking;
 import edu.icet.hotel_management_system.model.entity.Room;
@@ -12,11 +16,15 @@ import edu.icet.hotel_management_system.repository.RoomRepository;
 import edu.icet.hotel_management_system.repository.UserRepository;
 import edu.icet.hotel_management_system.service.BookingService;
 import edu.icet.hotel_management_system.service.EmailService;
-import edu.icet.hotel_management_system.util.BookingUtils;
+import edu.icet.hotel_management_system.service.PricingService;
+import edu.icet.hotel_management_system.util.SingleFlight;
+import jakarta.annotation.PostConstruct;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,8 +33,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -50,7 +66,25 @@ public class BookingServiceImpl implements BookingService {
     @Autowired
     private ModelMapper modelMapper;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PricingService pricingService;
+
+    @Value("${availability-queries.result-ttl:PT0.25S}")
+    private Duration availabilityResultTtl;
+
+    // Identical availability searches in flight together, as when a promotion goes live, run once
+    private SingleFlight<AvailabilityQuery, List<RoomDto>> availabilityFlights;
+
+    @PostConstruct
+    void init() {
+        availabilityFlights = new SingleFlight<>(availabilityResultTtl);
+    }
+
     @Override
+    @Transactional(readOnly = true)
     public List<BookingDto> getAllBookings(int page, int size) {
         logger.info("Fetching all bookings, page: {}, size: {}", page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
@@ -65,6 +99,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingDto> getUserBookings(Long userId) {
         logger.info("Fetching bookings for userId: {}", userId);
 
@@ -83,6 +118,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingDto> searchBookings(LocalDate startDate, LocalDate endDate, String status) {
         logger.info("Searching bookings from {} to {}, status: {}", startDate, endDate, status);
         List<Booking> bookings;
@@ -157,12 +193,13 @@ public class BookingServiceImpl implements BookingService {
         booking.setRoom(room);
 
         // Calculate total price
-        BigDecimal totalPrice = BookingUtils.calculateTotalPrice(room,
+        BigDecimal totalPrice = pricingService.quoteTotal(room,
                 bookingDto.getCheckInDate(), bookingDto.getCheckOutDate());
         booking.setTotalPrice(totalPrice);
         booking.setStatus(BookingStatus.PENDING);
 
         Booking savedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(savedBooking, BookingChangedEvent.ChangeType.CREATED));
 
         // Send confirmation email asynchronously
         try {
@@ -177,7 +214,10 @@ public class BookingServiceImpl implements BookingService {
         return resultDto;
     }
 
+    // Not read-only: the booking's ETag comes from the primary, so the booking must too, or a
+    // lagging replica's copy would go out under the newer version's tag
     @Override
+    @Transactional
     public BookingDto getBookingById(Long id) {
         logger.info("Fetching booking by id: {}", id);
         Booking booking = bookingRepository.findById(id)
@@ -229,11 +269,12 @@ public class BookingServiceImpl implements BookingService {
         }
 
         // Recalculate price if dates changed
-        BigDecimal newTotalPrice = BookingUtils.calculateTotalPrice(booking.getRoom(),
+        BigDecimal newTotalPrice = pricingService.quoteTotal(booking.getRoom(),
                 booking.getCheckInDate(), booking.getCheckOutDate());
         booking.setTotalPrice(newTotalPrice);
 
         Booking updatedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(updatedBooking, BookingChangedEvent.ChangeType.UPDATED));
 
         BookingDto resultDto = modelMapper.map(updatedBooking, BookingDto.class);
         resultDto.setStatus(updatedBooking.getStatus().name());
@@ -254,8 +295,13 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalStateException("Cannot cancel a completed booking");
         }
 
+        if (!booking.getStatus().canTransitionTo(BookingStatus.CANCELLED)) {
+            throw new IllegalStateException("Cannot cancel a booking with status " + booking.getStatus());
+        }
+
         booking.setStatus(BookingStatus.CANCELLED);
         Booking cancelledBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(cancelledBooking, BookingChangedEvent.ChangeType.CANCELLED));
 
         // Send cancellation email asynchronously
         try {
@@ -277,12 +323,13 @@ public class BookingServiceImpl implements BookingService {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", id));
 
-        if (booking.getStatus() != BookingStatus.PENDING) {
+        if (!booking.getStatus().canTransitionTo(BookingStatus.CONFIRMED)) {
             throw new IllegalStateException("Only pending bookings can be confirmed");
         }
 
         booking.setStatus(BookingStatus.CONFIRMED);
         Booking confirmedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(confirmedBooking, BookingChangedEvent.ChangeType.CONFIRMED));
 
         BookingDto resultDto = modelMapper.map(confirmedBooking, BookingDto.class);
         resultDto.setStatus(confirmedBooking.getStatus().name());
@@ -295,18 +342,98 @@ public class BookingServiceImpl implements BookingService {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", id));
 
-        if (booking.getStatus() != BookingStatus.CONFIRMED) {
+        if (!booking.getStatus().canTransitionTo(BookingStatus.COMPLETED)) {
             throw new IllegalStateException("Only confirmed bookings can be completed");
         }
 
         booking.setStatus(BookingStatus.COMPLETED);
         Booking completedBooking = bookingRepository.save(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.of(completedBooking, BookingChangedEvent.ChangeType.COMPLETED));
 
         BookingDto resultDto = modelMapper.map(completedBooking, BookingDto.class);
         resultDto.setStatus(completedBooking.getStatus().name());
         return resultDto;
     }
 
+    @Override
+    public BulkStatusTransitionResultDto transitionBookings(List<Long> bookingIds, String targetStatus) {
+        BookingStatus target;
+        try {
+            target = BookingStatus.valueOf(targetStatus.toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid booking status: " + targetStatus);
+        }
+
+        Set<BookingStatus> sources = BookingStatus.sourcesOf(target);
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("Bookings cannot be transitioned to " + target);
+        }
+
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one booking id is required");
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(bookingIds);
+        logger.info("Transitioning {} booking(s) to {}", ids.size(), target);
+
+        // Locked in id order until commit, so the rows can't change between this read and the
+        // updates below and each one moves from, and reports, the status read here
+        Map<Long, BookingRepository.StatusView> observed = new HashMap<>();
+        bookingRepository.findStatusesByIdInForUpdate(ids).forEach(view -> observed.put(view.getId(), view));
+
+        Map<Long, BookingTransitionOutcomeDto> outcomes = new HashMap<>();
+        List<Long> eligible = new ArrayList<>();
+        for (Long id : ids) {
+            BookingRepository.StatusView view = observed.get(id);
+            BookingStatus current = view == null ? null : view.getStatus();
+            if (current == null) {
+                outcomes.put(id, new BookingTransitionOutcomeDto(id, null, "NOT_FOUND"));
+            } else if (current == target) {
+                outcomes.put(id, new BookingTransitionOutcomeDto(id, current.name(), "ALREADY_IN_STATUS"));
+            } else if (!sources.contains(current)) {
+                outcomes.put(id, new BookingTransitionOutcomeDto(id, current.name(), "INVALID_TRANSITION"));
+            } else {
+                eligible.add(id);
+            }
+        }
+
+        List<Long> transitioned = new ArrayList<>();
+        if (!eligible.isEmpty()) {
+            // Still guarded on the version read above; bookings mostly share a handful of versions,
+            // so there are few groups
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, List<Long>> byVersion = new TreeMap<>();
+            for (Long id : eligible) {
+                byVersion.computeIfAbsent(observed.get(id).getVersion(), version -> new ArrayList<>()).add(id);
+            }
+
+            for (Map.Entry<Long, List<Long>> group : byVersion.entrySet()) {
+                int updated = bookingRepository.updateStatusIfVersion(group.getValue(), group.getKey(), target, now);
+                if (updated != group.getValue().size()) {
+                    throw new IllegalStateException("Bookings changed while being transitioned to " + target);
+                }
+                transitioned.addAll(group.getValue());
+            }
+        }
+
+        for (Long id : transitioned) {
+            outcomes.put(id, new BookingTransitionOutcomeDto(id, observed.get(id).getStatus().name(), "TRANSITIONED"));
+        }
+
+        if (!transitioned.isEmpty()) {
+            eventPublisher.publishEvent(new BookingsTransitionedEvent(target, List.copyOf(transitioned)));
+        }
+
+        BulkStatusTransitionResultDto result = new BulkStatusTransitionResultDto();
+        result.setTargetStatus(target.name());
+        result.setRequested(ids.size());
+        result.setTransitioned(transitioned.size());
+        for (Long id : ids) {
+            result.getOutcomes().add(outcomes.get(id));
+        }
+        return result;
+    }
+
     @Override
     public void deleteBooking(Long id) {
         logger.info("Deleting booking id: {}", id);
@@ -318,10 +445,13 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalStateException("Only cancelled or pending bookings can be deleted");
         }
 
+        BookingChangedEvent event = BookingChangedEvent.of(booking, BookingChangedEvent.ChangeType.DELETED);
         bookingRepository.delete(booking);
+        eventPublisher.publishEvent(event);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RoomDto> getAvailableRooms(LocalDate checkInDate, LocalDate checkOutDate, Integer guests) {
         logger.info("Finding available rooms from {} to {}, guests: {}", checkInDate, checkOutDate, guests);
 
@@ -333,16 +463,26 @@ public class BookingServiceImpl implements BookingService {
             throw new IllegalArgumentException("Check-out date must be after check-in date");
         }
 
-        List<Room> availableRooms = roomRepository.findAvailableRoomsForDates(checkInDate, checkOutDate);
+        Integer minGuests = guests != null && guests > 0 ? guests : null;
+        return availabilityFlights.execute(new AvailabilityQuery(checkInDate, checkOutDate, minGuests), () -> {
+            List<Room> availableRooms = roomRepository.findAvailableRoomsForDates(checkInDate, checkOutDate);
 
-        if (guests != null && guests > 0) {
-            availableRooms = availableRooms.stream()
-                    .filter(room -> room.getMaxOccupancy() >= guests)
-                    .collect(Collectors.toList());
-        }
+            if (minGuests != null) {
+                availableRooms = availableRooms.stream()
+                        .filter(room -> room.getMaxOccupancy() >= minGuests)
+                        .collect(Collectors.toList());
+            }
 
-        return availableRooms.stream()
-                .map(room -> modelMapper.map(room, RoomDto.class))
-                .collect(Collectors.toList());
+            return availableRooms.stream()
+                    .map(room -> {
+                        RoomDto roomDto = modelMapper.map(room, RoomDto.class);
+                        roomDto.setStayPrice(pricingService.quoteTotal(room, checkInDate, checkOutDate));
+                        return roomDto;
+                    })
+                    .toList();
+        });
+    }
+
+    private record AvailabilityQuery(LocalDate checkInDate, LocalDate checkOutDate, Integer guests) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,216 @@
+package edu.icet.hotel_management_system.service.impl;
+
+import edu.icet.hotel_management_system.service.BlobStore;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Blob store on the local filesystem. A key's directory part is kept and its file name is
+ * spread over two levels of 256 directories by the SHA-256 of the name, so
+ * "rooms/originals/x.jpg" lives at {root}/rooms/originals/ab/cd/x.jpg and no directory
+ * grows past a few hundred entries until the store holds tens of millions of blobs.
+ *
+ * Blobs are written to a temporary file in the target directory and renamed into place.
+ * Listings walk the shard directories in name order, one leaf directory at a time; the cursor
+ * is the last blob's "ab/cd/name" below the listed directory.
+ */
+public class LocalBlobStore implements BlobStore {
+
+    private static final Pattern SHARD = Pattern.compile("[0-9a-f]{2}");
+
+    private final Path root;
+
+    public LocalBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        Path target = path(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        } catch (AtomicMoveNotSupportedException e) {
+            // Source on another filesystem: copy next to the target, then rename
+        }
+        Path temp = Files.createTempFile(target.getParent(), ".blob-", ".part");
+        try {
+            Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(source);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long offset, long length) throws IOException {
+        FileChannel channel = FileChannel.open(path(key), StandardOpenOption.READ);
+        try {
+            channel.position(offset);
+            return new BoundedInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public OptionalLong size(String key) throws IOException {
+        try {
+            return OptionalLong.of(Files.size(path(key)));
+        } catch (NoSuchFileException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public Optional<Blob> stat(String key) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path(key), BasicFileAttributes.class);
+            return Optional.of(new Blob(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(path(key));
+    }
+
+    @Override
+    public Listing list(String directory, String cursor, int limit) throws IOException {
+        Path base = root.resolve(directory).normalize();
+        if (!base.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid blob directory: " + directory);
+        }
+        String[] after = cursor != null ? cursor.split("/", 3) : null;
+        if (after != null && after.length != 3) {
+            throw new IllegalArgumentException("Invalid listing cursor: " + cursor);
+        }
+
+        List<Blob> blobs = new ArrayList<>();
+        for (String first : sortedNames(base, true)) {
+            if (after != null && first.compareTo(after[0]) < 0) {
+                continue;
+            }
+            for (String second : sortedNames(base.resolve(first), true)) {
+                if (after != null && first.equals(after[0]) && second.compareTo(after[1]) < 0) {
+                    continue;
+                }
+                boolean resumeLeaf = after != null && first.equals(after[0]) && second.equals(after[1]);
+                Path leaf = base.resolve(first).resolve(second);
+                for (String name : sortedNames(leaf, false)) {
+                    if (resumeLeaf && name.compareTo(after[2]) <= 0) {
+                        continue;
+                    }
+                    BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(leaf.resolve(name), BasicFileAttributes.class);
+                    } catch (NoSuchFileException e) {
+                        continue;
+                    }
+                    blobs.add(new Blob(directory + "/" + name, attributes.size(),
+                            attributes.lastModifiedTime().toInstant()));
+                    if (blobs.size() == limit) {
+                        return new Listing(blobs, first + "/" + second + "/" + name);
+                    }
+                }
+            }
+        }
+        return new Listing(blobs, null);
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(path(key));
+    }
+
+    Path path(String key) {
+        int slash = key.lastIndexOf('/');
+        String directory = slash >= 0 ? key.substring(0, slash) : "";
+        String name = key.substring(slash + 1);
+        if (name.isEmpty() || name.startsWith(".")) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        String shard = HexFormat.of().formatHex(sha256(name), 0, 2);
+        Path path = root.resolve(directory).resolve(shard.substring(0, 2)).resolve(shard.substring(2, 4))
+                .resolve(name).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return path;
+    }
+
+    // Shard directories, or the blobs of a leaf directory without in-flight temporary files
+    private static List<String> sortedNames(Path directory, boolean shards) throws IOException {
+        List<String> names = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (shards ? SHARD.matcher(name).matches() && Files.isDirectory(entry)
+                        : !name.startsWith(".") && Files.isRegularFile(entry)) {
+                    names.add(name);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    private static byte[] sha256(String name) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(name.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class BoundedInputStream extends FilterInputStream {
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read();
+            if (read >= 0) {
+                remaining--;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+}
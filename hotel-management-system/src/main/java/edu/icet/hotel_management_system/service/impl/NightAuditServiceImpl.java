@@ -0,0 +1,311 @@
+package edu.icet.hotel_management_system.service.impl;
+
+import edu.icet.hotel_management_system.exception.ResourceNotFoundException;
+import edu.icet.hotel_management_system.model.dto.BulkStatusTransitionResultDto;
+import edu.icet.hotel_management_system.model.dto.NightAuditRunDto;
+import edu.icet.hotel_management_system.model.dto.OccupancySnapshotDto;
+import edu.icet.hotel_management_system.model.entity.NightAuditRun;
+import edu.icet.hotel_management_system.model.entity.OccupancySnapshot;
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import edu.icet.hotel_management_system.model.entity.enums.NightAuditPhase;
+import edu.icet.hotel_management_system.model.entity.enums.NightAuditStatus;
+import edu.icet.hotel_management_system.repository.BookingRepository;
+import edu.icet.hotel_management_system.repository.NightAuditRunRepository;
+import edu.icet.hotel_management_system.repository.OccupancySnapshotRepository;
+import edu.icet.hotel_management_system.repository.RoomRepository;
+import edu.icet.hotel_management_system.service.BookingService;
+import edu.icet.hotel_management_system.service.LeaderLeaseService;
+import edu.icet.hotel_management_system.service.NightAuditService;
+import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.*;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Night audit: marks no-shows, completes departed stays and records an occupancy snapshot
+ * for each business date. Every chunk commits on its own and the run row keeps a checkpoint,
+ * so an interrupted audit resumes where it stopped on whichever node holds the lease next.
+ *
+ * The lease keeps other nodes out, but it is re-entrant, as the audit renews it chunk by chunk;
+ * a local lock keeps a manual run and the scheduled one on the same node apart.
+ */
+@Service
+public class NightAuditServiceImpl implements NightAuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NightAuditServiceImpl.class);
+
+    private static final String LEASE_NAME = "night-audit";
+    private static final Set<BookingStatus> STAYED = EnumSet.of(BookingStatus.CONFIRMED, BookingStatus.COMPLETED);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private NightAuditRunRepository runRepository;
+
+    @Autowired
+    private OccupancySnapshotRepository snapshotRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private LeaderLeaseService leaseService;
+
+    @Autowired
+    private ModelMapper modelMapper;
+
+    @Value("${night-audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${night-audit.zone:UTC}")
+    private ZoneId zone;
+
+    @Value("${night-audit.run-after:02:30}")
+    private String runAfter;
+
+    @Value("${night-audit.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${night-audit.lease-ttl:PT10M}")
+    private Duration leaseTtl;
+
+    @Value("${night-audit.max-catch-up-days:31}")
+    private int maxCatchUpDays;
+
+    private final ReentrantLock auditLock = new ReentrantLock();
+
+    // Polled rather than cron-triggered so a node that was down at run time still catches up
+    @Override
+    @Scheduled(fixedDelayString = "${night-audit.check-interval:PT15M}",
+            initialDelayString = "${night-audit.initial-delay:PT1M}")
+    public void runDueAudits() {
+        if (!enabled) {
+            return;
+        }
+
+        if (!auditLock.tryLock()) {
+            logger.debug("Night audit already running on this node, skipping");
+            return;
+        }
+        try {
+            Set<LocalDate> dates = dueDates();
+            if (dates.isEmpty()) {
+                return;
+            }
+
+            if (!leaseService.tryAcquire(LEASE_NAME, leaseTtl)) {
+                logger.debug("Night audit lease held by another node, skipping");
+                return;
+            }
+            try {
+                for (LocalDate date : dates) {
+                    NightAuditRun run = execute(date);
+                    if (run.getStatus() != NightAuditStatus.COMPLETED) {
+                        break;
+                    }
+                }
+            } finally {
+                leaseService.release(LEASE_NAME);
+            }
+        } finally {
+            auditLock.unlock();
+        }
+    }
+
+    // Unfinished runs, and every date since auditing began without a completed run, so dates
+    // missed while no node was up are audited too; at most max-catch-up-days back
+    private Set<LocalDate> dueDates() {
+        LocalDate dueDate = latestDueBusinessDate();
+        Set<LocalDate> dates = runRepository
+                .findByStatusNotAndBusinessDateLessThanEqualOrderByBusinessDate(NightAuditStatus.COMPLETED, dueDate)
+                .stream()
+                .map(NightAuditRun::getBusinessDate)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        LocalDate earliest = dueDate.minusDays(Math.max(1, maxCatchUpDays) - 1L);
+        LocalDate from = runRepository.findTopByOrderByBusinessDateAsc()
+                .map(first -> first.getBusinessDate().isAfter(earliest) ? first.getBusinessDate() : earliest)
+                // A fresh install starts from the due date rather than auditing history
+                .orElse(dueDate);
+        Set<LocalDate> completed = runRepository
+                .findByStatusAndBusinessDateBetween(NightAuditStatus.COMPLETED, from, dueDate)
+                .stream()
+                .map(NightAuditRun::getBusinessDate)
+                .collect(Collectors.toSet());
+        for (LocalDate date = from; !date.isAfter(dueDate); date = date.plusDays(1)) {
+            if (!completed.contains(date)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    @Override
+    public NightAuditRunDto runAudit(LocalDate businessDate) {
+        LocalDate date = businessDate != null ? businessDate : LocalDate.now(zone).minusDays(1);
+        if (!date.isBefore(LocalDate.now(zone))) {
+            throw new IllegalArgumentException("Night audit can only run for a past business date");
+        }
+
+        if (!auditLock.tryLock()) {
+            throw new IllegalStateException("Night audit is already running");
+        }
+        try {
+            if (!leaseService.tryAcquire(LEASE_NAME, leaseTtl)) {
+                throw new IllegalStateException("Night audit is already running on another node");
+            }
+            try {
+                return mapToDto(execute(date));
+            } finally {
+                leaseService.release(LEASE_NAME);
+            }
+        } finally {
+            auditLock.unlock();
+        }
+    }
+
+    @Override
+    public NightAuditRunDto getRun(LocalDate businessDate) {
+        NightAuditRun run = runRepository.findByBusinessDate(businessDate)
+                .orElseThrow(() -> new ResourceNotFoundException("NightAuditRun", "businessDate", businessDate));
+        return mapToDto(run);
+    }
+
+    @Override
+    public List<OccupancySnapshotDto> getSnapshots(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        return snapshotRepository.findByBusinessDateBetweenOrderByBusinessDate(from, to).stream()
+                .map(snapshot -> modelMapper.map(snapshot, OccupancySnapshotDto.class))
+                .collect(Collectors.toList());
+    }
+
+    private LocalDate latestDueBusinessDate() {
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        return now.toLocalDate().minusDays(now.toLocalTime().isBefore(LocalTime.parse(runAfter)) ? 2 : 1);
+    }
+
+    private NightAuditRun execute(LocalDate businessDate) {
+        NightAuditRun run = runRepository.findByBusinessDate(businessDate).orElseGet(() -> {
+            NightAuditRun created = new NightAuditRun();
+            created.setBusinessDate(businessDate);
+            return created;
+        });
+        if (run.getStatus() == NightAuditStatus.COMPLETED) {
+            return run;
+        }
+
+        if (run.getStartedAt() == null) {
+            run.setStartedAt(LocalDateTime.now());
+        }
+        run.setStatus(NightAuditStatus.IN_PROGRESS);
+        run.setOwner(leaseService.getOwnerId());
+        run.setErrorMessage(null);
+        run = runRepository.save(run);
+        logger.info("Night audit for {} starting at phase {} after booking {}",
+                businessDate, run.getPhase(), run.getLastProcessedId());
+
+        try {
+            if (run.getPhase() == NightAuditPhase.NO_SHOWS) {
+                // Still PENDING on or after the arrival date: the guest never got a confirmed stay
+                run = processChunks(run, BookingStatus.NO_SHOW, afterId -> bookingRepository.findIdsByStatusCheckingInBy(
+                        BookingStatus.PENDING, businessDate, afterId, PageRequest.of(0, chunkSize)));
+                run = advance(run, NightAuditPhase.DEPARTURES);
+            }
+            if (run.getPhase() == NightAuditPhase.DEPARTURES) {
+                run = processChunks(run, BookingStatus.COMPLETED, afterId -> bookingRepository.findIdsByStatusCheckingOutBy(
+                        BookingStatus.CONFIRMED, businessDate, afterId, PageRequest.of(0, chunkSize)));
+                run = advance(run, NightAuditPhase.SNAPSHOT);
+            }
+            if (run.getPhase() == NightAuditPhase.SNAPSHOT) {
+                writeSnapshot(businessDate);
+                run.setPhase(NightAuditPhase.DONE);
+                run.setStatus(NightAuditStatus.COMPLETED);
+                run.setFinishedAt(LocalDateTime.now());
+                run = runRepository.save(run);
+            }
+            logger.info("Night audit for {} completed: {} no-shows, {} completed",
+                    businessDate, run.getNoShowCount(), run.getCompletedCount());
+        } catch (RuntimeException e) {
+            logger.error("Night audit for {} failed at phase {}: {}", businessDate, run.getPhase(), e.getMessage());
+            run.setStatus(NightAuditStatus.FAILED);
+            run.setErrorMessage(e.getMessage());
+            run = runRepository.save(run);
+        }
+        return run;
+    }
+
+    private NightAuditRun processChunks(NightAuditRun run, BookingStatus target, LongFunction<List<Long>> nextChunk) {
+        while (true) {
+            List<Long> ids = nextChunk.apply(run.getLastProcessedId());
+            if (ids.isEmpty()) {
+                return run;
+            }
+
+            BulkStatusTransitionResultDto result = bookingService.transitionBookings(ids, target.name());
+            if (target == BookingStatus.NO_SHOW) {
+                run.setNoShowCount(run.getNoShowCount() + result.getTransitioned());
+            } else {
+                run.setCompletedCount(run.getCompletedCount() + result.getTransitioned());
+            }
+            run.setLastProcessedId(ids.get(ids.size() - 1));
+            run = runRepository.save(run);
+
+            if (!leaseService.tryAcquire(LEASE_NAME, leaseTtl)) {
+                throw new IllegalStateException("Night audit lease was lost");
+            }
+        }
+    }
+
+    private NightAuditRun advance(NightAuditRun run, NightAuditPhase next) {
+        run.setPhase(next);
+        run.setLastProcessedId(0L);
+        return runRepository.save(run);
+    }
+
+    private void writeSnapshot(LocalDate businessDate) {
+        OccupancySnapshot snapshot = snapshotRepository.findByBusinessDate(businessDate)
+                .orElseGet(OccupancySnapshot::new);
+        long totalRooms = roomRepository.count();
+        long occupied = bookingRepository.countOccupiedRoomsOnNight(businessDate, STAYED);
+
+        snapshot.setBusinessDate(businessDate);
+        snapshot.setTotalRooms(totalRooms);
+        snapshot.setOccupiedRooms(occupied);
+        snapshot.setArrivals(bookingRepository.countByCheckInDateAndStatusIn(businessDate, STAYED));
+        snapshot.setDepartures(bookingRepository.countByCheckOutDateAndStatusIn(businessDate, STAYED));
+        snapshot.setNoShows(bookingRepository.countByCheckInDateAndStatusIn(businessDate, EnumSet.of(BookingStatus.NO_SHOW)));
+        snapshot.setOccupancyRate(totalRooms == 0 ? BigDecimal.ZERO
+                : BigDecimal.valueOf(occupied * 100).divide(BigDecimal.valueOf(totalRooms), 2, RoundingMode.HALF_UP));
+        snapshotRepository.save(snapshot);
+
+        logger.info("Occupancy for {}: {}/{} rooms ({}%)", businessDate, occupied, totalRooms, snapshot.getOccupancyRate());
+    }
+
+    private NightAuditRunDto mapToDto(NightAuditRun run) {
+        NightAuditRunDto dto = modelMapper.map(run, NightAuditRunDto.class);
+        dto.setStatus(run.getStatus().name());
+        dto.setPhase(run.getPhase().name());
+        return dto;
+    }
+}
@@ -1,12 +1,19 @@
 package edu.icet.hotel_management_system.service.impl;
 
+import edu.icet.hotel_management_system.event.RoomChangedEvent;
+import edu.icet.hotel_management_system.event.RoomImageStoredEvent;
 import edu.icet.hotel_management_system.exception.ResourceNotFoundException;
 import edu.icet.hotel_management_system.model.dto.RoomDto;
 import edu.icet.hotel_management_system.model.entity.Room;
 import edu.icet.hotel_management_system.model.entity.RoomImage;
+import edu.icet.hotel_management_system.model.entity.enums.RoomImageStatus;
+import edu.icet.hotel_management_system.repository.RoomImageRepository;
 import edu.icet.hotel_management_system.repository.RoomRepository;
+import edu.icet.hotel_management_system.service.PricingService;
+import edu.icet.hotel_management_system.service.RoomImageService;
 import edu.icet.hotel_management_system.service.RoomService;
-import edu.icet.hotel_management_system.util.FileUploadUtil;
+import edu.icet.hotel_management_system.util.SingleFlight;
+import jakarta.annotation.PostConstruct;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,14 +21,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,18 +46,47 @@ public class RoomServiceImpl implements RoomService {
     @Autowired
     private ModelMapper modelMapper;
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PricingService pricingService;
+
+    @Autowired
+    private RoomImageService roomImageService;
+
+    @Autowired
+    private RoomImageRepository roomImageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
+    @Value("${availability-queries.result-ttl:PT0.25S}")
+    private Duration searchResultTtl;
+
+    // Identical searches in flight together share one query
+    private SingleFlight<SearchQuery, List<RoomDto>> searchFlights;
+
+    @PostConstruct
+    void init() {
+        searchFlights = new SingleFlight<>(searchResultTtl);
+    }
+
+    // Room writes are transactional so the ETag bump made by EntityTagListener commits with them
     @Override
+    @Transactional
     public RoomDto createRoom(RoomDto roomDto) {
         logger.info("Creating room with number: {}", roomDto.getRoomNumber());
         Room room = modelMapper.map(roomDto, Room.class);
         Room savedRoom = roomRepository.save(room);
+        eventPublisher.publishEvent(new RoomChangedEvent(savedRoom.getId(), RoomChangedEvent.ChangeType.CREATED));
         return modelMapper.map(savedRoom, RoomDto.class);
     }
 
+    // Not read-only: the room's ETag comes from the primary, so the room must too, or a lagging
+    // replica's copy would go out under the newer version's tag
     @Override
+    @Transactional
     public RoomDto getRoomById(Long id) {
         logger.info("Fetching room with id: {}", id);
         Room room = roomRepository.findById(id)
@@ -55,7 +95,8 @@ public class RoomServiceImpl implements RoomService {
     }
 
     @Override
-    @Cacheable(value = "availableRooms")
+    @Transactional(readOnly = true)
+    @Cacheable(value = "availableRooms", key = "'all'")
     public List<RoomDto> getAllRooms() {
         logger.info("Fetching all rooms");
         List<Room> rooms = roomRepository.findAll();
@@ -64,9 +105,12 @@ public class RoomServiceImpl implements RoomService {
                 .collect(Collectors.toList());
     }
 
+    // Cached per tag, and loaded from the primary the tag was read from, so a list is never
+    // served under a tag newer than itself, whatever this node cached earlier
     @Override
-    @Cacheable(value = "availableRooms")
-    public List<RoomDto> getAvailableRooms() {
+    @Transactional
+    @Cacheable(value = "availableRooms", key = "'available:' + #roomsTag")
+    public List<RoomDto> getAvailableRooms(String roomsTag) {
         logger.info("Fetching available rooms");
         List<Room> rooms = roomRepository.findByAvailableTrue();
         return rooms.stream()
@@ -75,6 +119,7 @@ public class RoomServiceImpl implements RoomService {
     }
 
     @Override
+    @Transactional
     @CacheEvict(value = "availableRooms", allEntries = true)
     public RoomDto updateRoom(Long id, RoomDto roomDto) {
         logger.info("Updating room with id: {}", id);
@@ -90,76 +135,114 @@ public class RoomServiceImpl implements RoomService {
         room.setAmenities(roomDto.getAmenities());
 
         Room updatedRoom = roomRepository.save(room);
+        eventPublisher.publishEvent(new RoomChangedEvent(id, RoomChangedEvent.ChangeType.UPDATED));
         return modelMapper.map(updatedRoom, RoomDto.class);
     }
 
     @Override
+    @Transactional
     @CacheEvict(value = "availableRooms", allEntries = true)
     public void deleteRoom(Long id) {
         logger.info("Deleting room with id: {}", id);
         Room room = roomRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Room", "id", id));
         roomRepository.delete(room);
+        eventPublisher.publishEvent(new RoomChangedEvent(id, RoomChangedEvent.ChangeType.DELETED));
     }
 
     @Override
     @CacheEvict(value = "availableRooms", allEntries = true)
     public RoomDto uploadRoomImage(Long roomId, MultipartFile file) {
         logger.info("Uploading image for room id: {}", roomId);
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new ResourceNotFoundException("Room", "id", roomId));
+        if (!roomRepository.existsById(roomId)) {
+            throw new ResourceNotFoundException("Room", "id", roomId);
+        }
 
+        RoomImageService.StoredImage stored;
         try {
-            String fileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
-            String filePath = uploadDir + "/rooms/" + fileName;
+            stored = roomImageService.store(file);
+        } catch (IOException e) {
+            logger.error("Failed to upload image for room id: {}", roomId, e);
+            throw new RuntimeException("Failed to upload image: " + e.getMessage());
+        }
 
-            FileUploadUtil.saveFile(uploadDir + "/rooms", fileName, file);
+        // The file is written first so no connection is held during the upload; the row and the
+        // room's ETag bump then commit together
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            Room room = roomRepository.findById(roomId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Room", "id", roomId));
+            if (room.getImages().stream().anyMatch(image -> stored.contentHash().equals(image.getContentHash()))) {
+                logger.info("Room id: {} already has image {}", roomId, stored.contentHash());
+                return modelMapper.map(room, RoomDto.class);
+            }
 
             RoomImage roomImage = new RoomImage();
-            roomImage.setImageUrl("/uploads/rooms/" + fileName);
+            roomImage.setImageUrl(stored.url());
+            roomImage.setContentHash(stored.contentHash());
+            roomImage.setContentType(stored.contentType());
+            roomImage.setSizeBytes(stored.sizeBytes());
+            roomImage.setStatus(RoomImageStatus.PENDING);
             roomImage.setRoom(room);
 
             room.getImages().add(roomImage);
             Room updatedRoom = roomRepository.save(room);
+            eventPublisher.publishEvent(new RoomChangedEvent(roomId, RoomChangedEvent.ChangeType.IMAGES_CHANGED));
+            updatedRoom.getImages().stream()
+                    .filter(image -> stored.contentHash().equals(image.getContentHash()))
+                    .findFirst()
+                    .ifPresent(image -> eventPublisher.publishEvent(new RoomImageStoredEvent(image.getId())));
 
             return modelMapper.map(updatedRoom, RoomDto.class);
-        } catch (IOException e) {
-            logger.error("Failed to upload image for room id: {}", roomId, e);
-            throw new RuntimeException("Failed to upload image: " + e.getMessage());
-        }
+        });
     }
 
     @Override
     @CacheEvict(value = "availableRooms", allEntries = true)
     public RoomDto deleteRoomImage(Long roomId, Long imageId) {
         logger.info("Deleting image id: {} for room id: {}", imageId, roomId);
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new ResourceNotFoundException("Room", "id", roomId));
-
-        RoomImage imageToRemove = room.getImages().stream()
-                .filter(image -> image.getId().equals(imageId))
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("RoomImage", "id", imageId));
-
+        // The collection is only the inverse side, so the row is deleted explicitly; both in one
+        // transaction on the managed room, so its cached image collection is evicted as well
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        RoomImage imageToRemove = transactionTemplate.execute(status -> {
+            Room room = roomRepository.findById(roomId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Room", "id", roomId));
+            RoomImage image = room.getImages().stream()
+                    .filter(candidate -> candidate.getId().equals(imageId))
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("RoomImage", "id", imageId));
+            room.getImages().remove(image);
+            roomImageRepository.delete(image);
+            eventPublisher.publishEvent(new RoomChangedEvent(roomId, RoomChangedEvent.ChangeType.IMAGES_CHANGED));
+            return image;
+        });
+
+        // Only once the row is gone, so the check for other rooms sharing the files no longer counts it
         try {
-            String imagePath = uploadDir + imageToRemove.getImageUrl().replace("/uploads", "");
-            FileUploadUtil.deleteFile(imagePath);
+            roomImageService.release(imageToRemove);
         } catch (IOException e) {
-            logger.error("Failed to delete image file for image id: {}", imageId, e);
-            throw new RuntimeException("Failed to delete image file: " + e.getMessage());
+            // Files nothing refers to are reclaimed by the image GC
+            logger.warn("Failed to delete image file for image id: {}: {}", imageId, e.getMessage());
         }
 
-        room.getImages().remove(imageToRemove);
-        Room updatedRoom = roomRepository.save(room);
-
+        Room updatedRoom = roomRepository.findById(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room", "id", roomId));
         return modelMapper.map(updatedRoom, RoomDto.class);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RoomDto> searchRooms(LocalDate checkInDate, LocalDate checkOutDate,
                                      String type, BigDecimal minPrice, BigDecimal maxPrice) {
         logger.info("Searching rooms from {} to {}, type: {}, minPrice: {}, maxPrice: {}",
                 checkInDate, checkOutDate, type, minPrice, maxPrice);
+        SearchQuery query = new SearchQuery(checkInDate, checkOutDate,
+                type != null && !type.isEmpty() ? type.toLowerCase() : null, minPrice, maxPrice);
+        return searchFlights.execute(query, () -> search(checkInDate, checkOutDate, type, minPrice, maxPrice));
+    }
+
+    private List<RoomDto> search(LocalDate checkInDate, LocalDate checkOutDate,
+                                 String type, BigDecimal minPrice, BigDecimal maxPrice) {
         List<Room> rooms;
 
         if (checkInDate != null && checkOutDate != null) {
@@ -186,8 +269,20 @@ public class RoomServiceImpl implements RoomService {
                     .collect(Collectors.toList());
         }
 
+        boolean priced = checkInDate != null && checkOutDate != null;
         return rooms.stream()
-                .map(room -> modelMapper.map(room, RoomDto.class))
-                .collect(Collectors.toList());
+                .map(room -> {
+                    RoomDto roomDto = modelMapper.map(room, RoomDto.class);
+                    if (priced) {
+                        roomDto.setStayPrice(pricingService.quoteTotal(room, checkInDate, checkOutDate));
+                    }
+                    return roomDto;
+                })
+                .toList();
+    }
+
+    // BigDecimal equality includes scale, so 100 and 100.00 are separate flights; both are correct
+    private record SearchQuery(LocalDate checkInDate, LocalDate checkOutDate, String type,
+                               BigDecimal minPrice, BigDecimal maxPrice) {
     }
 }
\ No newline at end of file
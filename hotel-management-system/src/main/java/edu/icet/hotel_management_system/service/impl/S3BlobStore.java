@@ -0,0 +1,130 @@
+package edu.icet.hotel_management_system.service.impl;
+
+import edu.icet.hotel_management_system.service.BlobStore;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Blob store in an S3 bucket, or any service speaking the S3 API (MinIO, LocalStack and
+ * the like, via blob-store.s3.endpoint and path-style access), so several nodes share one
+ * set of files. A PUT is atomic on S3, so no temporary objects are needed.
+ */
+public class S3BlobStore implements BlobStore {
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String prefix;
+
+    /**
+     * @param prefix prepended to every key, e.g. "hotel/" to share a bucket; may be empty
+     */
+    public S3BlobStore(S3Client s3, String bucket, String prefix) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public void put(String key, Path source, String contentType) throws IOException {
+        try {
+            s3.putObject(PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(prefix + key)
+                    .contentType(contentType)
+                    .build(), RequestBody.fromFile(source));
+        } catch (S3Exception e) {
+            throw new IOException("Failed to store " + key + ": " + e.getMessage(), e);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    @Override
+    public InputStream open(String key, long offset, long length) throws IOException {
+        if (length <= 0) {
+            return InputStream.nullInputStream();
+        }
+        try {
+            return s3.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(prefix + key)
+                    .range("bytes=" + offset + "-" + (offset + length - 1))
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (S3Exception e) {
+            throw new IOException("Failed to read " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public OptionalLong size(String key) throws IOException {
+        Optional<Blob> blob = stat(key);
+        return blob.isPresent() ? OptionalLong.of(blob.get().size()) : OptionalLong.empty();
+    }
+
+    @Override
+    public Optional<Blob> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(prefix + key)
+                    .build());
+            return Optional.of(new Blob(key, head.contentLength(), head.lastModified()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            // HEAD responses have no body, so a missing key surfaces as a bare 404
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("Failed to look up " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(prefix + key)
+                    .build());
+        } catch (S3Exception e) {
+            throw new IOException("Failed to delete " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    // The cursor is S3's continuation token
+    @Override
+    public Listing list(String directory, String cursor, int limit) throws IOException {
+        ListObjectsV2Response response;
+        try {
+            response = s3.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(prefix + directory + "/")
+                    .continuationToken(cursor)
+                    .maxKeys(limit)
+                    .build());
+        } catch (S3Exception e) {
+            throw new IOException("Failed to list " + directory + ": " + e.getMessage(), e);
+        }
+        List<Blob> blobs = response.contents().stream()
+                .map(object -> new Blob(object.key().substring(prefix.length()), object.size(), object.lastModified()))
+                .toList();
+        return new Listing(blobs, Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null);
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
@@ -8,8 +8,11 @@ import com.stripe.param.PaymentIntentConfirmParams;
 import com.stripe.param.RefundCreateParams;
 import edu.icet.hotel_management_system.model.dto.PaymentRequestDto;
 import edu.icet.hotel_management_system.service.StripeService;
+import edu.icet.hotel_management_system.util.Bulkhead;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -20,6 +23,10 @@ public class StripeServiceImpl implements StripeService {
 
     private static final Logger logger = LoggerFactory.getLogger(StripeServiceImpl.class);
 
+    @Autowired
+    @Qualifier("stripeBulkhead")
+    private Bulkhead stripeBulkhead;
+
     @Override
     public PaymentIntent createPaymentIntent(PaymentRequestDto paymentRequest) throws StripeException {
         logger.info("Creating PaymentIntent for booking: {}, amount: {}",
@@ -49,7 +56,7 @@ public class StripeServiceImpl implements StripeService {
         }
 
         PaymentIntentCreateParams params = paramsBuilder.build();
-        return PaymentIntent.create(params);
+        return stripeBulkhead.call(() -> PaymentIntent.create(params));
     }
 
     @Override
@@ -60,8 +67,7 @@ public class StripeServiceImpl implements StripeService {
                 .setReturnUrl("http://localhost:3000/payment/success") // Your frontend success URL
                 .build();
 
-        PaymentIntent paymentIntent = PaymentIntent.retrieve(paymentIntentId);
-        return paymentIntent.confirm(params);
+        return stripeBulkhead.call(() -> PaymentIntent.retrieve(paymentIntentId).confirm(params));
     }
 
     @Override
@@ -76,11 +82,11 @@ public class StripeServiceImpl implements StripeService {
         }
 
         RefundCreateParams params = paramsBuilder.build();
-        return Refund.create(params);
+        return stripeBulkhead.call(() -> Refund.create(params));
     }
 
     @Override
     public PaymentIntent retrievePaymentIntent(String paymentIntentId) throws StripeException {
-        return PaymentIntent.retrieve(paymentIntentId);
+        return stripeBulkhead.call(() -> PaymentIntent.retrieve(paymentIntentId));
     }
 }
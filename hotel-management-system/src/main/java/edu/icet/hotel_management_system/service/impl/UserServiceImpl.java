@@ -1,15 +1,21 @@
 package edu.icet.hotel_management_system.service.impl;
 
+import edu.icet.hotel_management_system.event.UserChangedEvent;
 import edu.icet.hotel_management_system.exception.ResourceNotFoundException;
 import edu.icet.hotel_management_system.model.dto.UserDto;
+import edu.icet.hotel_management_system.model.dto.UserSearchResultDto;
+import edu.icet.hotel_management_system.model.dto.UserStatsDto;
 import edu.icet.hotel_management_system.model.entity.User;
 import edu.icet.hotel_management_system.model.entity.enums.ERole;
 import edu.icet.hotel_management_system.repository.UserRepository;
+import edu.icet.hotel_management_system.service.UserCounterService;
+import edu.icet.hotel_management_system.service.UserSearchService;
 import edu.icet.hotel_management_system.service.UserService;
 import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -34,6 +40,15 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserCounterService userCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private UserSearchService userSearchService;
+
     @Override
     public UserDto createUser(UserDto userDto) {
         logger.info("Creating user with email: {}", userDto.getEmail());
@@ -95,6 +110,8 @@ public class UserServiceImpl implements UserService {
             user.setEnabled(userDto.isEnabled());
 
             User savedUser = userRepository.save(user);
+            userCounterService.userCreated(savedUser);
+            eventPublisher.publishEvent(UserChangedEvent.of(savedUser, UserChangedEvent.ChangeType.CREATED));
             logger.info("User created successfully with ID: {} and role: {}", savedUser.getId(), savedUser.getRole());
 
             UserDto responseDto = modelMapper.map(savedUser, UserDto.class);
@@ -167,6 +184,8 @@ public class UserServiceImpl implements UserService {
         try {
             User user = userRepository.findById(id)
                     .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
+            ERole oldRole = user.getRole();
+            boolean oldEnabled = user.isEnabled();
 
             // Check if current user has permission to update this user
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -245,6 +264,8 @@ public class UserServiceImpl implements UserService {
             }
 
             User updatedUser = userRepository.save(user);
+            userCounterService.userChanged(oldRole, oldEnabled, updatedUser);
+            eventPublisher.publishEvent(UserChangedEvent.of(updatedUser, UserChangedEvent.ChangeType.UPDATED));
             logger.info("User updated successfully: {}", updatedUser.getEmail());
 
             UserDto responseDto = modelMapper.map(updatedUser, UserDto.class);
@@ -283,6 +304,8 @@ public class UserServiceImpl implements UserService {
 
             logger.info("Deleting user: {} with role: {}", user.getEmail(), user.getRole());
             userRepository.delete(user);
+            userCounterService.userDeleted(user);
+            eventPublisher.publishEvent(UserChangedEvent.of(user, UserChangedEvent.ChangeType.DELETED));
 
         } catch (Exception e) {
             logger.error("Failed to delete user {}: {}", id, e.getMessage());
@@ -290,6 +313,18 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public UserSearchResultDto searchUsers(String query, int page, int size) {
+        return userSearchService.search(query, page, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserStatsDto getUserStats() {
+        return userCounterService.getStats();
+    }
+
     @Override
     public void changePassword(String oldPassword, String newPassword) {
         logger.info("Attempting to change password for authenticated user");
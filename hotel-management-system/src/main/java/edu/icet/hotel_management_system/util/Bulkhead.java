@@ -0,0 +1,53 @@
+package edu.icet.hotel_management_system.util;
+
+import edu.icet.hotel_management_system.exception.ServiceBusyException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps concurrent calls to a slow downstream (Stripe, SMTP) so a burst of
+ * request threads queues here instead of piling onto the remote service.
+ */
+public class Bulkhead {
+
+    @FunctionalInterface
+    public interface Call<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private final String name;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public Bulkhead(String name, int maxConcurrentCalls, Duration maxWait) {
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.timeoutMillis = maxWait.toMillis();
+    }
+
+    public <T, E extends Exception> T call(Call<T, E> call) throws E {
+        acquire();
+        try {
+            return call.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceBusyException(name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException(name);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package edu.icet.hotel_management_system.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Decodes, downsizes and re-encodes images with the JDK's ImageIO, so no native library
+ * is needed. Reads JPEG, PNG, GIF and BMP; always writes JPEG.
+ */
+public class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    /**
+     * Decodes the image, subsampling while reading so the result is no more than about
+     * twice maxEdge on its long side. The header is checked first, so oversized images are
+     * rejected before any pixels are allocated.
+     */
+    public static BufferedImage read(Path source, int maxEdge, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            return read(input, maxEdge, maxPixels);
+        }
+    }
+
+    public static BufferedImage read(InputStream source, int maxEdge, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            return read(input, maxEdge, maxPixels);
+        }
+    }
+
+    private static BufferedImage read(ImageInputStream input, int maxEdge, long maxPixels) throws IOException {
+        if (input == null) {
+            throw new IOException("Image could not be opened");
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            throw new IOException("Unsupported image format");
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(input, true, true);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if ((long) width * height > maxPixels) {
+                throw new IOException("Image is " + width + "x" + height + ", above the " + maxPixels + " pixel limit");
+            }
+            ImageReadParam param = reader.getDefaultReadParam();
+            int step = Math.max(1, Math.max(width, height) / (maxEdge * 2));
+            param.setSourceSubsampling(step, step, 0, 0);
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Scales the image so its long side is at most maxEdge, halving repeatedly before the
+     * final step to keep bilinear filtering sharp. Images already small enough are only
+     * converted to RGB.
+     */
+    public static BufferedImage fit(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        return draw(current, targetWidth, targetHeight);
+    }
+
+    public static void writeJpeg(BufferedImage image, Path target, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    // RGB on white, since JPEG has no alpha channel
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,262 @@
+package edu.icet.hotel_management_system.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds room combinations that sleep a party for a date range, moving the party between
+ * rooms on some days when no combination is free for the whole stay.
+ *
+ * Days are offsets from check-in: a stay over N nights spans days 0..N and a segment from
+ * day a to day b needs its rooms free on every day in between, both ends included, as in
+ * RoomRepository.findAvailableRoomsForDates. Within a segment the rooms are chosen by a
+ * 0/1 knapsack over capacity (capped at the party size), which is exact and cheap because
+ * capacities are small integers. Across segments a second DP over move days prefers the
+ * fewest moves, then the objective.
+ *
+ * Before that DP, a greedy pass takes the longest free segment from each move day. This
+ * needs the fewest moves, though not always the best price, and costs a handful of segments,
+ * so when the deadline cuts the DP short the greedy plan is returned instead of nothing.
+ */
+public final class ItineraryPlanner {
+
+    // Largest stay a day bitmask can describe
+    public static final int MAX_NIGHTS = 62;
+
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+    // Fewest-rooms keys put the room count above any realistic total in cents
+    private static final long ROOM_WEIGHT = 1L << 45;
+
+    public enum Objective {
+        CHEAPEST, FEWEST_ROOMS
+    }
+
+    /**
+     * @param cumulativeCents element d is the cost of the first d nights, so a segment from
+     *                        day a to day b costs cumulativeCents[b] - cumulativeCents[a]
+     * @param blockedDays     bit d set when the room is taken on day d
+     */
+    public record Candidate(int capacity, long[] cumulativeCents, long blockedDays) {
+
+        long cents(int fromDay, int toDay) {
+            return cumulativeCents[toDay] - cumulativeCents[fromDay];
+        }
+    }
+
+    /**
+     * @param rooms indexes into the candidate list
+     */
+    public record Segment(int fromDay, int toDay, int[] rooms, long totalCents) {
+    }
+
+    public record Plan(Objective objective, List<Segment> segments, long totalCents) {
+    }
+
+    /**
+     * @param complete false when the deadline cut the search short, so a split stay may be
+     *                 priced above the best one
+     */
+    public record Result(List<Plan> plans, boolean complete) {
+    }
+
+    private final List<Candidate> candidates;
+    private final int nights;
+    private final int guests;
+    private final long deadlineNanos;
+    private boolean complete = true;
+
+    public ItineraryPlanner(List<Candidate> candidates, int nights, int guests, long deadlineNanos) {
+        if (nights < 1 || nights > MAX_NIGHTS) {
+            throw new IllegalArgumentException("Nights must be between 1 and " + MAX_NIGHTS);
+        }
+        this.candidates = candidates;
+        this.nights = nights;
+        this.guests = guests;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public Result plan() {
+        List<Plan> plans = new ArrayList<>();
+        for (Objective objective : Objective.values()) {
+            Plan plan = plan(objective);
+            if (plan != null && plans.stream().noneMatch(other -> sameRooms(other, plan))) {
+                plans.add(plan);
+            }
+        }
+        return new Result(plans, complete);
+    }
+
+    private Plan plan(Objective objective) {
+        // Most searches are settled here by a single segment over the whole stay
+        Plan fallback = greedy(objective);
+        if (fallback == null || fallback.segments().size() == 1) {
+            return fallback;
+        }
+        int fewestMoves = fallback.segments().size();
+
+        // moves[b] and keys[b]: best way to cover days 0..b, ending with a segment that finishes on b
+        int[] moves = new int[nights + 1];
+        long[] keys = new long[nights + 1];
+        Segment[] last = new Segment[nights + 1];
+        int[] previous = new int[nights + 1];
+        Arrays.fill(moves, Integer.MAX_VALUE);
+        moves[0] = 0;
+        keys[0] = 0;
+
+        for (int to = 1; to <= nights; to++) {
+            for (int from = 0; from < to; from++) {
+                // No plan beats the greedy one's number of moves, so a path on its last
+                // allowed segment must finish the stay
+                if (moves[from] == Integer.MAX_VALUE || moves[from] + 1 > fewestMoves
+                        || (moves[from] + 1 == fewestMoves && to < nights)) {
+                    continue;
+                }
+                if (System.nanoTime() > deadlineNanos) {
+                    complete = false;
+                    return fallback;
+                }
+                Segment segment = cover(from, to, objective);
+                if (segment == null) {
+                    continue;
+                }
+                int candidateMoves = moves[from] + 1;
+                long candidateKey = keys[from] + key(objective, segment);
+                if (candidateMoves < moves[to] || (candidateMoves == moves[to] && candidateKey < keys[to])) {
+                    moves[to] = candidateMoves;
+                    keys[to] = candidateKey;
+                    last[to] = segment;
+                    previous[to] = from;
+                }
+            }
+        }
+        if (last[nights] == null) {
+            return fallback;
+        }
+
+        List<Segment> segments = new ArrayList<>();
+        long total = 0;
+        for (int day = nights; day > 0; day = previous[day]) {
+            segments.add(0, last[day]);
+            total += last[day].totalCents();
+        }
+        return new Plan(objective, segments, total);
+    }
+
+    /**
+     * Covers the stay with as few segments as possible, each running to the last day that
+     * still leaves the party a set of rooms, or returns null when some day has none. Rooms
+     * taken on day d are taken on every span that includes it, so the last such day is
+     * found by binary search.
+     */
+    private Plan greedy(Objective objective) {
+        List<Segment> segments = new ArrayList<>();
+        long total = 0;
+        for (int from = 0; from < nights; ) {
+            // The rest of the stay in one segment is the common case, so it is tried first
+            Segment longest = cover(from, nights, objective);
+            int low = from + 1;
+            int high = longest != null ? low - 1 : nights - 1;
+            while (low <= high) {
+                int to = (low + high) >>> 1;
+                Segment segment = cover(from, to, objective);
+                if (segment != null) {
+                    longest = segment;
+                    low = to + 1;
+                } else {
+                    high = to - 1;
+                }
+            }
+            if (longest == null) {
+                return null;
+            }
+            segments.add(longest);
+            total += longest.totalCents();
+            from = longest.toDay();
+        }
+        return new Plan(objective, segments, total);
+    }
+
+    /**
+     * Best set of rooms free from day from to day to whose capacity covers the party, or null.
+     */
+    private Segment cover(int from, int to, Objective objective) {
+        long span = ((1L << (to - from + 1)) - 1) << from;
+
+        List<Integer> free = new ArrayList<>();
+        int freeCapacity = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            if (candidate.capacity() > 0 && (candidate.blockedDays() & span) == 0) {
+                free.add(i);
+                freeCapacity += candidate.capacity();
+            }
+        }
+        if (freeCapacity < guests) {
+            return null;
+        }
+
+        // best[c]: lowest key for rooms sleeping c guests (c capped at the party size)
+        long[] best = new long[guests + 1];
+        Arrays.fill(best, UNREACHABLE);
+        best[0] = 0;
+        short[][] came = new short[free.size()][];
+        for (int item = 0; item < free.size(); item++) {
+            Candidate candidate = candidates.get(free.get(item));
+            long itemKey = objective == Objective.CHEAPEST
+                    ? candidate.cents(from, to)
+                    : ROOM_WEIGHT + candidate.cents(from, to);
+            short[] cameFrom = new short[guests + 1];
+            Arrays.fill(cameFrom, (short) -1);
+            for (int c = guests; c >= 0; c--) {
+                if (best[c] == UNREACHABLE) {
+                    continue;
+                }
+                int next = Math.min(guests, c + candidate.capacity());
+                long nextKey = best[c] + itemKey;
+                if (nextKey < best[next]) {
+                    best[next] = nextKey;
+                    cameFrom[next] = (short) c;
+                }
+            }
+            came[item] = cameFrom;
+        }
+        if (best[guests] == UNREACHABLE) {
+            return null;
+        }
+
+        List<Integer> chosen = new ArrayList<>();
+        long total = 0;
+        int c = guests;
+        for (int item = free.size() - 1; item >= 0 && c > 0; item--) {
+            if (came[item][c] >= 0) {
+                int index = free.get(item);
+                chosen.add(0, index);
+                total += candidates.get(index).cents(from, to);
+                c = came[item][c];
+            }
+        }
+        return new Segment(from, to, chosen.stream().mapToInt(Integer::intValue).toArray(), total);
+    }
+
+    private static long key(Objective objective, Segment segment) {
+        return objective == Objective.CHEAPEST
+                ? segment.totalCents()
+                : segment.rooms().length * ROOM_WEIGHT + segment.totalCents();
+    }
+
+    private static boolean sameRooms(Plan a, Plan b) {
+        if (a.segments().size() != b.segments().size()) {
+            return false;
+        }
+        for (int i = 0; i < a.segments().size(); i++) {
+            Segment x = a.segments().get(i);
+            Segment y = b.segments().get(i);
+            if (x.fromDay() != y.fromDay() || x.toDay() != y.toDay()
+                    || !Arrays.equals(Arrays.stream(x.rooms()).sorted().toArray(), Arrays.stream(y.rooms()).sorted().toArray())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,164 @@
+package edu.icet.hotel_management_system.util;
+
+import edu.icet.hotel_management_system.model.entity.PricingRule;
+import edu.icet.hotel_management_system.model.entity.enums.PricingRuleKind;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Pricing rules compiled into per-room-type arrays of nightly multipliers over a fixed
+ * horizon, stored as running sums so the multiplier total for any stay inside the horizon
+ * is a single subtraction. Nights outside the horizon are evaluated against the rules
+ * directly.
+ *
+ * Multipliers are fixed point with four decimals ({@link #ONE} is 1.0). Season,
+ * day-of-week and occupancy multipliers apply per night; the length-of-stay multiplier
+ * applies to the whole stay.
+ */
+public final class RateTable {
+
+    public static final long ONE = 10_000;
+
+    // Rules for room types that have none of their own
+    private static final String ANY_TYPE = "*";
+
+    // Among matching rules of one kind: highest priority, then room-type specific, then the
+    // higher threshold, then the newest
+    private static final Comparator<PricingRule> PRECEDENCE = Comparator
+            .comparingInt(PricingRule::getPriority).reversed()
+            .thenComparing(rule -> rule.getRoomType() == null)
+            .thenComparing(RateTable::threshold, Comparator.reverseOrder())
+            .thenComparing(PricingRule::getId, Comparator.nullsFirst(Comparator.reverseOrder()));
+
+    private final LocalDate firstNight;
+    private final int nights;
+    private final Map<String, List<PricingRule>> rulesByType = new HashMap<>();
+    private final Map<PricingRule, Set<DayOfWeek>> daysByRule = new IdentityHashMap<>();
+    // cumulative[i]: sum of the multipliers of the first i nights of the horizon
+    private final Map<String, long[]> cumulative = new HashMap<>();
+    private final LocalDateTime builtAt = LocalDateTime.now();
+
+    /**
+     * @param occupancyPercent occupancy of each night of the horizon, for occupancy rules
+     */
+    public RateTable(Collection<PricingRule> rules, LocalDate firstNight, int[] occupancyPercent) {
+        this.firstNight = firstNight;
+        this.nights = occupancyPercent.length;
+
+        rules.forEach(rule -> daysByRule.put(rule, parseDays(rule.getDaysOfWeek())));
+        List<PricingRule> generic = rules.stream().filter(rule -> rule.getRoomType() == null).toList();
+        rulesByType.put(ANY_TYPE, generic);
+        rules.stream()
+                .filter(rule -> rule.getRoomType() != null)
+                .map(rule -> key(rule.getRoomType()))
+                .distinct()
+                .forEach(type -> rulesByType.put(type, rules.stream()
+                        .filter(rule -> rule.getRoomType() == null || key(rule.getRoomType()).equals(type))
+                        .toList()));
+
+        rulesByType.forEach((type, typeRules) -> {
+            long[] sums = new long[nights + 1];
+            for (int i = 0; i < nights; i++) {
+                sums[i + 1] = sums[i] + multiplier(typeRules, firstNight.plusDays(i), occupancyPercent[i]);
+            }
+            cumulative.put(type, sums);
+        });
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * Sum of the nightly multipliers for the nights from checkIn up to, not including, checkOut.
+     */
+    public long nightlySum(String roomType, LocalDate checkIn, LocalDate checkOut) {
+        int from = (int) Math.max(0, Math.min(nights, checkIn.toEpochDay() - firstNight.toEpochDay()));
+        int to = (int) Math.max(0, Math.min(nights, checkOut.toEpochDay() - firstNight.toEpochDay()));
+        long[] sums = cumulative.getOrDefault(key(roomType), cumulative.get(ANY_TYPE));
+        long sum = sums[to] - sums[from];
+
+        // Nights before or after the horizon
+        LocalDate horizonEnd = firstNight.plusDays(nights);
+        for (LocalDate night = checkIn; night.isBefore(checkOut) && night.isBefore(firstNight); night = night.plusDays(1)) {
+            sum += multiplier(rules(roomType), night, 0);
+        }
+        for (LocalDate night = checkIn.isAfter(horizonEnd) ? checkIn : horizonEnd; night.isBefore(checkOut); night = night.plusDays(1)) {
+            sum += multiplier(rules(roomType), night, 0);
+        }
+        return sum;
+    }
+
+    public long nightly(String roomType, LocalDate night) {
+        return nightlySum(roomType, night, night.plusDays(1));
+    }
+
+    public long lengthOfStay(String roomType, int stayNights) {
+        PricingRule rule = best(rules(roomType), PricingRuleKind.LENGTH_OF_STAY,
+                candidate -> candidate.getMinNights() != null && candidate.getMinNights() <= stayNights);
+        return rule != null ? fixedPoint(rule) : ONE;
+    }
+
+    private List<PricingRule> rules(String roomType) {
+        return rulesByType.getOrDefault(key(roomType), rulesByType.get(ANY_TYPE));
+    }
+
+    private long multiplier(List<PricingRule> rules, LocalDate night, int occupancy) {
+        DayOfWeek dayOfWeek = night.getDayOfWeek();
+        PricingRule season = best(rules, PricingRuleKind.SEASON, rule -> rule.getStartDate() != null
+                && rule.getEndDate() != null && !night.isBefore(rule.getStartDate()) && !night.isAfter(rule.getEndDate()));
+        PricingRule weekday = best(rules, PricingRuleKind.DAY_OF_WEEK,
+                rule -> daysByRule.get(rule).contains(dayOfWeek));
+        PricingRule tier = best(rules, PricingRuleKind.OCCUPANCY,
+                rule -> rule.getMinOccupancyPercent() != null && rule.getMinOccupancyPercent() <= occupancy);
+
+        long multiplier = ONE;
+        for (PricingRule rule : new PricingRule[]{season, weekday, tier}) {
+            if (rule != null) {
+                multiplier = (multiplier * fixedPoint(rule) + ONE / 2) / ONE;
+            }
+        }
+        return multiplier;
+    }
+
+    private static PricingRule best(List<PricingRule> rules, PricingRuleKind kind, Predicate<PricingRule> matches) {
+        PricingRule best = null;
+        for (PricingRule rule : rules) {
+            if (rule.getKind() == kind && matches.test(rule) && (best == null || PRECEDENCE.compare(rule, best) < 0)) {
+                best = rule;
+            }
+        }
+        return best;
+    }
+
+    private static int threshold(PricingRule rule) {
+        if (rule.getMinNights() != null) {
+            return rule.getMinNights();
+        }
+        return rule.getMinOccupancyPercent() != null ? rule.getMinOccupancyPercent() : 0;
+    }
+
+    private static long fixedPoint(PricingRule rule) {
+        return rule.getMultiplier().movePointRight(4).longValue();
+    }
+
+    public static Set<DayOfWeek> parseDays(String daysOfWeek) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (daysOfWeek != null) {
+            for (String day : daysOfWeek.split(",")) {
+                if (!day.isBlank()) {
+                    days.add(DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)));
+                }
+            }
+        }
+        return days;
+    }
+
+    private static String key(String roomType) {
+        return roomType == null ? ANY_TYPE : roomType.trim().toLowerCase(Locale.ROOT);
+    }
+}
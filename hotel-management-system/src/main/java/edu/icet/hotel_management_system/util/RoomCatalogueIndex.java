@@ -0,0 +1,196 @@
+package edu.icet.hotel_management_system.util;
+
+import edu.icet.hotel_management_system.model.dto.RoomDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable inverted index over the room catalogue. Every amenity, type, price band and
+ * capacity band maps to a bitmap of room positions, so a faceted filter and its per-facet
+ * counts come down to a few BitSet operations rather than a query.
+ *
+ * Built from RoomDtos so matches can be returned as they are. The index is rebuilt
+ * wholesale when a room changes; a search keeps using whichever instance it started with.
+ */
+public final class RoomCatalogueIndex {
+
+    public static final String AMENITY = "amenity";
+    public static final String TYPE = "type";
+    public static final String PRICE_BAND = "priceBand";
+    public static final String CAPACITY = "capacity";
+
+    private final RoomDto[] rooms;
+    private final BitSet bookable = new BitSet();
+    private final Map<String, Facet> amenities = new TreeMap<>();
+    private final Map<String, Facet> types = new TreeMap<>();
+    private final Map<String, Facet> priceBands = new TreeMap<>();
+    private final Map<String, Facet> capacities = new TreeMap<>();
+    // atLeastGuests[n]: rooms taking n or more guests
+    private final BitSet[] atLeastGuests;
+    private final LocalDateTime builtAt = LocalDateTime.now();
+
+    private record Facet(String label, BitSet rooms) {
+    }
+
+    /**
+     * Filters are ANDed across fields. Within a field, amenities must all be present while
+     * types, price bands and capacity bands match any of the given values.
+     */
+    public record Query(Set<String> amenities, Set<String> types, Set<String> priceBands, Set<String> capacities,
+                        Integer minGuests, BigDecimal minPrice, BigDecimal maxPrice) {
+    }
+
+    public record Result(List<RoomDto> rooms, Map<String, Map<String, Integer>> facets) {
+    }
+
+    public RoomCatalogueIndex(Collection<RoomDto> catalogue) {
+        rooms = catalogue.stream()
+                .sorted(Comparator.comparing(RoomDto::getId))
+                .toArray(RoomDto[]::new);
+
+        int maxOccupancy = 0;
+        for (int position = 0; position < rooms.length; position++) {
+            RoomDto room = rooms[position];
+            if (room.isAvailable()) {
+                bookable.set(position);
+            }
+            if (room.getAmenities() != null) {
+                for (String amenity : room.getAmenities()) {
+                    index(amenities, amenity, position);
+                }
+            }
+            index(types, room.getType(), position);
+            index(priceBands, room.getPriceCategory(), position);
+            index(capacities, room.getCapacityCategory(), position);
+            maxOccupancy = Math.max(maxOccupancy, room.getMaxOccupancy());
+        }
+
+        atLeastGuests = new BitSet[maxOccupancy + 1];
+        for (int guests = maxOccupancy; guests >= 0; guests--) {
+            BitSet bitmap = guests == maxOccupancy ? new BitSet() : (BitSet) atLeastGuests[guests + 1].clone();
+            for (int position = 0; position < rooms.length; position++) {
+                if (rooms[position].getMaxOccupancy() == guests) {
+                    bitmap.set(position);
+                }
+            }
+            atLeastGuests[guests] = bitmap;
+        }
+    }
+
+    public int size() {
+        return rooms.length;
+    }
+
+    /**
+     * Rooms whose available flag is set, in id order.
+     */
+    public List<RoomDto> bookableRooms() {
+        List<RoomDto> result = new ArrayList<>(bookable.cardinality());
+        for (int position = bookable.nextSetBit(0); position >= 0; position = bookable.nextSetBit(position + 1)) {
+            result.add(rooms[position]);
+        }
+        return result;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * Matches bookable rooms against the query and counts every facet value. Counts for a
+     * multi-select field (type, price band, capacity) ignore that field's own selection, so
+     * they show what picking another value would give; amenity counts narrow the current
+     * result further.
+     *
+     * @param isFree room id test for the requested dates, or null when no dates were given
+     */
+    public Result search(Query query, LongPredicate isFree) {
+        BitSet base = (BitSet) bookable.clone();
+        for (String amenity : query.amenities()) {
+            base.and(bitmap(amenities, amenity));
+        }
+        if (query.minGuests() != null && query.minGuests() > 0) {
+            base.and(query.minGuests() < atLeastGuests.length ? atLeastGuests[query.minGuests()] : new BitSet());
+        }
+        if (query.minPrice() != null || query.maxPrice() != null || isFree != null) {
+            for (int position = base.nextSetBit(0); position >= 0; position = base.nextSetBit(position + 1)) {
+                RoomDto room = rooms[position];
+                if ((query.minPrice() != null && room.getPrice().compareTo(query.minPrice()) < 0)
+                        || (query.maxPrice() != null && room.getPrice().compareTo(query.maxPrice()) > 0)
+                        || (isFree != null && !isFree.test(room.getId()))) {
+                    base.clear(position);
+                }
+            }
+        }
+
+        BitSet typeFilter = anyOf(types, query.types());
+        BitSet priceBandFilter = anyOf(priceBands, query.priceBands());
+        BitSet capacityFilter = anyOf(capacities, query.capacities());
+
+        BitSet matched = intersect(base, typeFilter, priceBandFilter, capacityFilter);
+        List<RoomDto> matches = new ArrayList<>(matched.cardinality());
+        for (int position = matched.nextSetBit(0); position >= 0; position = matched.nextSetBit(position + 1)) {
+            matches.add(rooms[position]);
+        }
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        facets.put(AMENITY, counts(amenities, matched));
+        facets.put(TYPE, counts(types, intersect(base, null, priceBandFilter, capacityFilter)));
+        facets.put(PRICE_BAND, counts(priceBands, intersect(base, typeFilter, null, capacityFilter)));
+        facets.put(CAPACITY, counts(capacities, intersect(base, typeFilter, priceBandFilter, null)));
+        return new Result(matches, facets);
+    }
+
+    private static void index(Map<String, Facet> facets, String value, int position) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        facets.computeIfAbsent(key(value), k -> new Facet(value.trim(), new BitSet())).rooms().set(position);
+    }
+
+    private static BitSet bitmap(Map<String, Facet> facets, String value) {
+        Facet facet = facets.get(key(value));
+        return facet != null ? facet.rooms() : new BitSet();
+    }
+
+    // Null when nothing is selected, meaning no filter on that field
+    private static BitSet anyOf(Map<String, Facet> facets, Set<String> values) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        BitSet union = new BitSet();
+        for (String value : values) {
+            union.or(bitmap(facets, value));
+        }
+        return union;
+    }
+
+    private static BitSet intersect(BitSet base, BitSet... filters) {
+        BitSet result = (BitSet) base.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Integer> counts(Map<String, Facet> facets, BitSet within) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        BitSet scratch = new BitSet();
+        for (Facet facet : facets.values()) {
+            scratch.clear();
+            scratch.or(facet.rooms());
+            scratch.and(within);
+            counts.put(facet.label(), scratch.cardinality());
+        }
+        return counts;
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,165 @@
+package edu.icet.hotel_management_system.util;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stays that block a room, kept per room so date availability can be checked without a
+ * query. Uses the same inclusive overlap rule as RoomRepository.findAvailableRoomsForDates.
+ *
+ * Writers are serialised; readers see a copy-on-write view of each room's stays and never block.
+ */
+public class RoomStayCalendar {
+
+    // bookingId -> {roomId, checkIn epoch day, checkOut epoch day}
+    private final Map<Long, long[]> stays = new HashMap<>();
+    private final Map<Long, Map<Long, long[]>> staysByRoom = new HashMap<>();
+    // roomId -> packed {checkIn, checkOut} pairs
+    private volatile Map<Long, long[]> view;
+
+    public record Stay(long bookingId, long roomId, LocalDate checkIn, LocalDate checkOut) {
+    }
+
+    public RoomStayCalendar(Collection<Stay> initial) {
+        for (Stay stay : initial) {
+            long[] packed = {stay.roomId(), stay.checkIn().toEpochDay(), stay.checkOut().toEpochDay()};
+            stays.put(stay.bookingId(), packed);
+            staysByRoom.computeIfAbsent(stay.roomId(), id -> new HashMap<>()).put(stay.bookingId(), packed);
+        }
+        Map<Long, long[]> built = new HashMap<>();
+        staysByRoom.forEach((roomId, roomStays) -> built.put(roomId, pack(roomStays)));
+        view = built;
+    }
+
+    public synchronized void put(Stay update) {
+        long bookingId = update.bookingId();
+        long roomId = update.roomId();
+        long[] stay = {roomId, update.checkIn().toEpochDay(), update.checkOut().toEpochDay()};
+        long[] previous = stays.put(bookingId, stay);
+        Map<Long, long[]> changed = new HashMap<>(view);
+        if (previous != null && previous[0] != roomId) {
+            detach(bookingId, previous[0], changed);
+        }
+        staysByRoom.computeIfAbsent(roomId, id -> new HashMap<>()).put(bookingId, stay);
+        changed.put(roomId, pack(staysByRoom.get(roomId)));
+        view = changed;
+    }
+
+    public synchronized void remove(long bookingId) {
+        long[] previous = stays.remove(bookingId);
+        if (previous != null) {
+            Map<Long, long[]> changed = new HashMap<>(view);
+            detach(bookingId, previous[0], changed);
+            view = changed;
+        }
+    }
+
+    public synchronized int size() {
+        return stays.size();
+    }
+
+    public boolean isFree(long roomId, LocalDate checkIn, LocalDate checkOut) {
+        long[] roomStays = view.get(roomId);
+        if (roomStays == null) {
+            return true;
+        }
+        long from = checkIn.toEpochDay();
+        long to = checkOut.toEpochDay();
+        for (int i = 0; i < roomStays.length; i += 2) {
+            if (roomStays[i] <= to && roomStays[i + 1] >= from) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Bitmask of the days from the given date on (at most 64) on which the room is taken.
+     */
+    public long blockedDays(long roomId, LocalDate from, int days) {
+        long[] roomStays = view.get(roomId);
+        if (roomStays == null) {
+            return 0;
+        }
+        long first = from.toEpochDay();
+        long last = first + Math.min(days, 64) - 1;
+        long blocked = 0;
+        for (int i = 0; i < roomStays.length; i += 2) {
+            long start = Math.max(roomStays[i], first);
+            long end = Math.min(roomStays[i + 1], last);
+            for (long day = start; day <= end; day++) {
+                blocked |= 1L << (day - first);
+            }
+        }
+        return blocked;
+    }
+
+    /**
+     * For each of the given number of days from the given date on, how many consecutive days
+     * starting there the room is free, counting only days inside that window. A stay of N
+     * nights checking in on day d fits when the run at d is at least N + 1.
+     */
+    public int[] freeRuns(long roomId, LocalDate from, int days) {
+        int[] runs = new int[days];
+        long[] roomStays = view.get(roomId);
+        long first = from.toEpochDay();
+        if (roomStays != null) {
+            // Mark blocked days with -1, then fill in runs from the end
+            for (int i = 0; i < roomStays.length; i += 2) {
+                long start = Math.max(roomStays[i], first);
+                long end = Math.min(roomStays[i + 1], first + days - 1);
+                for (long day = start; day <= end; day++) {
+                    runs[(int) (day - first)] = -1;
+                }
+            }
+        }
+        int run = 0;
+        for (int day = days - 1; day >= 0; day--) {
+            run = runs[day] < 0 ? 0 : run + 1;
+            runs[day] = run;
+        }
+        return runs;
+    }
+
+    /**
+     * Rooms occupied on each of the given number of nights from the given date on, where a
+     * stay occupies the nights from check-in up to, not including, check-out.
+     */
+    public int[] occupiedRoomsPerNight(LocalDate from, int nights) {
+        int[] occupied = new int[nights];
+        long first = from.toEpochDay();
+        for (long[] roomStays : view.values()) {
+            for (int i = 0; i < roomStays.length; i += 2) {
+                long start = Math.max(roomStays[i], first);
+                long end = Math.min(roomStays[i + 1], first + nights);
+                for (long night = start; night < end; night++) {
+                    occupied[(int) (night - first)]++;
+                }
+            }
+        }
+        return occupied;
+    }
+
+    private void detach(long bookingId, long roomId, Map<Long, long[]> changed) {
+        Map<Long, long[]> roomStays = staysByRoom.get(roomId);
+        roomStays.remove(bookingId);
+        if (roomStays.isEmpty()) {
+            staysByRoom.remove(roomId);
+            changed.remove(roomId);
+        } else {
+            changed.put(roomId, pack(roomStays));
+        }
+    }
+
+    private static long[] pack(Map<Long, long[]> roomStays) {
+        long[] packed = new long[roomStays.size() * 2];
+        int i = 0;
+        for (long[] stay : roomStays.values()) {
+            packed[i++] = stay[1];
+            packed[i++] = stay[2];
+        }
+        return packed;
+    }
+}
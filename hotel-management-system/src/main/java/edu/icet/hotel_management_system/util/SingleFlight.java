@@ -0,0 +1,93 @@
+package edu.icet.hotel_management_system.util;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent calls: the first caller for a key runs the computation on its
+ * own thread and everyone who asks for that key meanwhile waits for and shares its result.
+ * The result keeps being handed out for a short time after it completes, which catches the
+ * callers that arrive just behind a burst. Failures are shared with the callers already waiting
+ * but never kept.
+ *
+ * Results are shared between callers, so they should be immutable.
+ */
+public class SingleFlight<K, V> {
+
+    // Expired entries are only swept once the map holds more keys than this
+    private static final int SWEEP_THRESHOLD = 256;
+
+    private final long ttlNanos;
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    public SingleFlight(Duration resultTtl) {
+        this.ttlNanos = resultTtl.toNanos();
+    }
+
+    public V execute(K key, Supplier<V> computation) {
+        while (true) {
+            Flight<V> flight = flights.get(key);
+            if (flight == null) {
+                Flight<V> started = new Flight<>();
+                flight = flights.putIfAbsent(key, started);
+                if (flight == null) {
+                    return run(key, started, computation);
+                }
+            }
+            if (flight.isExpired(System.nanoTime(), ttlNanos)) {
+                flights.remove(key, flight);
+                continue;
+            }
+            try {
+                return flight.result.join();
+            } catch (CompletionException e) {
+                throw unwrap(e);
+            }
+        }
+    }
+
+    private V run(K key, Flight<V> flight, Supplier<V> computation) {
+        if (flights.size() > SWEEP_THRESHOLD) {
+            long now = System.nanoTime();
+            flights.values().removeIf(other -> other.isExpired(now, ttlNanos));
+        }
+        V value;
+        try {
+            value = computation.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+        flight.completedAt = System.nanoTime();
+        flight.result.complete(value);
+        if (ttlNanos <= 0) {
+            flights.remove(key, flight);
+        }
+        return value;
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return e;
+    }
+
+    private static final class Flight<T> {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        volatile long completedAt;
+
+        boolean isExpired(long now, long ttlNanos) {
+            return result.isDone() && now - completedAt >= ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package edu.icet.hotel_management_system.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only dictionary that encodes strings as dense int codes.
+ * Codes never change once assigned, so readers can decode without locking.
+ */
+public class StringDictionary {
+
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[16];
+    private volatile int size;
+
+    public synchronized int encode(String value) {
+        Integer existing = codes.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        String[] current = values;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[size] = value;
+        values = current;
+        codes.put(value, size);
+        return size++;
+    }
+
+    /** Returns the code for a value, or -1 if it has never been encoded. */
+    public int codeOf(String value) {
+        Integer code = codes.get(value);
+        return code != null ? code : -1;
+    }
+
+    public String decode(int code) {
+        return values[code];
+    }
+
+    public int size() {
+        return size;
+    }
+}
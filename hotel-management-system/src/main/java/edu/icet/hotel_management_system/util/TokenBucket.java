@@ -0,0 +1,53 @@
+package edu.icet.hotel_management_system.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket: {@code requests} tokens per {@code period}, holding at most {@code burst}.
+ *
+ * Kept as the generic cell rate algorithm, which needs only the time the bucket will next be
+ * full: taking a token moves that time one emission interval on, and a token is available
+ * while it is no more than burst - 1 intervals ahead. One compare-and-set per request, no
+ * refill thread, and an exact wait to report when the bucket is empty.
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    // Theoretical arrival time of the next request, System.nanoTime() based
+    private final AtomicLong fullAt;
+
+    public TokenBucket(int requests, Duration period, int burst) {
+        if (requests <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("requests and burst must be positive");
+        }
+        this.intervalNanos = Math.max(1, period.toNanos() / requests);
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.fullAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @return 0 if the token was taken, otherwise the nanoseconds until one will be
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long base = current - nowNanos > 0 ? current : nowNanos;
+            long wait = base - toleranceNanos - nowNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    public long tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+}
@@ -0,0 +1,425 @@
+package edu.icet.hotel_management_system.util;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * In-memory trigram index over short documents such as a guest's name, email and phone,
+ * supporting prefix and typo-tolerant search.
+ *
+ * Each document is reduced to lowercase alphanumeric tokens. Trigrams of the
+ * boundary-padded tokens ("$john$") point at document ordinals through append-only
+ * posting lists. A query term is matched as a token prefix ("joh" finds "john") or
+ * within a small edit distance ("jonh" finds "john"): the postings narrow the candidates
+ * and every candidate is then checked against its stored tokens. A prefix match holds
+ * every trigram of the term, but one typo can destroy every trigram of a short term
+ * ("jphn"), so fuzzy candidates are counted by bigrams, read off the trigram postings.
+ *
+ * Removed and replaced documents leave tombstones that are dropped by
+ * {@link #compactIfNeeded()}. Searches may run concurrently with each other but not
+ * with writes; callers synchronise.
+ */
+public class TrigramIndex {
+
+    // '$' boundary, a-z, 0-9
+    private static final int ALPHABET = 37;
+    private static final int MAX_TERMS = 5;
+
+    private long[] keys = new long[1024];
+    private String[] tokens = new String[1024];
+    private int size;
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+
+    private final int[][] postings = new int[ALPHABET * ALPHABET * ALPHABET][];
+    private final int[] postingSizes = new int[ALPHABET * ALPHABET * ALPHABET];
+
+    // Per-thread scratch for candidate counting, so searches can run concurrently
+    private final ThreadLocal<int[]> matchCounts = ThreadLocal.withInitial(() -> new int[0]);
+    private final ThreadLocal<int[]> lastGrams = ThreadLocal.withInitial(() -> new int[0]);
+
+    public record Hit(long key, double score) {
+    }
+
+    public void put(long key, String... fields) {
+        remove(key);
+        add(key, tokenize(fields, true));
+    }
+
+    private void add(long key, String[] docTokens) {
+        if (docTokens.length == 0) {
+            return;
+        }
+
+        int ordinal = size++;
+        if (ordinal == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            tokens = Arrays.copyOf(tokens, capacity);
+        }
+        keys[ordinal] = key;
+        // Stored as one space-separated string; far cheaper than a String[] per document
+        tokens[ordinal] = String.join(" ", docTokens);
+        ordinals.put(key, ordinal);
+
+        Set<Integer> seen = new HashSet<>();
+        for (String token : docTokens) {
+            String padded = "$" + token + "$";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                int trigram = trigram(padded, i);
+                if (seen.add(trigram)) {
+                    addPosting(trigram, ordinal);
+                }
+            }
+        }
+    }
+
+    public boolean remove(long key) {
+        Integer ordinal = ordinals.remove(key);
+        if (ordinal == null) {
+            return false;
+        }
+        deleted.set(ordinal);
+        tokens[ordinal] = null;
+        deletedCount++;
+        return true;
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+
+    /**
+     * Rebuilds the postings without tombstones once they make up a quarter of the index.
+     */
+    public boolean compactIfNeeded() {
+        if (deletedCount == 0 || deletedCount * 4 < size) {
+            return false;
+        }
+        long[] oldKeys = keys;
+        String[] oldTokens = tokens;
+        int oldSize = size;
+
+        keys = new long[Math.max(1024, ordinals.size() * 2)];
+        tokens = new String[keys.length];
+        size = 0;
+        ordinals.clear();
+        deleted.clear();
+        deletedCount = 0;
+        Arrays.fill(postings, null);
+        Arrays.fill(postingSizes, 0);
+
+        for (int i = 0; i < oldSize; i++) {
+            if (oldTokens[i] != null) {
+                add(oldKeys[i], oldTokens[i].split(" "));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns up to limit documents matching every query term, best first. Typo-tolerant
+     * matching is only tried when exact and prefix matches do not fill the limit, which
+     * keeps short common prefixes ("07", "kam") from degenerating into a full scan.
+     */
+    public List<Hit> search(String query, int limit) {
+        String[] terms = tokenize(new String[]{query}, false);
+        terms = Arrays.stream(terms).filter(term -> term.length() >= 2).limit(MAX_TERMS).toArray(String[]::new);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        // The longest term has the most selective trigrams, so it drives candidate selection
+        String driver = Arrays.stream(terms).max(Comparator.comparingInt(String::length)).get();
+        List<Hit> hits = search(terms, driver, limit, false);
+        if (hits.size() < limit && maxEdits(driver) > 0) {
+            hits = search(terms, driver, limit, true);
+        }
+        return hits;
+    }
+
+    private List<Hit> search(String[] terms, String driver, int limit, boolean fuzzy) {
+        PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score)
+                .thenComparing(Hit::key, Comparator.reverseOrder()));
+
+        Candidates candidates = candidates(driver, fuzzy);
+        for (int i = 0; i < candidates.ordinals().length; i++) {
+            int missing = candidates.grams() - candidates.matched()[i];
+            if (missing > 0 && top.size() == limit) {
+                // Only fuzzy candidates miss grams, and every edit costs at most three bigrams;
+                // candidates come most-matched first, so once the best possible score drops
+                // below the current top-k nothing later can enter
+                double bound = 3 * (terms.length - 1) + 1.0 / (1 + (missing + 2) / 3);
+                if (bound < top.peek().score()) {
+                    break;
+                }
+            }
+            int ordinal = candidates.ordinals()[i];
+            String docTokens = tokens[ordinal];
+            if (docTokens == null) {
+                continue;
+            }
+            double score = 0;
+            for (String term : terms) {
+                double termScore = matchTerm(term, docTokens, fuzzy);
+                if (termScore == 0) {
+                    score = 0;
+                    break;
+                }
+                score += termScore;
+            }
+            if (score == 0) {
+                continue;
+            }
+            Hit hit = new Hit(keys[ordinal], score);
+            if (top.size() < limit) {
+                top.add(hit);
+            } else if (top.comparator().compare(hit, top.peek()) > 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(top.comparator().reversed());
+        return hits;
+    }
+
+    private Candidates candidates(String term, boolean fuzzy) {
+        String padded = "$" + term;
+        // Grams as trigram codes. A fuzzy search counts bigrams instead: every bigram of a stored
+        // token starts one of its trigrams, so a bigram's postings are those of its 37 trigrams
+        int width = fuzzy ? 2 : 3;
+        Set<Integer> distinct = new LinkedHashSet<>();
+        for (int i = 0; i + width <= padded.length(); i++) {
+            distinct.add(fuzzy ? trigram(padded.charAt(i), padded.charAt(i + 1), '$') : trigram(padded, i));
+        }
+        // A prefix match contains every trigram of "$term". Each edit destroys at most three
+        // bigrams (a transposition; other edits two), so a match within maxEdits keeps this many
+        int required = fuzzy ? distinct.size() - 3 * maxEdits(term) : distinct.size();
+
+        int[] counts = matchCounts.get();
+        int[] last = lastGrams.get();
+        if (counts.length < size) {
+            counts = new int[Math.max(size, counts.length * 2)];
+            matchCounts.set(counts);
+            last = new int[counts.length];
+            lastGrams.set(last);
+        }
+        int[] touched = new int[64];
+        int touchedCount = 0;
+        int[] found = new int[64];
+        int foundCount = 0;
+
+        int gram = 0;
+        for (int code : distinct) {
+            gram++;
+            for (int third = 0; third < (fuzzy ? ALPHABET : 1); third++) {
+                int[] list = postings[code + third];
+                if (list == null) {
+                    continue;
+                }
+                for (int p = 0, n = postingSizes[code + third]; p < n; p++) {
+                    int ordinal = list[p];
+                    // A token holding the bigram before several third characters counts once
+                    if (last[ordinal] == gram) {
+                        continue;
+                    }
+                    last[ordinal] = gram;
+                    if (counts[ordinal]++ == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = ordinal;
+                    }
+                    if (counts[ordinal] == required && !deleted.get(ordinal)) {
+                        if (foundCount == found.length) {
+                            found = Arrays.copyOf(found, foundCount * 2);
+                        }
+                        found[foundCount++] = ordinal;
+                    }
+                }
+            }
+            if (!fuzzy && postings[code] == null) {
+                break;
+            }
+        }
+        if (required <= 0) {
+            // A term of repeated characters ("aaaa") has too few distinct bigrams to filter on
+            foundCount = 0;
+            found = new int[size];
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (!deleted.get(ordinal)) {
+                    found[foundCount++] = ordinal;
+                }
+            }
+            required = 0;
+        }
+        // Order by matched grams, most first, keeping posting order within each count
+        int[] ordinals = new int[foundCount];
+        int[] matched = new int[foundCount];
+        int next = 0;
+        for (int count = distinct.size(); count >= required; count--) {
+            for (int i = 0; i < foundCount; i++) {
+                if (counts[found[i]] == count) {
+                    ordinals[next] = found[i];
+                    matched[next++] = count;
+                }
+            }
+        }
+        for (int i = 0; i < touchedCount; i++) {
+            counts[touched[i]] = 0;
+            last[touched[i]] = 0;
+        }
+        return new Candidates(ordinals, matched, distinct.size());
+    }
+
+    private record Candidates(int[] ordinals, int[] matched, int grams) {
+    }
+
+    // 3 for an exact token, 2 for a prefix, less for a fuzzy match, 0 for no match
+    private static double matchTerm(String term, String docTokens, boolean fuzzy) {
+        int maxEdits = fuzzy ? maxEdits(term) : 0;
+        double best = 0;
+        int start = 0;
+        while (start < docTokens.length()) {
+            int end = docTokens.indexOf(' ', start);
+            if (end < 0) {
+                end = docTokens.length();
+            }
+            int tokenLength = end - start;
+            if (docTokens.startsWith(term, start)) {
+                if (tokenLength == term.length()) {
+                    return 3;
+                }
+                best = Math.max(best, 2);
+            } else if (maxEdits > 0 && best < 0.5) {
+                // Distance 0 is a prefix match, so one edit is the best a fuzzy match can do
+                int distance = prefixDistance(term, docTokens, start, end, maxEdits);
+                if (distance <= maxEdits) {
+                    best = Math.max(best, 1.0 / (1 + distance));
+                }
+            }
+            start = end + 1;
+        }
+        return best;
+    }
+
+    private static int maxEdits(String term) {
+        return term.length() >= 7 ? 2 : term.length() >= 4 ? 1 : 0;
+    }
+
+    /**
+     * Smallest edit distance (with adjacent transpositions) between the term and any prefix
+     * of the token, or maxEdits + 1 if it exceeds maxEdits.
+     */
+    private static int prefixDistance(String term, String text, int from, int to, int maxEdits) {
+        int n = term.length();
+        int m = Math.min(to - from, n + maxEdits);
+        if (m < n - maxEdits) {
+            return maxEdits + 1;
+        }
+        int[] previous2 = new int[m + 1];
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            char a = term.charAt(i - 1);
+            for (int j = 1; j <= m; j++) {
+                char b = text.charAt(from + j - 1);
+                int cost = a == b ? 0 : 1;
+                int value = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a == text.charAt(from + j - 2) && term.charAt(i - 2) == b) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        // Any prefix of the token: best value in the last row
+        int best = maxEdits + 1;
+        for (int j = 0; j <= m; j++) {
+            best = Math.min(best, previous[j]);
+        }
+        return best;
+    }
+
+    private void addPosting(int trigram, int ordinal) {
+        int[] list = postings[trigram];
+        int n = postingSizes[trigram];
+        if (list == null) {
+            list = new int[4];
+        } else if (n == list.length) {
+            list = Arrays.copyOf(list, n + (n >> 1) + 1);
+        }
+        list[n] = ordinal;
+        postings[trigram] = list;
+        postingSizes[trigram] = n + 1;
+    }
+
+    private static int trigram(String s, int i) {
+        return trigram(s.charAt(i), s.charAt(i + 1), s.charAt(i + 2));
+    }
+
+    private static int trigram(char a, char b, char c) {
+        return (code(a) * ALPHABET + code(b)) * ALPHABET + code(c);
+    }
+
+    private static int code(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 1;
+        }
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 27;
+        }
+        return 0;
+    }
+
+    /**
+     * Lowercase ASCII alphanumeric tokens of the fields. For documents, a field with
+     * separators (an email or phone number) also yields its separators-removed form, so
+     * "077 123 4567" can be found by typing "0771234".
+     */
+    static String[] tokenize(String[] fields, boolean joinFields) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                continue;
+            }
+            String normalized = Normalizer.normalize(field, Normalizer.Form.NFD)
+                    .replaceAll("\\p{M}", "")
+                    .toLowerCase(Locale.ROOT);
+            StringBuilder joined = new StringBuilder();
+            StringBuilder token = new StringBuilder();
+            int parts = 0;
+            for (int i = 0; i <= normalized.length(); i++) {
+                char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+                if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                    token.append(c);
+                    joined.append(c);
+                } else if (token.length() > 0) {
+                    result.add(token.toString());
+                    token.setLength(0);
+                    parts++;
+                }
+            }
+            if (joinFields && parts > 1 && joined.length() <= 64) {
+                result.add(joined.toString());
+            }
+        }
+        return result.toArray(new String[0]);
+    }
+}
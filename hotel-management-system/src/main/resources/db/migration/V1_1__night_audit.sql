@@ -0,0 +1,40 @@
+-- Night audit runs, their occupancy snapshots and the scheduler leases that keep a job on
+-- one node. IF NOT EXISTS: databases created by ddl-auto=update after the night audit was
+-- added already have them (V2 then turns their ENUM columns into VARCHAR).
+
+CREATE TABLE IF NOT EXISTS night_audit_runs (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    business_date     DATE         NOT NULL,
+    status            VARCHAR(32)  NOT NULL,
+    phase             VARCHAR(32)  NOT NULL,
+    last_processed_id BIGINT       NOT NULL,
+    no_show_count     INTEGER      NOT NULL,
+    completed_count   INTEGER      NOT NULL,
+    owner             VARCHAR(255),
+    error_message     VARCHAR(255),
+    started_at        DATETIME(6),
+    finished_at       DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_night_audit_runs_business_date UNIQUE (business_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS occupancy_snapshots (
+    id             BIGINT        NOT NULL AUTO_INCREMENT,
+    business_date  DATE          NOT NULL,
+    total_rooms    BIGINT        NOT NULL,
+    occupied_rooms BIGINT        NOT NULL,
+    arrivals       BIGINT        NOT NULL,
+    departures     BIGINT        NOT NULL,
+    no_shows       BIGINT        NOT NULL,
+    occupancy_rate DECIMAL(5, 2),
+    created_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_occupancy_snapshots_business_date UNIQUE (business_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name        VARCHAR(100) NOT NULL,
+    owner       VARCHAR(255) NOT NULL,
+    lease_until DATETIME(6)  NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
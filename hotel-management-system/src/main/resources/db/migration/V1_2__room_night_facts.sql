@@ -0,0 +1,28 @@
+-- One row per booked room night for the occupancy, ADR and RevPAR reports, and the booking
+-- timestamps they are refreshed from. Databases created by ddl-auto=update after these were
+-- added already have them, so both steps only act when they are missing.
+
+CREATE TABLE IF NOT EXISTS room_night_fact (
+    id         BIGINT         NOT NULL AUTO_INCREMENT,
+    booking_id BIGINT         NOT NULL,
+    room_id    BIGINT         NOT NULL,
+    night      DATE           NOT NULL,
+    status     VARCHAR(20)    NOT NULL,
+    rate       DECIMAL(10, 2) NOT NULL,
+    room_type  VARCHAR(255)   NOT NULL,
+    booked_on  DATE           NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_rnf_booking_night UNIQUE (booking_id, night),
+    INDEX idx_rnf_night_type_status (night, room_type, status),
+    INDEX idx_rnf_booked_on_night (booked_on, night)
+) ENGINE = InnoDB;
+
+-- MySQL has no ADD COLUMN IF NOT EXISTS
+SET @add_booking_timestamps = IF(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'bookings' AND column_name = 'updated_at') = 0,
+    'ALTER TABLE bookings ADD COLUMN created_at DATETIME(6), ADD COLUMN updated_at DATETIME(6)',
+    'DO 0');
+PREPARE add_booking_timestamps FROM @add_booking_timestamps;
+EXECUTE add_booking_timestamps;
+DEALLOCATE PREPARE add_booking_timestamps;
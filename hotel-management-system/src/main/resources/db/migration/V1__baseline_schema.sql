@@ -0,0 +1,101 @@
+-- Baseline: the original schema Hibernate generated with ddl-auto=update before Flyway
+-- took over, except that enum columns are VARCHAR here where Hibernate made them native
+-- ENUMs (V2 converts those). Databases created that way are baselined at this version and
+-- start at V1.1; tables added since then are created by the migrations that follow.
+
+CREATE TABLE roles (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    first_name         VARCHAR(255) NOT NULL,
+    last_name          VARCHAR(255) NOT NULL,
+    email              VARCHAR(255) NOT NULL,
+    password           VARCHAR(255) NOT NULL,
+    phone              VARCHAR(255),
+    address            VARCHAR(255),
+    role               VARCHAR(32)  NOT NULL,
+    enabled            BIT          NOT NULL,
+    verification_token VARCHAR(255),
+    reset_token        VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE rooms (
+    id            BIGINT         NOT NULL AUTO_INCREMENT,
+    room_number   VARCHAR(255)   NOT NULL,
+    type          VARCHAR(255)   NOT NULL,
+    price         DECIMAL(10, 2) NOT NULL,
+    description   VARCHAR(1000),
+    max_occupancy INTEGER        NOT NULL,
+    available     BIT            NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_rooms_room_number UNIQUE (room_number)
+) ENGINE = InnoDB;
+
+CREATE TABLE room_amenities (
+    room_id BIGINT NOT NULL,
+    amenity VARCHAR(255),
+    CONSTRAINT fk_room_amenities_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE room_images (
+    id        BIGINT       NOT NULL AUTO_INCREMENT,
+    image_url VARCHAR(255) NOT NULL,
+    room_id   BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_room_images_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE bookings (
+    id               BIGINT         NOT NULL AUTO_INCREMENT,
+    check_in_date    DATE           NOT NULL,
+    check_out_date   DATE           NOT NULL,
+    number_of_guests INTEGER        NOT NULL,
+    special_requests VARCHAR(255),
+    total_price      DECIMAL(38, 2) NOT NULL,
+    status           VARCHAR(32)    NOT NULL,
+    user_id          BIGINT,
+    room_id          BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_bookings_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_bookings_room FOREIGN KEY (room_id) REFERENCES rooms (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE payments (
+    id                       BIGINT         NOT NULL AUTO_INCREMENT,
+    amount                   DECIMAL(38, 2) NOT NULL,
+    currency                 VARCHAR(255)   NOT NULL,
+    payment_date             DATETIME(6)    NOT NULL,
+    method                   VARCHAR(32)    NOT NULL,
+    status                   VARCHAR(32)    NOT NULL,
+    transaction_id           VARCHAR(255),
+    stripe_payment_intent_id VARCHAR(255),
+    client_secret            VARCHAR(255),
+    receipt_email            VARCHAR(255),
+    failure_reason           VARCHAR(255),
+    cash_received            DECIMAL(38, 2),
+    change_amount            DECIMAL(38, 2),
+    cashier_name             VARCHAR(255),
+    card_holder_name         VARCHAR(255),
+    card_last_four_digits    VARCHAR(255),
+    card_type                VARCHAR(255),
+    bank_name                VARCHAR(255),
+    account_number           VARCHAR(255),
+    reference_number         VARCHAR(255),
+    mobile_number            VARCHAR(255),
+    mobile_payment_provider  VARCHAR(255),
+    notes                    VARCHAR(255),
+    receipt_number           VARCHAR(255),
+    booking_id               BIGINT,
+    created_at               DATETIME(6),
+    updated_at               DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payments_booking UNIQUE (booking_id),
+    CONSTRAINT fk_payments_booking FOREIGN KEY (booking_id) REFERENCES bookings (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,11 @@
+-- Hibernate 6 created STRING enums as native MySQL ENUM columns, which reject any
+-- value added later (NO_SHOW, for one). Store them as plain strings instead.
+-- A no-op on databases created by these migrations.
+
+ALTER TABLE users MODIFY role VARCHAR(32) NOT NULL;
+ALTER TABLE bookings MODIFY status VARCHAR(32) NOT NULL;
+ALTER TABLE payments MODIFY method VARCHAR(32) NOT NULL;
+ALTER TABLE payments MODIFY status VARCHAR(32) NOT NULL;
+ALTER TABLE room_night_fact MODIFY status VARCHAR(20) NOT NULL;
+ALTER TABLE night_audit_runs MODIFY status VARCHAR(32) NOT NULL;
+ALTER TABLE night_audit_runs MODIFY phase VARCHAR(32) NOT NULL;
@@ -0,0 +1,29 @@
+-- Indexes for the repository queries on the request path and in scheduled jobs.
+-- payments(booking_id) is already covered by uk_payments_booking.
+
+-- Room availability: room_id = ? AND status IN (...) AND date overlap
+CREATE INDEX idx_bookings_room_status_dates ON bookings (room_id, status, check_in_date, check_out_date);
+-- findByUserId
+CREATE INDEX idx_bookings_user ON bookings (user_id);
+-- Date range search and arrival/departure counts
+CREATE INDEX idx_bookings_check_in ON bookings (check_in_date, status);
+CREATE INDEX idx_bookings_check_out ON bookings (check_out_date, status);
+-- Night audit: status = ? AND check_in_date / check_out_date <= ?
+CREATE INDEX idx_bookings_status_check_in ON bookings (status, check_in_date);
+CREATE INDEX idx_bookings_status_check_out ON bookings (status, check_out_date);
+-- Snapshot delta refresh
+CREATE INDEX idx_bookings_updated_at ON bookings (updated_at);
+
+-- Stripe webhooks and payment lookups
+CREATE INDEX idx_payments_stripe_intent ON payments (stripe_payment_intent_id);
+CREATE INDEX idx_payments_transaction ON payments (transaction_id);
+CREATE INDEX idx_payments_status ON payments (status);
+CREATE INDEX idx_payments_updated_at ON payments (updated_at);
+
+-- Email verification and password reset links
+CREATE INDEX idx_users_verification_token ON users (verification_token);
+CREATE INDEX idx_users_reset_token ON users (reset_token);
+CREATE INDEX idx_users_role ON users (role);
+
+CREATE INDEX idx_rooms_available_type ON rooms (available, type);
+CREATE INDEX idx_rooms_type ON rooms (type);
@@ -0,0 +1,28 @@
+-- Verification and reset tokens move to their own table, keyed by SHA-256 hash.
+
+CREATE TABLE user_tokens (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    token_hash VARCHAR(64) NOT NULL,
+    purpose    VARCHAR(32) NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_tokens_hash UNIQUE (token_hash),
+    CONSTRAINT fk_user_tokens_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    INDEX idx_user_tokens_user_purpose (user_id, purpose),
+    INDEX idx_user_tokens_expires_at (expires_at)
+) ENGINE = InnoDB;
+
+-- Carry over outstanding tokens so links already emailed keep working
+INSERT INTO user_tokens (token_hash, purpose, user_id, expires_at, created_at)
+SELECT SHA2(verification_token, 256), 'EMAIL_VERIFICATION', id, NOW(6) + INTERVAL 2 DAY, NOW(6)
+FROM users
+WHERE verification_token IS NOT NULL;
+
+INSERT INTO user_tokens (token_hash, purpose, user_id, expires_at, created_at)
+SELECT SHA2(reset_token, 256), 'PASSWORD_RESET', id, NOW(6) + INTERVAL 1 HOUR, NOW(6)
+FROM users
+WHERE reset_token IS NOT NULL;
+
+ALTER TABLE users DROP COLUMN verification_token, DROP COLUMN reset_token;
@@ -0,0 +1,17 @@
+-- Running user counts by role and enabled state, seeded from the current users.
+
+CREATE TABLE user_counters (
+    name          VARCHAR(64) NOT NULL,
+    counter_value BIGINT      NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+INSERT INTO user_counters (name, counter_value, updated_at)
+SELECT CONCAT('role:', role), COUNT(*), NOW(6) FROM users GROUP BY role;
+
+INSERT INTO user_counters (name, counter_value, updated_at)
+SELECT 'enabled', COUNT(*), NOW(6) FROM users WHERE enabled = TRUE;
+
+INSERT INTO user_counters (name, counter_value, updated_at)
+SELECT 'active_customers', COUNT(*), NOW(6) FROM users WHERE enabled = TRUE AND role = 'USER';
@@ -0,0 +1,20 @@
+-- Rate rules for the pricing engine. With no rules, every night costs the room's base price.
+
+CREATE TABLE pricing_rules (
+    id                    BIGINT        NOT NULL AUTO_INCREMENT,
+    name                  VARCHAR(100)  NOT NULL,
+    kind                  VARCHAR(32)   NOT NULL,
+    room_type             VARCHAR(255),
+    start_date            DATE,
+    end_date              DATE,
+    days_of_week          VARCHAR(64),
+    min_nights            INT,
+    min_occupancy_percent INT,
+    multiplier            DECIMAL(6, 4) NOT NULL,
+    priority              INT           NOT NULL DEFAULT 0,
+    active                BOOLEAN       NOT NULL DEFAULT TRUE,
+    created_at            DATETIME(6)   NOT NULL,
+    updated_at            DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_pricing_rules_active (active)
+) ENGINE = InnoDB;
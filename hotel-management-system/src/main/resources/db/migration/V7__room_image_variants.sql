@@ -0,0 +1,16 @@
+-- Content-addressed room images with resized variants generated in the background.
+-- Images uploaded before this have no hash or variants and are served as they are.
+
+ALTER TABLE room_images
+    ADD COLUMN content_hash  VARCHAR(64),
+    ADD COLUMN content_type  VARCHAR(32),
+    ADD COLUMN size_bytes    BIGINT,
+    ADD COLUMN status        VARCHAR(16)  NOT NULL DEFAULT 'READY',
+    ADD COLUMN thumbnail_url VARCHAR(255),
+    ADD COLUMN card_url      VARCHAR(255),
+    ADD COLUMN full_url      VARCHAR(255);
+
+-- Shared files are only deleted once no image refers to them
+CREATE INDEX idx_room_images_content_hash ON room_images (content_hash);
+-- Variant retry sweep
+CREATE INDEX idx_room_images_status ON room_images (status);
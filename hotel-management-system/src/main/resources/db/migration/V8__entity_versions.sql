@@ -0,0 +1,15 @@
+-- Versions for conditional GETs (ETags) and optimistic locking, plus change counters
+-- for collections whose ETag has to cover inserts and deletes too.
+
+ALTER TABLE rooms ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE bookings ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE change_counters (
+    name          VARCHAR(64) NOT NULL,
+    counter_value BIGINT      NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+INSERT INTO change_counters (name, counter_value, updated_at) VALUES ('rooms', 0, NOW(6));
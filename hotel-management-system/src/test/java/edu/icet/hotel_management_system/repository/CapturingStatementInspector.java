@@ -0,0 +1,29 @@
+package edu.icet.hotel_management_system.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records every statement Hibernate prepares, so tests can inspect the SQL a repository
+ * method actually sends. Hibernate instantiates it by class name, hence the static list.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    static void clear() {
+        statements.clear();
+    }
+
+    static List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+}
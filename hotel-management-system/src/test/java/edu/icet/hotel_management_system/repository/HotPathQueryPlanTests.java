@@ -0,0 +1,171 @@
+package edu.icet.hotel_management_system.repository;
+
+import edu.icet.hotel_management_system.model.entity.enums.BookingStatus;
+import edu.icet.hotel_management_system.model.entity.enums.TokenPurpose;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs EXPLAIN on the SQL the hot repository queries generate, as captured from Hibernate,
+ * against the migrated schema and fails unless MySQL actually chooses one of the indexes built for the query, rather
+ * than scanning the table in full.
+ *
+ * On near-empty tables the optimizer scans whatever indexes exist, so a thousand bookings
+ * (with users, rooms, payments and tokens) are seeded first, dated after the queried range
+ * as live data mostly is. The seed is rolled back with the test's transaction; InnoDB's row
+ * estimates already see uncommitted rows.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "edu.icet.hotel_management_system.repository.CapturingStatementInspector")
+@Transactional
+class HotPathQueryPlanTests {
+
+    private static final String SEQUENCE =
+            "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000) ";
+
+    private static final LocalDate DATE = LocalDate.of(2030, 1, 1);
+    private static final Set<String> KEYWORDS = Set.of("where", "set", "on", "join", "left", "inner", "limit", "order", "group");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserTokenRepository userTokenRepository;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("INSERT INTO users (first_name, last_name, email, password, role, enabled, version) "
+                + SEQUENCE + "SELECT 'Plan', 'Test', CONCAT('plan-test-', n, '@example.test'), 'x', 'USER', TRUE, 0 FROM seq");
+        jdbcTemplate.update("INSERT INTO rooms (room_number, type, price, max_occupancy, available, version) "
+                + SEQUENCE + "SELECT CONCAT('plan-test-', n), 'STANDARD', 100, 2, TRUE, 0 FROM seq WHERE n <= 50");
+        jdbcTemplate.update("INSERT INTO bookings (check_in_date, check_out_date, number_of_guests, special_requests, "
+                + "total_price, status, user_id, room_id, created_at, updated_at, version) "
+                + SEQUENCE + "SELECT DATE '2030-06-01' + INTERVAL n % 365 DAY, DATE '2030-06-03' + INTERVAL n % 365 DAY, "
+                + "2, 'plan-test', 200, ELT(1 + n % 4, 'PENDING', 'CONFIRMED', 'COMPLETED', 'CANCELLED'), "
+                + "(SELECT MIN(id) FROM users WHERE email LIKE 'plan-test-%') + n - 1, "
+                + "(SELECT MIN(id) FROM rooms WHERE room_number LIKE 'plan-test-%') + n % 50, NOW(6), NOW(6), 0 FROM seq");
+        jdbcTemplate.update("INSERT INTO payments (amount, currency, payment_date, method, status, "
+                + "stripe_payment_intent_id, transaction_id, booking_id, created_at, updated_at) "
+                + "SELECT 200, 'USD', NOW(6), 'STRIPE', 'COMPLETED', CONCAT('pi_plan_test_', id), "
+                + "CONCAT('plan-test-', id), id, NOW(6), NOW(6) FROM bookings WHERE special_requests = 'plan-test'");
+        jdbcTemplate.update("INSERT INTO user_tokens (token_hash, purpose, user_id, expires_at, created_at) "
+                + "SELECT SHA2(email, 256), 'PASSWORD_RESET', id, DATE '2030-06-01' + INTERVAL id % 100 DAY, NOW(6) "
+                + "FROM users WHERE email LIKE 'plan-test-%'");
+    }
+
+    // Calls each repository method the way its caller does. Arguments are listed in the order
+    // of the placeholders in the generated SQL, enums as the strings Hibernate binds.
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                // Either probed per room or materialized once by date range
+                Arguments.of("RoomRepository.findAvailableRoomsForDates", "bookings",
+                        List.of("idx_bookings_room_status_dates", "idx_bookings_check_in", "idx_bookings_status_check_in"),
+                        call(test -> test.roomRepository.findAvailableRoomsForDates(DATE, DATE.plusDays(4))),
+                        List.of(DATE.plusDays(4), DATE)),
+                Arguments.of("BookingRepository.findByUserId", "bookings", List.of("idx_bookings_user"),
+                        call(test -> test.bookingRepository.findByUserId(1L)),
+                        List.of(1L)),
+                // NightAuditServiceImpl looks for bookings still PENDING on the business date
+                Arguments.of("BookingRepository.findIdsByStatusCheckingInBy", "bookings", List.of("idx_bookings_status_check_in"),
+                        call(test -> test.bookingRepository.findIdsByStatusCheckingInBy(
+                                BookingStatus.PENDING, DATE, 0L, PageRequest.of(0, 500))),
+                        List.of("PENDING", DATE, 0L, 500)),
+                // Date and status are both equality matches, so the two indexes cost the same
+                Arguments.of("BookingRepository.countByCheckInDateAndStatusIn", "bookings",
+                        List.of("idx_bookings_check_in", "idx_bookings_status_check_in"),
+                        call(test -> test.bookingRepository.countByCheckInDateAndStatusIn(
+                                DATE, EnumSet.of(BookingStatus.CONFIRMED, BookingStatus.COMPLETED))),
+                        List.of(DATE, "CONFIRMED", "COMPLETED")),
+                Arguments.of("PaymentRepository.findByBookingId", "payments", List.of("uk_payments_booking"),
+                        call(test -> test.paymentRepository.findByBookingId(1L)),
+                        List.of(1L)),
+                Arguments.of("PaymentRepository.findByStripePaymentIntentId", "payments", List.of("idx_payments_stripe_intent"),
+                        call(test -> test.paymentRepository.findByStripePaymentIntentId("pi_test")),
+                        List.of("pi_test")),
+                Arguments.of("UserTokenRepository.findWithUserByTokenHash", "user_tokens", List.of("uk_user_tokens_hash"),
+                        call(test -> test.userTokenRepository.findWithUserByTokenHash("hash", TokenPurpose.PASSWORD_RESET)),
+                        List.of("hash", "PASSWORD_RESET")),
+                Arguments.of("UserTokenRepository.deleteExpired", "user_tokens", List.of("idx_user_tokens_expires_at"),
+                        call(test -> test.userTokenRepository.deleteExpired(DATE.atStartOfDay(), 5000)),
+                        List.of(DATE.atStartOfDay(), 5000))
+        );
+    }
+
+    private static Consumer<HotPathQueryPlanTests> call(Consumer<HotPathQueryPlanTests> call) {
+        return call;
+    }
+
+    // The first statement reading the table is the query itself; later ones load associations
+    private static String capturedSql(String query, String table) {
+        Pattern reads = Pattern.compile("(?i)\\b(from|join)\\s+" + table + "\\b");
+        List<String> statements = CapturingStatementInspector.statements();
+        return statements.stream()
+                .filter(sql -> reads.matcher(sql).find())
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(query + " sent no statement on " + table + ": " + statements));
+    }
+
+    // EXPLAIN names each row after the alias Hibernate gave the table, or the table if it has none
+    private static Set<String> names(String sql, String table) {
+        Set<String> names = new HashSet<>(Set.of(table));
+        Matcher alias = Pattern.compile("(?i)\\b" + table + "\\s+(\\w+)").matcher(sql);
+        while (alias.find()) {
+            if (!KEYWORDS.contains(alias.group(1).toLowerCase())) {
+                names.add(alias.group(1));
+            }
+        }
+        return names;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesItsIndex(String query, String table, List<String> expectedIndexes,
+                              Consumer<HotPathQueryPlanTests> call, List<Object> args) {
+        CapturingStatementInspector.clear();
+        call.accept(this);
+        String sql = capturedSql(query, table);
+        assertEquals(args.size(), sql.chars().filter(c -> c == '?').count(), query + ": arguments don't match " + sql);
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args.toArray());
+
+        Set<String> names = names(sql, table);
+        List<Map<String, Object>> rows = plan.stream()
+                .filter(row -> names.contains(row.get("table")))
+                .toList();
+        assertFalse(rows.isEmpty(), query + ": table " + table + " missing from plan " + plan);
+
+        for (Map<String, Object> row : rows) {
+            assertNotEquals("ALL", row.get("type"), query + " scans " + table + " in full: " + row);
+            assertTrue(expectedIndexes.contains(row.get("key")),
+                    query + " uses " + row.get("key") + " instead of " + expectedIndexes + ": " + row);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package edu.icet.hotel_management_system.service.impl;
+
+import edu.icet.hotel_management_system.service.BlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link BlobStore} must share, so image uploads, downloads and cleanup work
+ * the same whichever store is configured. Each store runs it through a subclass.
+ */
+abstract class BlobStoreContractTests {
+
+    @TempDir
+    Path uploads;
+
+    private BlobStore store;
+
+    abstract BlobStore createStore() throws IOException;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = createStore();
+    }
+
+    private Path upload(String content) throws IOException {
+        return Files.writeString(Files.createTempFile(uploads, "upload-", ".tmp"), content);
+    }
+
+    private void put(String key, String content) throws IOException {
+        store.put(key, upload(content), "text/plain");
+    }
+
+    private String read(String key, long offset, long length) throws IOException {
+        try (InputStream in = store.open(key, offset, length)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void storedBlobCanBeReadBack() throws IOException {
+        put("rooms/originals/a.jpg", "0123456789");
+
+        assertEquals("0123456789", read("rooms/originals/a.jpg", 0, 10));
+        assertEquals(OptionalLong.of(10), store.size("rooms/originals/a.jpg"));
+        BlobStore.Blob blob = store.stat("rooms/originals/a.jpg").orElseThrow();
+        assertEquals("rooms/originals/a.jpg", blob.key());
+        assertEquals(10, blob.size());
+        assertNotNull(blob.lastModified());
+    }
+
+    @Test
+    void putConsumesTheSourceFile() throws IOException {
+        Path source = upload("content");
+
+        store.put("rooms/originals/a.jpg", source, "image/jpeg");
+
+        assertFalse(Files.exists(source));
+    }
+
+    @Test
+    void putReplacesTheExistingBlob() throws IOException {
+        put("rooms/originals/a.jpg", "first version");
+        put("rooms/originals/a.jpg", "second");
+
+        assertEquals("second", read("rooms/originals/a.jpg", 0, 6));
+        assertEquals(OptionalLong.of(6), store.size("rooms/originals/a.jpg"));
+    }
+
+    @Test
+    void openReadsTheRequestedRange() throws IOException {
+        put("rooms/originals/a.jpg", "0123456789");
+
+        assertEquals("345", read("rooms/originals/a.jpg", 3, 3));
+        assertEquals("789", read("rooms/originals/a.jpg", 7, 3));
+        assertEquals("", read("rooms/originals/a.jpg", 4, 0));
+    }
+
+    @Test
+    void missingBlobs() throws IOException {
+        assertThrows(NoSuchFileException.class, () -> store.open("rooms/originals/missing.jpg", 0, 1));
+        assertEquals(OptionalLong.empty(), store.size("rooms/originals/missing.jpg"));
+        assertEquals(Optional.empty(), store.stat("rooms/originals/missing.jpg"));
+    }
+
+    @Test
+    void deleteRemovesTheBlobAndIgnoresMissingOnes() throws IOException {
+        put("rooms/originals/a.jpg", "content");
+
+        store.delete("rooms/originals/a.jpg");
+        store.delete("rooms/originals/a.jpg");
+
+        assertEquals(Optional.empty(), store.stat("rooms/originals/a.jpg"));
+        assertTrue(store.list("rooms/originals", null, 10).blobs().isEmpty());
+    }
+
+    @Test
+    void listingPagesThroughOneDirectory() throws IOException {
+        Set<String> expected = new HashSet<>();
+        for (int i = 0; i < 25; i++) {
+            put("rooms/originals/" + i + ".jpg", "image " + i);
+            expected.add("rooms/originals/" + i + ".jpg");
+        }
+        put("rooms/thumbnails/0.jpg", "thumbnail");
+
+        List<String> listed = new ArrayList<>();
+        String cursor = null;
+        do {
+            BlobStore.Listing page = store.list("rooms/originals", cursor, 10);
+            assertTrue(page.blobs().size() <= 10, "page larger than the limit");
+            for (BlobStore.Blob blob : page.blobs()) {
+                listed.add(blob.key());
+                assertEquals(store.size(blob.key()).getAsLong(), blob.size());
+            }
+            cursor = page.cursor();
+        } while (cursor != null);
+
+        assertEquals(expected.size(), listed.size(), "blob listed twice: " + listed);
+        assertEquals(expected, new HashSet<>(listed));
+    }
+
+    @Test
+    void listingAnEmptyDirectory() throws IOException {
+        BlobStore.Listing listing = store.list("rooms/originals", null, 10);
+
+        assertTrue(listing.blobs().isEmpty());
+        assertNull(listing.cursor());
+    }
+
+    @Test
+    void localPathHoldsTheBlob() throws IOException {
+        put("rooms/originals/a.jpg", "content");
+
+        Optional<Path> path = store.localPath("rooms/originals/a.jpg");
+        if (path.isPresent()) {
+            assertEquals("content", Files.readString(path.get()));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package edu.icet.hotel_management_system.service.impl;
+
+import edu.icet.hotel_management_system.service.BlobStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocalBlobStoreTests extends BlobStoreContractTests {
+
+    @TempDir
+    Path root;
+
+    @Override
+    BlobStore createStore() {
+        return new LocalBlobStore(root);
+    }
+
+    @Test
+    void rejectsKeysOutsideTheRoot() {
+        LocalBlobStore store = new LocalBlobStore(root);
+
+        assertThrows(IllegalArgumentException.class, () -> store.path("../../etc/passwd"));
+        assertThrows(IllegalArgumentException.class, () -> store.path("rooms/originals/.blob-1.part"));
+        assertThrows(IllegalArgumentException.class, () -> store.list("../outside", null, 10));
+    }
+}
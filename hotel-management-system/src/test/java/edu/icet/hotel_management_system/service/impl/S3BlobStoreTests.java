@@ -0,0 +1,122 @@
+package edu.icet.hotel_management_system.service.impl;
+
+import edu.icet.hotel_management_system.service.BlobStore;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Runs the contract against an in-memory S3Client that answers the calls S3BlobStore makes
+ * the way S3 does, including a bare 404 for HEAD on a missing key. Keys carry a prefix so
+ * its stripping is covered too.
+ */
+class S3BlobStoreTests extends BlobStoreContractTests {
+
+    @Override
+    BlobStore createStore() {
+        return new S3BlobStore(new InMemoryS3Client(), "hotel-test", "hotel/");
+    }
+
+    private record StoredObject(byte[] content, String contentType, Instant lastModified) {
+    }
+
+    private static final class InMemoryS3Client implements S3Client {
+
+        private final NavigableMap<String, StoredObject> objects = new ConcurrentSkipListMap<>();
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                objects.put(request.key(), new StoredObject(in.readAllBytes(), request.contentType(), Instant.now()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return PutObjectResponse.builder().build();
+        }
+
+        @Override
+        public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+            StoredObject object = objects.get(request.key());
+            if (object == null) {
+                throw NoSuchKeyException.builder().statusCode(404).message("The specified key does not exist.").build();
+            }
+            // "bytes=first-last", clamped to the object as S3 does
+            String[] range = request.range().substring("bytes=".length()).split("-");
+            int first = Integer.parseInt(range[0]);
+            int last = Math.min(Integer.parseInt(range[1]), object.content().length - 1);
+            byte[] content = Arrays.copyOfRange(object.content(), first, last + 1);
+            return new ResponseInputStream<>(GetObjectResponse.builder().contentLength((long) content.length).build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(content)));
+        }
+
+        @Override
+        public HeadObjectResponse headObject(HeadObjectRequest request) {
+            StoredObject object = objects.get(request.key());
+            if (object == null) {
+                throw S3Exception.builder().statusCode(404).build();
+            }
+            return HeadObjectResponse.builder()
+                    .contentLength((long) object.content().length)
+                    .contentType(object.contentType())
+                    .lastModified(object.lastModified())
+                    .build();
+        }
+
+        @Override
+        public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        }
+
+        // Continuation tokens are the last key returned, which S3 leaves opaque
+        @Override
+        public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+            NavigableMap<String, StoredObject> candidates = request.continuationToken() == null
+                    ? objects.tailMap(request.prefix(), true)
+                    : objects.tailMap(request.continuationToken(), false);
+            List<S3Object> contents = new ArrayList<>();
+            boolean truncated = false;
+            for (var entry : candidates.entrySet()) {
+                if (!entry.getKey().startsWith(request.prefix())) {
+                    break;
+                }
+                if (contents.size() == request.maxKeys()) {
+                    truncated = true;
+                    break;
+                }
+                contents.add(S3Object.builder()
+                        .key(entry.getKey())
+                        .size((long) entry.getValue().content().length)
+                        .lastModified(entry.getValue().lastModified())
+                        .build());
+            }
+            return ListObjectsV2Response.builder()
+                    .contents(contents)
+                    .isTruncated(truncated)
+                    .nextContinuationToken(truncated ? contents.get(contents.size() - 1).key() : null)
+                    .build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package edu.icet.hotel_management_system.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItineraryPlannerTests {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final long EXPIRED = Long.MIN_VALUE;
+
+    private static ItineraryPlanner.Candidate room(int capacity, long nightlyCents, int nights, int... blockedDays) {
+        long[] cumulative = new long[nights + 1];
+        for (int d = 1; d <= nights; d++) {
+            cumulative[d] = cumulative[d - 1] + nightlyCents;
+        }
+        long blocked = 0;
+        for (int day : blockedDays) {
+            blocked |= 1L << day;
+        }
+        return new ItineraryPlanner.Candidate(capacity, cumulative, blocked);
+    }
+
+    private static ItineraryPlanner.Plan plan(ItineraryPlanner.Result result, ItineraryPlanner.Objective objective) {
+        return result.plans().stream()
+                .filter(plan -> plan.objective() == objective)
+                .findFirst()
+                // Dropped as a duplicate of the other objective's plan
+                .orElse(result.plans().get(0));
+    }
+
+    private static int[] sorted(int[] rooms) {
+        return Arrays.stream(rooms).sorted().toArray();
+    }
+
+    // Every segment must follow on from the last, sleep the party and use rooms free on all its days
+    private static void assertValid(ItineraryPlanner.Plan plan, List<ItineraryPlanner.Candidate> rooms,
+                                    int nights, int guests) {
+        int day = 0;
+        long total = 0;
+        for (ItineraryPlanner.Segment segment : plan.segments()) {
+            assertEquals(day, segment.fromDay());
+            assertTrue(segment.toDay() > segment.fromDay());
+            long span = ((1L << (segment.toDay() - segment.fromDay() + 1)) - 1) << segment.fromDay();
+            int capacity = 0;
+            long cents = 0;
+            for (int index : segment.rooms()) {
+                ItineraryPlanner.Candidate room = rooms.get(index);
+                assertEquals(0, room.blockedDays() & span, "room " + index + " is taken during " + segment);
+                capacity += room.capacity();
+                cents += room.cents(segment.fromDay(), segment.toDay());
+            }
+            assertTrue(capacity >= guests, "segment sleeps " + capacity + " of " + guests);
+            assertEquals(cents, segment.totalCents());
+            total += cents;
+            day = segment.toDay();
+        }
+        assertEquals(nights, day);
+        assertEquals(total, plan.totalCents());
+    }
+
+    @Test
+    void cheapestAndFewestRoomsDiffer() {
+        List<ItineraryPlanner.Candidate> rooms = List.of(
+                room(4, 40_000, 3),
+                room(2, 10_000, 3),
+                room(2, 10_000, 3));
+
+        ItineraryPlanner.Result result = new ItineraryPlanner(rooms, 3, 4, NO_DEADLINE).plan();
+
+        assertTrue(result.complete());
+        assertEquals(2, result.plans().size());
+        ItineraryPlanner.Plan cheapest = plan(result, ItineraryPlanner.Objective.CHEAPEST);
+        assertArrayEquals(new int[]{1, 2}, sorted(cheapest.segments().get(0).rooms()));
+        assertEquals(60_000, cheapest.totalCents());
+        ItineraryPlanner.Plan fewest = plan(result, ItineraryPlanner.Objective.FEWEST_ROOMS);
+        assertArrayEquals(new int[]{0}, fewest.segments().get(0).rooms());
+        assertEquals(120_000, fewest.totalCents());
+    }
+
+    @Test
+    void identicalPlansAreReturnedOnce() {
+        List<ItineraryPlanner.Candidate> rooms = List.of(room(2, 10_000, 2), room(2, 20_000, 2));
+
+        ItineraryPlanner.Result result = new ItineraryPlanner(rooms, 2, 2, NO_DEADLINE).plan();
+
+        assertEquals(1, result.plans().size());
+        assertArrayEquals(new int[]{0}, result.plans().get(0).segments().get(0).rooms());
+    }
+
+    @Test
+    void movesThePartyWhenNoRoomIsFreeForTheWholeStay() {
+        // Room 0 is taken from day 4 on, room 1 until day 1, so the party moves on day 2 or 3
+        List<ItineraryPlanner.Candidate> rooms = List.of(
+                room(2, 10_000, 5, 4, 5),
+                room(2, 10_000, 5, 0, 1));
+
+        ItineraryPlanner.Result result = new ItineraryPlanner(rooms, 5, 2, NO_DEADLINE).plan();
+
+        ItineraryPlanner.Plan plan = result.plans().get(0);
+        assertValid(plan, rooms, 5, 2);
+        assertEquals(2, plan.segments().size());
+        assertArrayEquals(new int[]{0}, plan.segments().get(0).rooms());
+        assertArrayEquals(new int[]{1}, plan.segments().get(1).rooms());
+    }
+
+    @Test
+    void fewerMovesBeatALowerPrice() {
+        // Rooms 0-2 are cheap but cover the stay only with moves on days 2 and 4; rooms 3 and 4
+        // cover it with a single move on day 3
+        List<ItineraryPlanner.Candidate> rooms = List.of(
+                room(2, 1_000, 6, 3, 4, 5, 6),
+                room(2, 1_000, 6, 0, 1, 5, 6),
+                room(2, 1_000, 6, 0, 1, 2, 3),
+                room(2, 9_000, 6, 4, 5, 6),
+                room(2, 9_000, 6, 0, 1, 2));
+
+        ItineraryPlanner.Result result = new ItineraryPlanner(rooms, 6, 2, NO_DEADLINE).plan();
+
+        ItineraryPlanner.Plan cheapest = plan(result, ItineraryPlanner.Objective.CHEAPEST);
+        assertValid(cheapest, rooms, 6, 2);
+        assertEquals(2, cheapest.segments().size());
+        assertEquals(54_000, cheapest.totalCents());
+    }
+
+    @Test
+    void noPlanWhenSomeNightCannotSleepTheParty() {
+        List<ItineraryPlanner.Candidate> rooms = List.of(
+                room(2, 10_000, 3, 2),
+                room(2, 10_000, 3, 1, 2));
+
+        ItineraryPlanner.Result result = new ItineraryPlanner(rooms, 3, 3, NO_DEADLINE).plan();
+
+        assertTrue(result.plans().isEmpty());
+        assertTrue(result.complete());
+    }
+
+    @Test
+    void expiredDeadlineStillReturnsASplitStay() {
+        List<ItineraryPlanner.Candidate> rooms = List.of(
+                room(2, 10_000, 5, 4, 5),
+                room(2, 10_000, 5, 0, 1));
+
+        ItineraryPlanner.Result result = new ItineraryPlanner(rooms, 5, 2, EXPIRED).plan();
+
+        assertFalse(result.complete());
+        assertFalse(result.plans().isEmpty());
+        assertValid(result.plans().get(0), rooms, 5, 2);
+    }
+
+    @Test
+    void thousandRoomProperty() {
+        Random random = new Random(7);
+        int nights = 30;
+        List<ItineraryPlanner.Candidate> rooms = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            // One contiguous stay per room, so few rooms are free for the whole month
+            int start = random.nextInt(nights + 1);
+            int length = 5 + random.nextInt(20);
+            int[] blocked = new int[Math.min(length, nights + 1 - start)];
+            for (int d = 0; d < blocked.length; d++) {
+                blocked[d] = start + d;
+            }
+            rooms.add(room(1 + random.nextInt(4), 5_000 + random.nextInt(20_000), nights, blocked));
+        }
+
+        for (long deadline : new long[]{NO_DEADLINE, EXPIRED}) {
+            ItineraryPlanner.Result result = new ItineraryPlanner(rooms, nights, 50, deadline).plan();
+
+            assertEquals(deadline == NO_DEADLINE, result.complete());
+            assertFalse(result.plans().isEmpty());
+            for (ItineraryPlanner.Plan plan : result.plans()) {
+                assertValid(plan, rooms, nights, 50);
+            }
+        }
+    }
+}
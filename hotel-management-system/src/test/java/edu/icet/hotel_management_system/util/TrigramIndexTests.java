@@ -0,0 +1,115 @@
+package edu.icet.hotel_management_system.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTests {
+
+    private static List<Long> keys(List<TrigramIndex.Hit> hits) {
+        return hits.stream().map(TrigramIndex.Hit::key).toList();
+    }
+
+    @Test
+    void exactMatchesRankAbovePrefixMatches() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "Johnson Perera", "johnson@example.com");
+        index.put(2, "John Silva", "silva@example.com");
+        index.put(3, "Kamal Fernando", "kamal@example.com");
+
+        assertEquals(List.of(2L, 1L), keys(index.search("john", 10)));
+        assertEquals(List.of(1L, 2L), keys(index.search("joh", 10)));
+    }
+
+    // One edit may destroy every trigram of a short term, as a transposition or substitution does here
+    @ParameterizedTest
+    @CsvSource({"jhon", "jonh", "jphn", "johm", "jojhn", "silav", "slva", "sliva"})
+    void findsTermsOneEditAway(String query) {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "John Silva");
+        index.put(2, "Kamal Fernando");
+
+        assertEquals(List.of(1L), keys(index.search(query, 10)));
+    }
+
+    @Test
+    void findsLongTermsTwoEditsAway() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "Nimal Samarawickrama");
+        index.put(2, "Sunil Samarasinghe");
+
+        assertEquals(List.of(1L), keys(index.search("samrawikcrama", 10)));
+        assertEquals(List.of(1L), keys(index.search("smaarawickrmaa", 10)));
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "John Silva");
+        index.put(2, "John Perera");
+
+        assertEquals(List.of(2L), keys(index.search("jhon perera", 10)));
+    }
+
+    @Test
+    void findsPhoneNumbersWithoutSeparators() {
+        TrigramIndex index = new TrigramIndex();
+        index.put(1, "John Silva", "077 123 4567");
+
+        assertEquals(List.of(1L), keys(index.search("0771234", 10)));
+    }
+
+    @Test
+    void dropsRemovedDocumentsAndSurvivesCompaction() {
+        TrigramIndex index = new TrigramIndex();
+        for (long key = 1; key <= 8; key++) {
+            index.put(key, "Guest" + key + " Silva");
+        }
+        for (long key = 1; key <= 4; key++) {
+            index.remove(key);
+        }
+        index.put(9, "John Silva");
+
+        assertTrue(index.compactIfNeeded());
+        assertEquals(5, index.size());
+        assertEquals(List.of(9L), keys(index.search("jhon", 10)));
+        assertEquals(5, index.search("silva", 10).size());
+    }
+
+    // Every single edit of a stored token must still find its document, whatever else is indexed
+    @Test
+    void singleEditsAlwaysFindTheirDocument() {
+        Random random = new Random(42);
+        String letters = "abcdefghijklmnopqrstuvwxyz";
+        TrigramIndex index = new TrigramIndex();
+        String[] names = new String[2000];
+        for (int key = 0; key < names.length; key++) {
+            StringBuilder name = new StringBuilder();
+            for (int i = 0, length = 4 + random.nextInt(6); i < length; i++) {
+                name.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            names[key] = name.toString();
+            index.put(key, names[key]);
+        }
+
+        for (int key = 0; key < names.length; key++) {
+            String name = names[key];
+            int at = random.nextInt(name.length() - 1);
+            char other = letters.charAt(random.nextInt(letters.length()));
+            String typo = switch (key % 4) {
+                case 0 -> name.substring(0, at) + name.charAt(at + 1) + name.charAt(at) + name.substring(at + 2);
+                case 1 -> name.substring(0, at) + other + name.substring(at + 1);
+                case 2 -> name.substring(0, at) + other + name.substring(at);
+                default -> name.length() > 4 ? name.substring(0, at) + name.substring(at + 1) : name;
+            };
+            List<Long> found = keys(index.search(typo, names.length));
+            assertTrue(found.contains((long) key), () -> typo + " did not find " + name);
+        }
+    }
+}